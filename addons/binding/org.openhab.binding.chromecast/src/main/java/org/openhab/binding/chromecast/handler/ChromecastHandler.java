@@ -28,13 +28,13 @@ import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
+import org.eclipse.smarthome.core.types.State;
 import org.openhab.binding.chromecast.ChromecastBindingConstants;
+import org.openhab.binding.chromecast.internal.ChromecastConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import su.litvak.chromecast.api.v2.Application;
 import su.litvak.chromecast.api.v2.ChromeCast;
-import su.litvak.chromecast.api.v2.ChromeCastSpontaneousEvent;
-import su.litvak.chromecast.api.v2.ChromeCastSpontaneousEventListener;
 import su.litvak.chromecast.api.v2.MediaStatus;
 import su.litvak.chromecast.api.v2.MediaStatus.IdleReason;
 import su.litvak.chromecast.api.v2.MediaStatus.PlayerState;
@@ -45,21 +45,26 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * The {@link ChromecastHandler} is responsible for handling commands, which are
  * sent to one of the channels. It furthermore implements {@link AudioSink} support.
  *
+ * The connection to the Chromecast is shared with all other things of the same
+ * receiver, see {@link ChromecastConnection}. Channels are only updated, if their
+ * state has changed.
+ *
  * @author Markus Rathgeb - Original author
  * @author Kai Kreuzer - Initial contribution as openHAB add-on
  * @author Daniel Walters - Online status fix, handle playuri channel and refactor play media code
  *
  */
-public class ChromecastHandler extends BaseThingHandler implements ChromeCastSpontaneousEventListener, AudioSink {
+public class ChromecastHandler extends BaseThingHandler implements ChromecastConnection.Listener, AudioSink {
 
     private static final String MEDIA_PLAYER = "CC1AD845";
 
@@ -77,12 +82,15 @@ public class ChromecastHandler extends BaseThingHandler implements ChromeCastSpo
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private AudioHTTPServer audioHTTPServer;
+    private ChromecastConnection connection;
     private ChromeCast chromecast;
-    private ScheduledFuture<?> futureConnect;
     private PercentType volume;
     private String callbackUrl;
     private String appSessionId;
 
+    // Last state sent to each channel
+    private final Map<String, State> channelStates = new ConcurrentHashMap<>();
+
     /**
      * Constructor.
      *
@@ -97,46 +105,20 @@ public class ChromecastHandler extends BaseThingHandler implements ChromeCastSpo
     }
 
     private void createChromecast(final String address, final int port) {
-        try {
-            logger.debug("Connecting to Chromecast: {} {}", address, port);
-            chromecast = new ChromeCast(address, port);
-            chromecast.registerListener(this);
-        } catch (Exception e) {
-            logger.warn("An error occurred", e);
-        }
+        connection = ChromecastConnection.acquire(address, port, this);
+        chromecast = connection.getChromecast();
     }
 
     private void destroyChromecast() {
-        chromecast.unregisterListener(this);
-        try {
-            chromecast.disconnect();
-        } catch (final IOException ex) {
-            logger.debug("Disconnect failed: {}", ex.getMessage());
-        }
+        connection.release(this);
+        connection = null;
         chromecast = null;
-    }
-
-    private void scheduleConnect(final boolean immediate) {
-        final long delay = immediate ? 0 : 10;
-        if (futureConnect != null) {
-            futureConnect.cancel(true);
-            futureConnect = null;
-        }
-        futureConnect = scheduler.schedule(() -> {
-            try {
-                chromecast.connect();
-                // assume device is online as we no longer get notified
-                updateStatus(ThingStatus.ONLINE);
-            } catch (final Exception e) {
-                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.COMMUNICATION_ERROR, e.getMessage());
-                scheduleConnect(false);
-            }
-        }, delay, TimeUnit.SECONDS);
+        channelStates.clear();
     }
 
     @Override
     public void dispose() {
-        if (chromecast != null) {
+        if (connection != null) {
             destroyChromecast();
         }
     }
@@ -168,22 +150,23 @@ public class ChromecastHandler extends BaseThingHandler implements ChromeCastSpo
             port = 8009;
         }
 
-        if (chromecast != null && (!chromecast.getAddress().equals(host) || (chromecast.getPort() != port))) {
+        if (connection != null && (!connection.getAddress().equals(host) || (connection.getPort() != port))) {
             destroyChromecast();
         }
-        if (chromecast == null) {
+        if (connection == null) {
             createChromecast(host, port);
         }
-
-        scheduleConnect(true);
     }
 
     @Override
     public void handleCommand(final ChannelUID channelUID, final Command command) {
-        if (chromecast == null) {
+        if (connection == null) {
             return;
         }
 
+        // The item may have been set to a state the device has not reported, so the next state is always sent
+        channelStates.remove(channelUID.getId());
+
         if (command instanceof RefreshType) {
             handleRefresh();
             return;
@@ -209,24 +192,12 @@ public class ChromecastHandler extends BaseThingHandler implements ChromeCastSpo
     }
 
     private void handleRefresh() {
-        Status status;
         try {
-            status = chromecast.getStatus();
+            connection.refresh(this);
             updateStatus(ThingStatus.ONLINE);
         } catch (IOException ex) {
             logger.debug("Failed to request status: {}", ex.getMessage());
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, ex.getMessage());
-            return;
-        }
-
-        try {
-            if (status.getRunningApp() != null) {
-                chromecast.getMediaStatus();
-            }
-
-        } catch (IOException ex) {
-            logger.debug("Failed to request media status with a running app: {}", ex.getMessage());
-            // We were just able to request status, so let's not put the device OFFLINE.
         }
     }
 
@@ -244,7 +215,7 @@ public class ChromecastHandler extends BaseThingHandler implements ChromeCastSpo
                 return;
             }
 
-            Application app = chromecast.getRunningApp();
+            Application app = connection.getRunningApp();
             updateStatus(ThingStatus.ONLINE);
             if (app == null) {
                 logger.debug("{} command ignored because media player app is not running", command);
@@ -304,7 +275,7 @@ public class ChromecastHandler extends BaseThingHandler implements ChromeCastSpo
     private void scheduleStopApp() {
         scheduler.schedule(() -> {
             try {
-                Application app = chromecast.getRunningApp();
+                Application app = connection.getRunningApp();
                 if (app.id.equals(MEDIA_PLAYER) && this.appSessionId != null
                         && app.sessionId.equals(this.appSessionId)) {
                     chromecast.stopApp();
@@ -333,13 +304,11 @@ public class ChromecastHandler extends BaseThingHandler implements ChromeCastSpo
                     scheduleStopApp();
                 }
             case PAUSED:
-                updateState(new ChannelUID(getThing().getUID(), ChromecastBindingConstants.CHANNEL_CONTROL),
-                        PlayPauseType.PAUSE);
+                updateChannel(ChromecastBindingConstants.CHANNEL_CONTROL, PlayPauseType.PAUSE);
                 break;
             case BUFFERING:
             case PLAYING:
-                updateState(new ChannelUID(getThing().getUID(), ChromecastBindingConstants.CHANNEL_CONTROL),
-                        PlayPauseType.PLAY);
+                updateChannel(ChromecastBindingConstants.CHANNEL_CONTROL, PlayPauseType.PLAY);
                 break;
             default:
                 break;
@@ -347,34 +316,42 @@ public class ChromecastHandler extends BaseThingHandler implements ChromeCastSpo
     }
 
     private void handleCcVolume(final Volume volume) {
+        if (volume == null) {
+            return;
+        }
         PercentType value = new PercentType((int) (volume.level * 100));
-        updateState(new ChannelUID(getThing().getUID(), ChromecastBindingConstants.CHANNEL_VOLUME), value);
+        updateChannel(ChromecastBindingConstants.CHANNEL_VOLUME, value);
         this.volume = value;
-        updateState(new ChannelUID(getThing().getUID(), ChromecastBindingConstants.CHANNEL_MUTE),
-                volume.muted ? OnOffType.ON : OnOffType.OFF);
+        updateChannel(ChromecastBindingConstants.CHANNEL_MUTE, volume.muted ? OnOffType.ON : OnOffType.OFF);
     }
 
-    @Override
-    public void spontaneousEventReceived(final ChromeCastSpontaneousEvent event) {
-        switch (event.getType()) {
-            case MEDIA_STATUS:
-                final MediaStatus mediaStatus = event.getData(MediaStatus.class);
-                handleCcMediaStatus(mediaStatus);
-                break;
-            case STATUS:
-                final Status status = event.getData(Status.class);
-                handleCcStatus(status);
-                break;
-            case UNKNOWN:
-                logger.debug("Received an 'UNKNOWN' event (class={})", event.getType().getDataClass());
-                break;
-            default:
-                logger.debug("Unhandled event type: {}", event.getData());
-                break;
+    private void updateChannel(final String channelId, final State state) {
+        if (!state.equals(channelStates.put(channelId, state))) {
+            updateState(new ChannelUID(getThing().getUID(), channelId), state);
+        }
+    }
 
+    @Override
+    public void connectionStateChanged(final boolean connected, final String message) {
+        if (connected) {
+            updateStatus(ThingStatus.ONLINE);
+        } else {
+            // Send all states again after the connection has been established again
+            channelStates.clear();
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, message);
         }
     }
 
+    @Override
+    public void statusReceived(final Status status) {
+        handleCcStatus(status);
+    }
+
+    @Override
+    public void mediaStatusReceived(final MediaStatus mediaStatus) {
+        handleCcMediaStatus(mediaStatus);
+    }
+
     @Override
     public String getId() {
         return getThing().getUID().toString();
@@ -0,0 +1,335 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.chromecast.internal;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import su.litvak.chromecast.api.v2.Application;
+import su.litvak.chromecast.api.v2.ChromeCast;
+import su.litvak.chromecast.api.v2.ChromeCastConnectionEvent;
+import su.litvak.chromecast.api.v2.ChromeCastConnectionEventListener;
+import su.litvak.chromecast.api.v2.ChromeCastSpontaneousEvent;
+import su.litvak.chromecast.api.v2.ChromeCastSpontaneousEventListener;
+import su.litvak.chromecast.api.v2.MediaStatus;
+import su.litvak.chromecast.api.v2.Status;
+
+/**
+ * The {@link ChromecastConnection} is the connection to one Chromecast receiver, i.e. one host and port. All thing
+ * handlers configured for the same receiver share the connection: the receiver is connected only once, its events are
+ * passed to every handler and the latest {@link Status} and {@link MediaStatus} are cached, so a handler which is
+ * added later or refreshes its channels doesn't have to query the receiver again.
+ *
+ * An audio group is a receiver of its own with a separate port on the host of one of its members, so it has its own
+ * connection.
+ *
+ * @author agent - Initial contribution
+ */
+public class ChromecastConnection implements ChromeCastSpontaneousEventListener, ChromeCastConnectionEventListener {
+
+    /**
+     * Receives the state of the Chromecast receiver.
+     */
+    public interface Listener {
+        /**
+         * Called when the connection has been established or lost.
+         *
+         * @param connected true if the receiver is connected
+         * @param message the reason, if the receiver is not connected
+         */
+        void connectionStateChanged(boolean connected, String message);
+
+        /**
+         * Called when a receiver status has been received.
+         */
+        void statusReceived(Status status);
+
+        /**
+         * Called when a media status has been received.
+         */
+        void mediaStatusReceived(MediaStatus mediaStatus);
+    }
+
+    // Delay in seconds before connecting again after a failed connection
+    private static final long RECONNECT_DELAY = 10;
+
+    // A refresh is answered from the cache, if the status is not older than that
+    private static final long MAX_STATUS_AGE_MS = 5000;
+
+    private static final Map<String, ChromecastConnection> CONNECTIONS = new HashMap<>();
+
+    private final Logger logger = LoggerFactory.getLogger(ChromecastConnection.class);
+
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("thingHandler");
+
+    private final String key;
+    private final ChromeCast chromecast;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    // Guarded by this
+    private ScheduledFuture<?> futureConnect;
+    private boolean closed;
+
+    private volatile boolean connected;
+    private volatile Status status;
+    private volatile MediaStatus mediaStatus;
+    private volatile long statusTime;
+
+    // Serializes the status queries of a refresh
+    private final Object refreshLock = new Object();
+
+    private ChromecastConnection(String key, String host, int port) {
+        this.key = key;
+        this.chromecast = new ChromeCast(host, port);
+    }
+
+    /**
+     * Adds a listener to the connection of a receiver. The connection is created and connected, if it's the first
+     * listener, otherwise the cached state is passed to the listener.
+     *
+     * @param host host of the receiver
+     * @param port port of the receiver
+     * @param listener receives the state of the receiver
+     * @return the connection
+     */
+    public static ChromecastConnection acquire(String host, int port, Listener listener) {
+        final String key = host + ":" + port;
+        final ChromecastConnection connection;
+        synchronized (CONNECTIONS) {
+            ChromecastConnection existing = CONNECTIONS.get(key);
+            if (existing == null) {
+                connection = new ChromecastConnection(key, host, port);
+                CONNECTIONS.put(key, connection);
+                connection.open();
+            } else {
+                connection = existing;
+                connection.logger.debug("Sharing connection to Chromecast {}", key);
+            }
+            connection.listeners.add(listener);
+        }
+
+        if (connection.connected) {
+            connection.sendCachedState(listener);
+        }
+        return connection;
+    }
+
+    /**
+     * Removes a listener. The connection is closed after the last listener has been removed.
+     */
+    public void release(Listener listener) {
+        synchronized (CONNECTIONS) {
+            listeners.remove(listener);
+            if (listeners.isEmpty()) {
+                CONNECTIONS.remove(key);
+                close();
+            }
+        }
+    }
+
+    public String getAddress() {
+        return chromecast.getAddress();
+    }
+
+    public int getPort() {
+        return chromecast.getPort();
+    }
+
+    /**
+     * Returns the Chromecast for sending commands to the receiver.
+     */
+    public ChromeCast getChromecast() {
+        return chromecast;
+    }
+
+    /**
+     * Returns the running application. The receiver sends a status to all connected senders whenever an application
+     * is started or stopped, so the cached status is used, if there is one.
+     */
+    public Application getRunningApp() throws IOException {
+        final Status currentStatus = status;
+        if (currentStatus != null) {
+            return currentStatus.getRunningApp();
+        }
+        return chromecast.getRunningApp();
+    }
+
+    /**
+     * Passes the current status and media status to the listener. The receiver is only asked for its status, if the
+     * cached status is older than 5 seconds, and then the status is passed to all listeners.
+     */
+    public void refresh(Listener listener) throws IOException {
+        synchronized (refreshLock) {
+            if (status != null && System.currentTimeMillis() - statusTime < MAX_STATUS_AGE_MS) {
+                sendCachedState(listener);
+                return;
+            }
+
+            queryStatus();
+        }
+    }
+
+    private void queryStatus() throws IOException {
+        synchronized (refreshLock) {
+            final Status newStatus = chromecast.getStatus();
+            handleStatus(newStatus);
+
+            if (newStatus.getRunningApp() != null) {
+                try {
+                    final MediaStatus newMediaStatus = chromecast.getMediaStatus();
+                    if (newMediaStatus != null) {
+                        handleMediaStatus(newMediaStatus);
+                    }
+                } catch (IOException ex) {
+                    logger.debug("Failed to request media status with a running app: {}", ex.getMessage());
+                    // We were just able to request status, so let's not put the device OFFLINE.
+                }
+            }
+        }
+    }
+
+    private synchronized void open() {
+        chromecast.registerListener(this);
+        chromecast.registerConnectionListener(this);
+        scheduleConnect(true);
+    }
+
+    private synchronized void close() {
+        closed = true;
+        if (futureConnect != null) {
+            futureConnect.cancel(true);
+            futureConnect = null;
+        }
+        chromecast.unregisterListener(this);
+        chromecast.unregisterConnectionListener(this);
+        try {
+            chromecast.disconnect();
+        } catch (final IOException ex) {
+            logger.debug("Disconnect failed: {}", ex.getMessage());
+        }
+        connected = false;
+        status = null;
+        mediaStatus = null;
+    }
+
+    private synchronized void scheduleConnect(final boolean immediate) {
+        if (closed) {
+            return;
+        }
+        final long delay = immediate ? 0 : RECONNECT_DELAY;
+        if (futureConnect != null) {
+            futureConnect.cancel(false);
+            futureConnect = null;
+        }
+        futureConnect = scheduler.schedule(this::connect, delay, TimeUnit.SECONDS);
+    }
+
+    private void connect() {
+        try {
+            logger.debug("Connecting to Chromecast: {}", key);
+            chromecast.connect();
+        } catch (final Exception e) {
+            setDisconnected(e.getMessage());
+            scheduleConnect(false);
+            return;
+        }
+
+        // assume device is online as we no longer get notified
+        connected = true;
+        for (Listener listener : listeners) {
+            listener.connectionStateChanged(true, null);
+        }
+
+        try {
+            queryStatus();
+        } catch (final IOException ex) {
+            logger.debug("Failed to request status: {}", ex.getMessage());
+        }
+    }
+
+    private void setDisconnected(String message) {
+        connected = false;
+        status = null;
+        mediaStatus = null;
+        for (Listener listener : listeners) {
+            listener.connectionStateChanged(false, message);
+        }
+    }
+
+    private void sendCachedState(Listener listener) {
+        final Status currentStatus = status;
+        final MediaStatus currentMediaStatus = mediaStatus;
+        listener.connectionStateChanged(true, null);
+        if (currentStatus != null) {
+            listener.statusReceived(currentStatus);
+        }
+        if (currentMediaStatus != null) {
+            listener.mediaStatusReceived(currentMediaStatus);
+        }
+    }
+
+    private void handleStatus(final Status newStatus) {
+        status = newStatus;
+        statusTime = System.currentTimeMillis();
+        if (newStatus.getRunningApp() == null) {
+            mediaStatus = null;
+        }
+        for (Listener listener : listeners) {
+            listener.statusReceived(newStatus);
+        }
+    }
+
+    private void handleMediaStatus(final MediaStatus newMediaStatus) {
+        mediaStatus = newMediaStatus;
+        for (Listener listener : listeners) {
+            listener.mediaStatusReceived(newMediaStatus);
+        }
+    }
+
+    @Override
+    public void spontaneousEventReceived(final ChromeCastSpontaneousEvent event) {
+        switch (event.getType()) {
+            case MEDIA_STATUS:
+                handleMediaStatus(event.getData(MediaStatus.class));
+                break;
+            case STATUS:
+                handleStatus(event.getData(Status.class));
+                break;
+            case UNKNOWN:
+                logger.debug("Received an 'UNKNOWN' event (class={})", event.getType().getDataClass());
+                break;
+            default:
+                logger.debug("Unhandled event type: {}", event.getData());
+                break;
+        }
+    }
+
+    @Override
+    public void connectionEventReceived(final ChromeCastConnectionEvent event) {
+        synchronized (this) {
+            if (closed || event.isConnected()) {
+                return;
+            }
+        }
+
+        logger.debug("Connection to Chromecast {} lost", key);
+        setDisconnected("Connection lost");
+        scheduleConnect(false);
+    }
+}
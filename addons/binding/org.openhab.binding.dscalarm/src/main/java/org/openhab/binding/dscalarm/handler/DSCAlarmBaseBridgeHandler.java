@@ -10,14 +10,21 @@ package org.openhab.binding.dscalarm.handler;
 
 import static org.openhab.binding.dscalarm.DSCAlarmBindingConstants.*;
 
-import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.thing.Bridge;
@@ -25,10 +32,9 @@ import org.eclipse.smarthome.core.thing.ChannelUID;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
-import org.openhab.binding.dscalarm.config.DSCAlarmPartitionConfiguration;
-import org.openhab.binding.dscalarm.config.DSCAlarmZoneConfiguration;
 import org.openhab.binding.dscalarm.internal.DSCAlarmCode;
 import org.openhab.binding.dscalarm.internal.DSCAlarmEvent;
 import org.openhab.binding.dscalarm.internal.DSCAlarmMessage;
@@ -85,6 +91,22 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
 
     private ScheduledFuture<?> pollingTask;
 
+    /** Thing handlers indexed by thing type, partition and zone number. */
+    private final ConcurrentMap<Integer, DSCAlarmBaseThingHandler> thingHandlerIndex = new ConcurrentHashMap<>();
+
+    /** Incoming messages, waiting to be processed. */
+    private final Queue<String> incomingMessages = new ConcurrentLinkedQueue<>();
+
+    /** Determines if a task is processing the incoming messages. */
+    private final AtomicBoolean processingMessages = new AtomicBoolean(false);
+
+    private Runnable messageProcessingRunnable = new Runnable() {
+        @Override
+        public void run() {
+            processIncomingMessages();
+        }
+    };
+
     private Runnable pollingRunnable = new Runnable() {
         @Override
         public void run() {
@@ -345,6 +367,7 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
         allThingsInitialized = true;
 
         List<Thing> things = getThing().getThings();
+        Set<DSCAlarmBaseThingHandler> thingHandlers = new HashSet<>();
 
         if (things.size() != thingCount) {
             thingsHaveChanged = true;
@@ -374,11 +397,93 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
                     }
                 }
 
+                addThingHandler(handler);
+                thingHandlers.add(handler);
+
             } else {
                 logger.error("checkThings(): Thing handler not found!");
             }
         }
 
+        // Remove the handlers of Things, that are gone
+        thingHandlerIndex.values().retainAll(thingHandlers);
+
+    }
+
+    @Override
+    public void dispose() {
+        // Messages of the closed connection must not be processed by a new connection
+        incomingMessages.clear();
+        super.dispose();
+    }
+
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof DSCAlarmBaseThingHandler) {
+            addThingHandler((DSCAlarmBaseThingHandler) childHandler);
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof DSCAlarmBaseThingHandler) {
+            DSCAlarmBaseThingHandler handler = (DSCAlarmBaseThingHandler) childHandler;
+            // The handler may still be indexed under a previous number
+            thingHandlerIndex.values().removeAll(Collections.singleton(handler));
+
+            if (handler == panelThingHandler) {
+                panelThingHandler = null;
+            }
+        }
+    }
+
+    /**
+     * Add a Thing handler to the index.
+     *
+     * @param handler
+     */
+    private void addThingHandler(DSCAlarmBaseThingHandler handler) {
+        if (handler.getDSCAlarmThingType() != null) {
+            int key = getThingHandlerKey(handler);
+            // Drop the keys of a previous partition or zone number of the handler
+            for (Map.Entry<Integer, DSCAlarmBaseThingHandler> entry : thingHandlerIndex.entrySet()) {
+                if (entry.getValue() == handler && entry.getKey() != key) {
+                    thingHandlerIndex.remove(entry.getKey(), handler);
+                }
+            }
+            thingHandlerIndex.put(key, handler);
+        }
+    }
+
+    /**
+     * Get the index key of a Thing handler.
+     *
+     * @param handler
+     * @return key
+     */
+    private int getThingHandlerKey(DSCAlarmBaseThingHandler handler) {
+        DSCAlarmThingType dscAlarmThingType = handler.getDSCAlarmThingType();
+        switch (dscAlarmThingType) {
+            case PARTITION:
+                return getThingHandlerKey(dscAlarmThingType, handler.getPartitionNumber(), 0);
+            case ZONE:
+                return getThingHandlerKey(dscAlarmThingType, 0, handler.getZoneNumber());
+            default:
+                return getThingHandlerKey(dscAlarmThingType, 0, 0);
+        }
+    }
+
+    /**
+     * Get the index key of a Thing. Zones are identified by their zone number only, partitions by their partition
+     * number only and there is only one panel and keypad.
+     *
+     * @param dscAlarmThingType
+     * @param partitionId
+     * @param zoneId
+     * @return key
+     */
+    private int getThingHandlerKey(DSCAlarmThingType dscAlarmThingType, int partitionId, int zoneId) {
+        return (dscAlarmThingType.ordinal() << 16) | ((partitionId & 0xFF) << 8) | (zoneId & 0xFF);
     }
 
     /**
@@ -390,152 +495,159 @@ public abstract class DSCAlarmBaseBridgeHandler extends BaseBridgeHandler {
      * @return thing
      */
     public Thing findThing(DSCAlarmThingType dscAlarmThingType, int partitionId, int zoneId) {
+        DSCAlarmBaseThingHandler handler = findThingHandler(dscAlarmThingType, partitionId, zoneId);
 
-        List<Thing> things = getThing().getThings();
+        return handler != null ? handler.getThing() : null;
+    }
 
-        Thing thing = null;
-
-        for (Thing t : things) {
-
-            try {
-                Configuration config = t.getConfiguration();
-                DSCAlarmBaseThingHandler handler = (DSCAlarmBaseThingHandler) t.getHandler();
-
-                if (handler != null) {
-                    DSCAlarmThingType handlerDSCAlarmThingType = handler.getDSCAlarmThingType();
-
-                    if (handlerDSCAlarmThingType != null) {
-                        if (handlerDSCAlarmThingType.equals(dscAlarmThingType)) {
-                            switch (handlerDSCAlarmThingType) {
-                                case PANEL:
-                                case KEYPAD:
-                                    thing = t;
-                                    logger.debug("findThing(): Thing Found - {}, {}, {}", t, handler,
-                                            handlerDSCAlarmThingType);
-                                    return thing;
-                                case PARTITION:
-                                    BigDecimal partitionNumber = (BigDecimal) config
-                                            .get(DSCAlarmPartitionConfiguration.PARTITION_NUMBER);
-                                    if (partitionId == partitionNumber.intValue()) {
-                                        thing = t;
-                                        logger.debug("findThing(): Thing Found - {}, {}, {}", t, handler,
-                                                handlerDSCAlarmThingType);
-                                        return thing;
-                                    }
-                                    break;
-                                case ZONE:
-                                    BigDecimal zoneNumber = (BigDecimal) config
-                                            .get(DSCAlarmZoneConfiguration.ZONE_NUMBER);
-                                    if (zoneId == zoneNumber.intValue()) {
-                                        thing = t;
-                                        logger.debug("findThing(): Thing Found - {}, {}, {}", t, handler,
-                                                handlerDSCAlarmThingType);
-                                        return thing;
-                                    }
-                                    break;
-                                default:
-                                    break;
-                            }
-                        }
-                    }
-                }
-            } catch (Exception e) {
-                logger.debug("findThing(): Error Seaching Thing - {} ", e.getMessage(), e);
-            }
+    /**
+     * Find a Thing handler in the index.
+     *
+     * @param dscAlarmThingType
+     * @param partitionId
+     * @param zoneId
+     * @return handler
+     */
+    private DSCAlarmBaseThingHandler findThingHandler(DSCAlarmThingType dscAlarmThingType, int partitionId,
+            int zoneId) {
+        switch (dscAlarmThingType) {
+            case PARTITION:
+                zoneId = 0;
+                break;
+            case ZONE:
+                partitionId = 0;
+                break;
+            default:
+                partitionId = 0;
+                zoneId = 0;
+                break;
         }
 
-        return thing;
+        DSCAlarmBaseThingHandler handler = thingHandlerIndex
+                .get(getThingHandlerKey(dscAlarmThingType, partitionId, zoneId));
+
+        logger.trace("findThingHandler(): {}, {}, {} - {}", dscAlarmThingType, partitionId, zoneId, handler);
+
+        return handler;
     }
 
     /**
-     * Handles an incoming message from the DSC Alarm System.
+     * Handles an incoming message from the DSC Alarm System. The message is queued and processed by a scheduler task,
+     * so that the reading thread does not wait for the thing handlers. Messages are processed one at a time and in
+     * the order they have been received.
      *
      * @param incomingMessage
      */
-    public synchronized void handleIncomingMessage(String incomingMessage) {
+    public void handleIncomingMessage(String incomingMessage) {
         if (incomingMessage != null && !incomingMessage.isEmpty()) {
-            DSCAlarmMessage dscAlarmMessage = new DSCAlarmMessage(incomingMessage);
-            DSCAlarmMessageType dscAlarmMessageType = dscAlarmMessage.getDSCAlarmMessageType();
-
-            logger.debug("handleIncomingMessage(): Message received: {} - {}", incomingMessage,
-                    dscAlarmMessage.toString());
-
-            DSCAlarmEvent event = new DSCAlarmEvent(this);
-            event.dscAlarmEventMessage(dscAlarmMessage);
-            DSCAlarmThingType dscAlarmThingType = null;
-            int partitionId = 0;
-            int zoneId = 0;
-
-            DSCAlarmCode dscAlarmCode = DSCAlarmCode
-                    .getDSCAlarmCodeValue(dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.CODE));
+            incomingMessages.add(incomingMessage);
 
-            if (panelThingHandler != null) {
-                panelThingHandler.setPanelMessage(dscAlarmMessage);
+            if (processingMessages.compareAndSet(false, true)) {
+                scheduler.execute(messageProcessingRunnable);
             }
+        } else {
+            logger.debug("handleIncomingMessage(): No Message Received!");
+        }
+    }
 
-            if (dscAlarmCode == DSCAlarmCode.LoginResponse) {
-                String dscAlarmMessageData = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DATA);
-                if (dscAlarmMessageData.equals("3")) {
-                    sendCommand(DSCAlarmCode.NetworkLogin);
-                    // onConnected();
-                } else if (dscAlarmMessageData.equals("1")) {
-                    onConnected();
-                }
-                return;
-            } else if (dscAlarmCode == DSCAlarmCode.CommandAcknowledge) {
-                String dscAlarmMessageData = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DATA);
-                if (dscAlarmMessageData.equals("000")) {
-                    setBridgeStatus(true);
+    /**
+     * Processes the queued incoming messages. Only one task at a time runs this method.
+     */
+    private void processIncomingMessages() {
+        do {
+            String incomingMessage;
+            while ((incomingMessage = incomingMessages.poll()) != null) {
+                try {
+                    processIncomingMessage(incomingMessage);
+                } catch (Exception e) {
+                    logger.error("processIncomingMessages(): Message not handled by bridge: {}", e.getMessage(), e);
                 }
             }
 
-            switch (dscAlarmMessageType) {
-                case PANEL_EVENT:
-                    dscAlarmThingType = DSCAlarmThingType.PANEL;
-                    break;
-                case PARTITION_EVENT:
-                    dscAlarmThingType = DSCAlarmThingType.PARTITION;
-                    partitionId = Integer
-                            .parseInt(event.getDSCAlarmMessage().getMessageInfo(DSCAlarmMessageInfoType.PARTITION));
-                    break;
-                case ZONE_EVENT:
-                    dscAlarmThingType = DSCAlarmThingType.ZONE;
-                    zoneId = Integer.parseInt(event.getDSCAlarmMessage().getMessageInfo(DSCAlarmMessageInfoType.ZONE));
-                    break;
-                case KEYPAD_EVENT:
-                    dscAlarmThingType = DSCAlarmThingType.KEYPAD;
-                    break;
-                default:
-                    break;
+            processingMessages.set(false);
+
+            // A message may have been queued after the last poll, but before the flag was reset
+        } while (!incomingMessages.isEmpty() && processingMessages.compareAndSet(false, true));
+    }
+
+    /**
+     * Processes an incoming message from the DSC Alarm System.
+     *
+     * @param incomingMessage
+     */
+    private void processIncomingMessage(String incomingMessage) {
+        DSCAlarmMessage dscAlarmMessage = new DSCAlarmMessage(incomingMessage);
+        DSCAlarmMessageType dscAlarmMessageType = dscAlarmMessage.getDSCAlarmMessageType();
+
+        logger.debug("processIncomingMessage(): Message received: {} - {}", incomingMessage, dscAlarmMessage);
+
+        DSCAlarmEvent event = new DSCAlarmEvent(this);
+        event.dscAlarmEventMessage(dscAlarmMessage);
+        DSCAlarmThingType dscAlarmThingType = null;
+        int partitionId = 0;
+        int zoneId = 0;
+
+        DSCAlarmCode dscAlarmCode = dscAlarmMessage.getDSCAlarmCode();
+
+        if (panelThingHandler != null) {
+            panelThingHandler.setPanelMessage(dscAlarmMessage);
+        }
+
+        if (dscAlarmCode == DSCAlarmCode.LoginResponse) {
+            String dscAlarmMessageData = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DATA);
+            if (dscAlarmMessageData.equals("3")) {
+                sendCommand(DSCAlarmCode.NetworkLogin);
+                // onConnected();
+            } else if (dscAlarmMessageData.equals("1")) {
+                onConnected();
             }
+            return;
+        } else if (dscAlarmCode == DSCAlarmCode.CommandAcknowledge) {
+            String dscAlarmMessageData = dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.DATA);
+            if (dscAlarmMessageData.equals("000")) {
+                setBridgeStatus(true);
+            }
+        }
 
-            if (dscAlarmThingType != null) {
+        switch (dscAlarmMessageType) {
+            case PANEL_EVENT:
+                dscAlarmThingType = DSCAlarmThingType.PANEL;
+                break;
+            case PARTITION_EVENT:
+                dscAlarmThingType = DSCAlarmThingType.PARTITION;
+                partitionId = dscAlarmMessage.getPartitionNumber();
+                break;
+            case ZONE_EVENT:
+                dscAlarmThingType = DSCAlarmThingType.ZONE;
+                zoneId = dscAlarmMessage.getZoneNumber();
+                break;
+            case KEYPAD_EVENT:
+                dscAlarmThingType = DSCAlarmThingType.KEYPAD;
+                break;
+            default:
+                break;
+        }
 
-                Thing thing = findThing(dscAlarmThingType, partitionId, zoneId);
+        if (dscAlarmThingType != null) {
 
-                logger.debug("handleIncomingMessage(): Thing Search - '{}'", thing);
+            DSCAlarmBaseThingHandler thingHandler = findThingHandler(dscAlarmThingType, partitionId, zoneId);
 
-                if (thing != null) {
-                    DSCAlarmBaseThingHandler thingHandler = (DSCAlarmBaseThingHandler) thing.getHandler();
+            if (thingHandler != null) {
+                Thing thing = thingHandler.getThing();
 
-                    if (thingHandler != null) {
-                        if (thingHandler.isThingHandlerInitialized()) {
-                            thingHandler.dscAlarmEventReceived(event, thing);
+                if (thingHandler.isThingHandlerInitialized()) {
+                    thingHandler.dscAlarmEventReceived(event, thing);
 
-                        } else {
-                            logger.debug("handleIncomingMessage(): Thing '{}' Not Refreshed!", thing.getUID());
-                        }
-                    }
                 } else {
-                    logger.debug("handleIncomingMessage(): Thing Not Found! Send to Discovery Service!");
+                    logger.debug("processIncomingMessage(): Thing '{}' Not Refreshed!", thing.getUID());
+                }
+            } else {
+                logger.debug("processIncomingMessage(): Thing Not Found! Send to Discovery Service!");
 
-                    if (dscAlarmDiscoveryService != null) {
-                        dscAlarmDiscoveryService.addThing(getThing(), dscAlarmThingType, event);
-                    }
+                if (dscAlarmDiscoveryService != null) {
+                    dscAlarmDiscoveryService.addThing(getThing(), dscAlarmThingType, event);
                 }
             }
-        } else {
-            logger.debug("handleIncomingMessage(): No Message Received!");
         }
     }
 
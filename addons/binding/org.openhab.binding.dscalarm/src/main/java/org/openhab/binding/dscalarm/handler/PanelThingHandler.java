@@ -425,8 +425,7 @@ public class PanelThingHandler extends DSCAlarmBaseThingHandler {
 
             if (getThing() == thing) {
                 ChannelUID channelUID = null;
-                DSCAlarmCode dscAlarmCode = DSCAlarmCode
-                        .getDSCAlarmCodeValue(dscAlarmMessage.getMessageInfo(DSCAlarmMessageInfoType.CODE));
+                DSCAlarmCode dscAlarmCode = dscAlarmMessage.getDSCAlarmCode();
                 logger.debug("dscAlarmEventRecieved(): Thing - {}   Command - {}", thing.getUID(), dscAlarmCode);
 
                 int state = 0;
@@ -8,9 +8,6 @@
  */
 package org.openhab.binding.dscalarm.internal;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Enumerator for DSCAlarm Command and Message Codes.
  *
@@ -188,9 +185,18 @@ public enum DSCAlarmCode {
     private String description;
 
     /**
-     * Lookup map to get a DSCAlarmCode value from its string code.
+     * Lookup table to get a DSCAlarmCode value from its three digit code, indexed by the numeric value of the code.
      */
-    private static Map<String, DSCAlarmCode> codeToDSCAlarmCodeValue;
+    private static final DSCAlarmCode[] CODE_TABLE = new DSCAlarmCode[1000];
+
+    static {
+        for (DSCAlarmCode s : values()) {
+            int index = toIndex(s.code);
+            if (index >= 0) {
+                CODE_TABLE[index] = s;
+            }
+        }
+    }
 
     /**
      * Constructor
@@ -204,13 +210,25 @@ public enum DSCAlarmCode {
     }
 
     /**
-     * Initialize the lookup map that gets a DSCAlarmCode value from a string code.
+     * Returns the index of a three digit code in the lookup table, or -1 if it is not a three digit code.
+     *
+     * @param code
+     * @return index
      */
-    private static void initMapping() {
-        codeToDSCAlarmCodeValue = new HashMap<>();
-        for (DSCAlarmCode s : values()) {
-            codeToDSCAlarmCodeValue.put(s.code, s);
+    private static int toIndex(String code) {
+        if (code == null || code.length() != 3) {
+            return -1;
         }
+
+        int index = 0;
+        for (int i = 0; i < 3; i++) {
+            char c = code.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
     }
 
     /**
@@ -242,14 +260,13 @@ public enum DSCAlarmCode {
      * @return enum value
      */
     public static DSCAlarmCode getDSCAlarmCodeValue(String code) {
-        DSCAlarmCode dscAlarmCode;
+        DSCAlarmCode dscAlarmCode = null;
 
-        if (codeToDSCAlarmCodeValue == null) {
-            initMapping();
+        int index = toIndex(code);
+        if (index >= 0) {
+            dscAlarmCode = CODE_TABLE[index];
         }
 
-        dscAlarmCode = codeToDSCAlarmCodeValue.get(code);
-
         if (dscAlarmCode == null) {
             dscAlarmCode = UnknownCode;
         }
@@ -48,6 +48,10 @@ public class DSCAlarmMessage {
 
     private DSCAlarmMessageType messageType = DSCAlarmMessageType.PANEL_EVENT;
 
+    private DSCAlarmCode dscAlarmCode = DSCAlarmCode.UnknownCode;
+    private int partitionNumber = 0;
+    private int zoneNumber = 0;
+
     private String message = "";
     private String name = "";
     private String description = "";
@@ -75,8 +79,6 @@ public class DSCAlarmMessage {
      * Processes the incoming DSC Alarm message and extracts the information.
      */
     private void processDSCAlarmMessage() {
-        DSCAlarmCode dscAlarmCode;
-
         if (message.length() > 3) {
             try {
                 if (message.length() >= 8 && message.charAt(2) == ':' && message.charAt(5) == ':') {
@@ -111,6 +113,7 @@ public class DSCAlarmMessage {
 
                     if (hasPartition) {
                         partition = message.substring(3, 4);
+                        partitionNumber = parseNumber(partition);
                     }
 
                     if (hasZone) {
@@ -119,6 +122,7 @@ public class DSCAlarmMessage {
                         } else {
                             zone = message.substring(3);
                         }
+                        zoneNumber = parseNumber(zone);
                     }
 
                     messageType = messageParms.getType();
@@ -261,6 +265,48 @@ public class DSCAlarmMessage {
         }
     }
 
+    /**
+     * Parses a partition or zone number, returns 0 if it is not a number.
+     *
+     * @param number
+     * @return int
+     */
+    private int parseNumber(String number) {
+        try {
+            return Integer.parseInt(number);
+        } catch (NumberFormatException e) {
+            logger.debug("parseNumber(): Invalid number ({}) in message ({})", number, message);
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the DSCAlarm Code of the message, as resolved when the message was processed.
+     *
+     * @return dscAlarmCode
+     */
+    public DSCAlarmCode getDSCAlarmCode() {
+        return dscAlarmCode;
+    }
+
+    /**
+     * Returns the partition number of a partition message, 0 otherwise.
+     *
+     * @return partitionNumber
+     */
+    public int getPartitionNumber() {
+        return partitionNumber;
+    }
+
+    /**
+     * Returns the zone number of a zone message, 0 otherwise.
+     *
+     * @return zoneNumber
+     */
+    public int getZoneNumber() {
+        return zoneNumber;
+    }
+
     /**
      * Returns the DSCAlarm Message Type.
      *
@@ -29,5 +29,8 @@ public class ExecBindingConstants {
     public static final String EXIT = "exit";
     public static final String RUN = "run";
     public static final String LAST_EXECUTION = "lastexecution";
+    public static final String QUEUE_WAIT = "queuewait";
+    public static final String RUN_TIME = "runtime";
+    public static final String TIMEOUTS = "timeouts";
 
 }
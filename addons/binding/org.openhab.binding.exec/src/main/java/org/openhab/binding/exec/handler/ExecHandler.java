@@ -10,14 +10,22 @@ package org.openhab.binding.exec.handler;
 
 import static org.openhab.binding.exec.ExecBindingConstants.*;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Deque;
 import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.StringTokenizer;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -35,6 +43,7 @@ import org.eclipse.smarthome.core.transform.TransformationHelper;
 import org.eclipse.smarthome.core.transform.TransformationService;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
+import org.openhab.binding.exec.internal.ExecutionPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,17 +63,52 @@ public class ExecHandler extends BaseThingHandler {
     public static final String COMMAND = "command";
     public static final String TRANSFORM = "transform";
     public static final String AUTORUN = "autorun";
+    public static final String PERSISTENT = "persistent";
+    public static final String OVERLAP = "overlap";
+    public static final String MAX_OUTPUT = "maxoutput";
+
+    // Values of the overlap configuration, which decide what happens when the command is still running
+    public static final String OVERLAP_SKIP = "skip";
+    public static final String OVERLAP_QUEUE = "queue";
+    public static final String OVERLAP_CANCEL = "cancel";
+
+    private static final int DEFAULT_MAX_OUTPUT = 65536;
+
+    // Delay before a persistent process is restarted, doubled after each consecutive failure
+    private static final long RESTART_DELAY_MIN = 1000;
+    private static final long RESTART_DELAY_MAX = 300000;
+
+    // Number of output lines of a persistent process that are kept to be logged when it exits
+    private static final int OUTPUT_LINES_KEPT = 10;
 
     // RegEx to extract a parse a function String <code>'(.*?)\((.*)\)'</code>
     private static final Pattern EXTRACT_FUNCTION_PATTERN = Pattern.compile("(.*?)\\((.*)\\)");
 
+    private final ExecutionPool executionPool;
+
     private ScheduledFuture<?> executionJob;
     private String lastInput;
 
-    private static Runtime rt = Runtime.getRuntime();
+    // State of the one-shot executions, guarded by this
+    private Future<?> currentExecution;
+    private Process currentProcess;
+    private long executionId;
+    private boolean executionActive;
+    private boolean executionPending;
+    private long pendingRequested;
+
+    private long timeouts;
 
-    public ExecHandler(Thing thing) {
+    // State of the persistent process, guarded by this
+    private Process persistentProcess;
+    private long persistentProcessStart;
+    private ScheduledFuture<?> restartJob;
+    private long restartDelay = RESTART_DELAY_MIN;
+    private boolean disposed;
+
+    public ExecHandler(Thing thing, ExecutionPool executionPool) {
         super(thing);
+        this.executionPool = executionPool;
     }
 
     @Override
@@ -76,11 +120,19 @@ public class ExecHandler extends BaseThingHandler {
             if (channelUID.getId().equals(RUN)) {
                 if (command instanceof OnOffType) {
                     if (command == OnOffType.ON) {
-                        scheduler.schedule(periodicExecutionRunnable, 0, TimeUnit.SECONDS);
+                        if (isPersistent()) {
+                            restartPersistentProcess();
+                        } else {
+                            requestExecution();
+                        }
                     }
                 }
             } else if (channelUID.getId().equals(INPUT)) {
-                if (command instanceof StringType) {
+                if (command instanceof StringType && isPersistent()) {
+                    // A persistent process receives the input on its stdin
+                    lastInput = command.toString();
+                    writeToPersistentProcess(lastInput);
+                } else if (command instanceof StringType) {
                     String previousInput = lastInput;
                     lastInput = command.toString();
                     if (lastInput != null && !lastInput.equals(previousInput)) {
@@ -88,7 +140,7 @@ public class ExecHandler extends BaseThingHandler {
                             lastInput = command.toString();
                             logger.trace("Executing command '{}' after a change of the input channel to '{}'",
                                     getConfig().get(COMMAND), command.toString());
-                            scheduler.schedule(periodicExecutionRunnable, 0, TimeUnit.SECONDS);
+                            requestExecution();
                         }
                     }
                 }
@@ -99,7 +151,18 @@ public class ExecHandler extends BaseThingHandler {
     @Override
     public void initialize() {
 
-        if (executionJob == null || executionJob.isCancelled()) {
+        synchronized (this) {
+            disposed = false;
+        }
+
+        if (isPersistent()) {
+            scheduler.execute(new Runnable() {
+                @Override
+                public void run() {
+                    startPersistentProcess();
+                }
+            });
+        } else if (executionJob == null || executionJob.isCancelled()) {
             if (((BigDecimal) getConfig().get(INTERVAL)) != null && ((BigDecimal) getConfig().get(INTERVAL)).intValue() > 0) {
                 int polling_interval = ((BigDecimal) getConfig().get(INTERVAL)).intValue();
                 executionJob = scheduler.scheduleWithFixedDelay(periodicExecutionRunnable, 0, polling_interval,
@@ -116,126 +179,524 @@ public class ExecHandler extends BaseThingHandler {
             executionJob.cancel(true);
             executionJob = null;
         }
+        stopPersistentProcess();
+        cancelExecution();
     }
 
-    protected Runnable periodicExecutionRunnable = new Runnable() {
+    private boolean isPersistent() {
+        Object persistent = getConfig().get(PERSISTENT);
+        return persistent instanceof Boolean && ((Boolean) persistent).booleanValue();
+    }
 
-        @Override
-        public void run() {
+    private String getOverlapPolicy() {
+        Object overlap = getConfig().get(OVERLAP);
+        return overlap != null ? overlap.toString() : OVERLAP_SKIP;
+    }
 
-            String commandLine = (String) getConfig().get(COMMAND);
+    private int getMaxOutput() {
+        Object maxOutput = getConfig().get(MAX_OUTPUT);
+        if (maxOutput instanceof BigDecimal && ((BigDecimal) maxOutput).intValue() > 0) {
+            return ((BigDecimal) maxOutput).intValue();
+        }
+        return DEFAULT_MAX_OUTPUT;
+    }
+
+    private int getTimeOut() {
+        int timeOut = 60000;
+        if (((BigDecimal) getConfig().get(TIME_OUT)) != null) {
+            timeOut = ((BigDecimal) getConfig().get(TIME_OUT)).intValue() * 1000;
+        }
+        return timeOut;
+    }
 
-            int timeOut = 60000;
-            if (((BigDecimal) getConfig().get(TIME_OUT)) != null) {
-                timeOut = ((BigDecimal) getConfig().get(TIME_OUT)).intValue() * 1000;
+    /**
+     * Formats the command line with the current time and the last input value
+     *
+     * @return the formatted command line, or null if it can not be formatted
+     */
+    private String formatCommandLine(String commandLine) {
+        try {
+            if (lastInput != null) {
+                return String.format(commandLine, Calendar.getInstance().getTime(), lastInput);
+            } else {
+                return String.format(commandLine, Calendar.getInstance().getTime());
             }
+        } catch (IllegalFormatException e) {
+            logger.error(
+                    "An exception occurred while formatting the command line with the current time and input values : '{}'",
+                    e.getMessage());
+            return null;
+        }
+    }
 
-            if (commandLine != null && !commandLine.isEmpty()) {
+    /**
+     * Starts the persistent process, unless it is already running. Each line the process writes to its stdout is
+     * published on the output channel. When the process exits, it is restarted after a delay which grows with each
+     * consecutive failure.
+     */
+    private synchronized void startPersistentProcess() {
+        if (disposed || (persistentProcess != null && persistentProcess.isAlive())) {
+            return;
+        }
 
-                updateState(RUN, OnOffType.ON);
+        String commandLine = (String) getConfig().get(COMMAND);
+        if (commandLine == null || commandLine.isEmpty()) {
+            return;
+        }
+
+        commandLine = formatCommandLine(commandLine);
+        if (commandLine == null) {
+            updateState(RUN, OnOffType.OFF);
+            return;
+        }
 
-                // For some obscure reason, when using Apache Common Exec, or using a straight implementation of
-                // Runtime.Exec(), on Mac OS X (Yosemite and El Capitan), there seems to be a lock race condition
-                // randomly appearing (on UNIXProcess) *when* one tries to gobble up the stdout and sterr output of the
-                // subprocess in separate threads. It seems to be common "wisdom" to do that in separate threads, but
-                // only when keeping everything between .exec() and .waitfor() in the same thread, this lock race
-                // condition seems to go away. This approach of not reading the outputs in separate threads *might* be a
-                // problem for external commands that generate a lot of output, but this will be dependent on the limits
-                // of the underlying operating system.
+        logger.debug("Starting the persistent process '{}'", commandLine);
+
+        final Process proc;
+        try {
+            proc = startProcess(commandLine);
+        } catch (Exception e) {
+            logger.error("An exception occurred while executing '{}' : '{}'", commandLine, e.getMessage());
+            updateState(RUN, OnOffType.OFF);
+            updateState(OUTPUT, new StringType(e.getMessage()));
+            scheduleRestart();
+            return;
+        }
 
-                try {
-                    if (lastInput != null) {
-                        commandLine = String.format(commandLine, Calendar.getInstance().getTime(), lastInput);
-                    } else {
-                        commandLine = String.format(commandLine, Calendar.getInstance().getTime());
+        persistentProcess = proc;
+        persistentProcessStart = System.currentTimeMillis();
+        updateState(RUN, OnOffType.ON);
+
+        // The stderr of the process is merged into its stdout, so a single thread reads all output for as long as
+        // the process lives
+        final Deque<String> lastLines = new ArrayDeque<>(OUTPUT_LINES_KEPT);
+        final ProcessStreamReader outputReader = new ProcessStreamReader(proc.getInputStream(), "OUTPUT",
+                new ProcessStreamReader.LineListener() {
+                    @Override
+                    public void onLine(String line) {
+                        synchronized (lastLines) {
+                            if (lastLines.size() == OUTPUT_LINES_KEPT) {
+                                lastLines.removeFirst();
+                            }
+                            lastLines.addLast(line);
+                        }
+                        publishOutput(line);
                     }
-                } catch (IllegalFormatException e) {
-                    logger.error(
-                            "An exception occurred while formatting the command line with the current time and input values : '{}'",
-                            e.getMessage());
-                    updateState(RUN, OnOffType.OFF);
-                    return;
-                }
+                });
+        Thread outputThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                outputReader.run();
+                onPersistentProcessExit(proc, lastLines);
+            }
+        }, "ESH-exec-output-" + getThing().getUID().getId());
+
+        outputThread.setDaemon(true);
+        outputThread.start();
+    }
+
+    private void onPersistentProcessExit(Process proc, Deque<String> lastLines) {
+        try {
+            // The process may close its stdout before it terminates
+            if (!proc.waitFor(getTimeOut(), TimeUnit.MILLISECONDS)) {
+                logger.warn("Forcibly terminating the persistent process after it closed its output");
+                proc.destroyForcibly();
+                proc.waitFor();
+            }
+        } catch (InterruptedException e) {
+            proc.destroyForcibly();
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        int exitValue = proc.exitValue();
+
+        synchronized (this) {
+            if (persistentProcess != proc) {
+                // The process has been stopped by dispose() or replaced by a new one
+                return;
+            }
+            persistentProcess = null;
+            if (disposed) {
+                return;
+            }
+            updateState(RUN, OnOffType.OFF);
+            updateState(EXIT, new DecimalType(exitValue));
+            synchronized (lastLines) {
+                logger.warn("The persistent process '{}' exited with value {}, last output : '{}'",
+                        getConfig().get(COMMAND), exitValue, StringUtils.join(lastLines, "\n"));
+            }
+            if (System.currentTimeMillis() - persistentProcessStart > RESTART_DELAY_MAX) {
+                // The process has been running fine for a while
+                restartDelay = RESTART_DELAY_MIN;
+            }
+            scheduleRestart();
+        }
+    }
+
+    private synchronized void scheduleRestart() {
+        if (disposed) {
+            return;
+        }
+        logger.debug("Restarting the persistent process in {} ms", restartDelay);
+        restartJob = scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                startPersistentProcess();
+            }
+        }, restartDelay, TimeUnit.MILLISECONDS);
+        restartDelay = Math.min(restartDelay * 2, RESTART_DELAY_MAX);
+    }
+
+    private synchronized void restartPersistentProcess() {
+        if (restartJob != null) {
+            restartJob.cancel(false);
+            restartJob = null;
+        }
+        restartDelay = RESTART_DELAY_MIN;
+        scheduler.execute(new Runnable() {
+            @Override
+            public void run() {
+                startPersistentProcess();
+            }
+        });
+    }
+
+    private void stopPersistentProcess() {
+        Process proc;
+        synchronized (this) {
+            disposed = true;
+            if (restartJob != null) {
+                restartJob.cancel(false);
+                restartJob = null;
+            }
+            proc = persistentProcess;
+            persistentProcess = null;
+            restartDelay = RESTART_DELAY_MIN;
+        }
+        if (proc != null) {
+            logger.debug("Stopping the persistent process '{}'", getConfig().get(COMMAND));
+            proc.destroy();
+        }
+    }
+
+    private void writeToPersistentProcess(String input) {
+        Process proc;
+        synchronized (this) {
+            proc = persistentProcess;
+        }
+        if (proc == null || !proc.isAlive()) {
+            logger.debug("Input '{}' is dropped, as the persistent process is not running", input);
+            return;
+        }
+        try {
+            OutputStream stdin = proc.getOutputStream();
+            synchronized (stdin) {
+                stdin.write((input + "\n").getBytes(StandardCharsets.UTF_8));
+                stdin.flush();
+            }
+        } catch (IOException e) {
+            logger.warn("An exception occurred while writing '{}' to the persistent process : '{}'", input,
+                    e.getMessage());
+        }
+    }
+
+    private void publishOutput(String output) {
+        synchronized (this) {
+            if (disposed) {
+                return;
+            }
+        }
+
+        String transformedResponse = output;
+        String transformation = (String) getConfig().get(TRANSFORM);
+
+        if (transformation != null && transformation.length() > 0) {
+            transformedResponse = transformResponse(transformedResponse, transformation);
+        }
+
+        updateState(OUTPUT, new StringType(transformedResponse));
+        updateState(LAST_EXECUTION, new DateTimeType(Calendar.getInstance()));
+    }
+
+    protected Runnable periodicExecutionRunnable = new Runnable() {
+
+        @Override
+        public void run() {
+            requestExecution();
+        }
+
+    };
+
+    /**
+     * Hands an execution of the command over to the execution pool. If the command is still running or waiting for
+     * a free thread of the pool, the configured overlap policy decides whether the execution is skipped, queued behind
+     * the running one, or replaces it.
+     */
+    private synchronized void requestExecution() {
+        if (disposed) {
+            return;
+        }
 
-                logger.trace("The command to be executed will be '{}'", commandLine);
-
-                Process proc = null;
-                try {
-                    proc = rt.exec(commandLine.toString());
-                } catch (Exception e) {
-                    logger.error("An exception occurred while executing '{}' : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                    updateState(RUN, OnOffType.OFF);
-                    updateState(OUTPUT, new StringType(e.getMessage()));
-                    return;
+        if (executionActive) {
+            String overlap = getOverlapPolicy();
+            if (OVERLAP_QUEUE.equals(overlap)) {
+                // Requests, which arrive while one is already queued, are merged into it
+                if (!executionPending) {
+                    executionPending = true;
+                    pendingRequested = System.currentTimeMillis();
                 }
+                logger.debug("Queueing the execution of '{}' after the running one", getConfig().get(COMMAND));
+                return;
+            } else if (OVERLAP_CANCEL.equals(overlap)) {
+                logger.debug("Cancelling the running execution of '{}'", getConfig().get(COMMAND));
+                executionPool.cancel(currentExecution, false);
+                if (currentProcess != null) {
+                    currentProcess.destroyForcibly();
+                }
+            } else {
+                logger.debug("Skipping the execution of '{}', as it is still running", getConfig().get(COMMAND));
+                return;
+            }
+        }
 
-                StringBuilder outputBuilder = new StringBuilder();
-                StringBuilder errorBuilder = new StringBuilder();
+        submitExecution(System.currentTimeMillis());
+    }
 
-                try (InputStreamReader isr = new InputStreamReader(proc.getInputStream());
-                        BufferedReader br = new BufferedReader(isr);) {
-                    String line = null;
-                    while ((line = br.readLine()) != null) {
-                        outputBuilder.append(line).append("\n");
-                        logger.debug("Exec [{}]: '{}'", "OUTPUT", line);
+    private synchronized void submitExecution(final long requested) {
+        final long id = ++executionId;
+        executionActive = true;
+        currentProcess = null;
+        try {
+            currentExecution = executionPool.submit(new Runnable() {
+                @Override
+                public void run() {
+                    long started = System.currentTimeMillis();
+                    try {
+                        execute(id, started - requested);
+                    } finally {
+                        updateState(QUEUE_WAIT, new DecimalType(started - requested));
+                        updateState(RUN_TIME, new DecimalType(System.currentTimeMillis() - started));
+                        executionFinished(id);
                     }
-                    isr.close();
-                } catch (IOException e) {
-                    logger.error("An exception occurred while reading the stdout when executing '{}' : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
                 }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warn("Skipping the execution of '{}', as {} commands are already waiting for a free thread",
+                    getConfig().get(COMMAND), ExecutionPool.MAX_QUEUED);
+            currentExecution = null;
+            executionActive = false;
+        }
+    }
+
+    private synchronized boolean isCurrentExecution(long id) {
+        return id == executionId && !disposed;
+    }
+
+    private synchronized boolean setCurrentProcess(long id, Process proc) {
+        if (!isCurrentExecution(id)) {
+            return false;
+        }
+        currentProcess = proc;
+        return true;
+    }
+
+    private synchronized void executionFinished(long id) {
+        if (id != executionId) {
+            // The execution has been replaced by a newer one
+            return;
+        }
+        currentProcess = null;
+        executionActive = false;
+        if (executionPending && !disposed) {
+            executionPending = false;
+            submitExecution(pendingRequested);
+        }
+    }
+
+    private synchronized void cancelExecution() {
+        executionId++;
+        executionActive = false;
+        executionPending = false;
+        if (currentExecution != null) {
+            executionPool.cancel(currentExecution, true);
+            currentExecution = null;
+        }
+        if (currentProcess != null) {
+            currentProcess.destroyForcibly();
+            currentProcess = null;
+        }
+    }
+
+    private synchronized void countTimeout() {
+        timeouts++;
+        updateState(TIMEOUTS, new DecimalType(timeouts));
+    }
+
+    private void execute(long id, long queueWait) {
+
+        String commandLine = (String) getConfig().get(COMMAND);
+
+        // The time spent waiting for a free thread counts against the timeout
+        final long timeOut = getTimeOut() - queueWait;
+
+        if (commandLine != null && !commandLine.isEmpty()) {
+
+            if (timeOut <= 0) {
+                logger.warn("Skipping the execution of '{}', as it has been waiting {} ms for a free thread",
+                        commandLine, queueWait);
+                countTimeout();
+                return;
+            }
+
+            updateState(RUN, OnOffType.ON);
+
+            // For some obscure reason, when using Apache Common Exec, or using a straight implementation of
+            // Runtime.Exec(), on Mac OS X (Yosemite and El Capitan), there seems to be a lock race condition
+            // randomly appearing (on UNIXProcess) *when* one tries to gobble up the stdout and sterr output of the
+            // subprocess in separate threads. Therefore stderr is merged into stdout (see startProcess()), which is
+            // read in the same thread that starts the process and waits for it.
 
-                try (InputStreamReader isr = new InputStreamReader(proc.getErrorStream());
-                        BufferedReader br = new BufferedReader(isr);) {
-                    String line = null;
-                    while ((line = br.readLine()) != null) {
-                        errorBuilder.append(line).append("\n");
-                        logger.debug("Exec [{}]: '{}'", "ERROR", line);
+            commandLine = formatCommandLine(commandLine);
+            if (commandLine == null) {
+                updateState(RUN, OnOffType.OFF);
+                return;
+            }
+
+            logger.trace("The command to be executed will be '{}'", commandLine);
+
+            final Process proc;
+            try {
+                proc = startProcess(commandLine);
+            } catch (Exception e) {
+                logger.error("An exception occurred while executing '{}' : '{}'",
+                        new Object[] { commandLine.toString(), e.getMessage() });
+                updateState(RUN, OnOffType.OFF);
+                updateState(OUTPUT, new StringType(e.getMessage()));
+                return;
+            }
+
+            if (!setCurrentProcess(id, proc)) {
+                // The execution has been cancelled in the meantime
+                proc.destroyForcibly();
+                return;
+            }
+
+            // The timeout has to cover the reading of stdout as well, as a hanging process never closes it
+            final AtomicBoolean timedOut = new AtomicBoolean();
+            final String timedOutCommandLine = commandLine;
+            ScheduledFuture<?> timeOutJob = scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (proc.isAlive()) {
+                        timedOut.set(true);
+                        logger.warn("Forcibly termininating the process ('{}') after a timeout of {} ms",
+                                timedOutCommandLine, timeOut);
+                        proc.destroyForcibly();
                     }
-                    isr.close();
-                } catch (IOException e) {
-                    logger.error("An exception occurred while reading the stderr when executing '{}' : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
                 }
+            }, timeOut, TimeUnit.MILLISECONDS);
+
+            int maxOutput = getMaxOutput();
+            final OutputBuffer outputBuilder = new OutputBuffer(maxOutput);
+            new ProcessStreamReader(proc.getInputStream(), "OUTPUT", outputBuilder).run();
+
+            try {
+                proc.waitFor();
+            } catch (InterruptedException e) {
+                logger.debug("Interrupted while waiting for the process ('{}') to finish", commandLine);
+                proc.destroyForcibly();
+                Thread.currentThread().interrupt();
+            } finally {
+                timeOutJob.cancel(false);
+            }
 
-                boolean exitVal = false;
-                try {
-                    exitVal = proc.waitFor(timeOut, TimeUnit.MILLISECONDS);
-                } catch (InterruptedException e) {
-                    logger.error("An exception occurred while waiting for the process ('{}') to finish : '{}'",
-                            new Object[] { commandLine.toString(), e.getMessage() });
-                }
+            if (timedOut.get()) {
+                countTimeout();
+            }
 
-                if (!exitVal) {
-                    logger.warn("Forcibly termininating the process ('{}') after a timeout of {} ms",
-                            new Object[] { commandLine.toString(), timeOut });
-                    proc.destroyForcibly();
-                }
+            if (outputBuilder.isTruncated()) {
+                logger.warn("The output of the process ('{}') exceeded {} characters and has been truncated",
+                        commandLine, maxOutput);
+            }
 
-                updateState(RUN, OnOffType.OFF);
+            if (!isCurrentExecution(id)) {
+                logger.debug("Dropping the result of the cancelled process ('{}')", commandLine);
+                return;
+            }
+
+            updateState(RUN, OnOffType.OFF);
+            if (!proc.isAlive()) {
                 updateState(EXIT, new DecimalType(proc.exitValue()));
+            }
 
-                outputBuilder.append(errorBuilder.toString());
+            String transformedResponse = StringUtils.chomp(outputBuilder.toString());
+            String transformation = (String) getConfig().get(TRANSFORM);
 
-                outputBuilder.append(errorBuilder.toString());
+            if (transformation != null && transformation.length() > 0) {
+                transformedResponse = transformResponse(transformedResponse, transformation);
+            }
 
-                String transformedResponse = StringUtils.chomp(outputBuilder.toString());
-                String transformation = (String) getConfig().get(TRANSFORM);
+            updateState(OUTPUT, new StringType(transformedResponse));
 
-                if (transformation != null && transformation.length() > 0) {
-                    transformedResponse = transformResponse(transformedResponse, transformation);
-                }
+            DateTimeType stampType = new DateTimeType(Calendar.getInstance());
+            updateState(LAST_EXECUTION, stampType);
+
+        }
+    }
 
-                updateState(OUTPUT, new StringType(transformedResponse));
+    /**
+     * Starts the command line as a process. The command line is split at white space like {@link Runtime#exec(String)}
+     * does. The stderr of the process is redirected to its stdout, so only one stream has to be read.
+     */
+    private Process startProcess(String commandLine) throws IOException {
+        StringTokenizer tokenizer = new StringTokenizer(commandLine);
+        List<String> command = new ArrayList<>();
+        while (tokenizer.hasMoreTokens()) {
+            command.add(tokenizer.nextToken());
+        }
+        if (command.isEmpty()) {
+            throw new IllegalArgumentException("Empty command");
+        }
+        return new ProcessBuilder(command).redirectErrorStream(true).start();
+    }
 
-                DateTimeType stampType = new DateTimeType(Calendar.getInstance());
-                updateState(LAST_EXECUTION, stampType);
+    /**
+     * Collects the lines of a process stream up to a maximum number of characters. Further lines are still read, so
+     * that the process does not block, but they are dropped.
+     */
+    private static class OutputBuffer implements ProcessStreamReader.LineListener {
 
+        private final StringBuilder buffer = new StringBuilder();
+        private final int maxLength;
+        private boolean truncated;
+
+        OutputBuffer(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public synchronized void onLine(String line) {
+            int remaining = maxLength - buffer.length();
+            if (line.length() + 1 <= remaining) {
+                buffer.append(line).append("\n");
+            } else {
+                if (remaining > 0) {
+                    buffer.append(line, 0, remaining);
+                }
+                truncated = true;
             }
         }
 
-    };
+        synchronized boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return buffer.toString();
+        }
+    }
 
     protected String transformResponse(String response, String transformation) {
         String transformedResponse;
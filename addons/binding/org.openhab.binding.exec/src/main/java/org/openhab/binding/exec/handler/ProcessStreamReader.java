@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.exec.handler;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ProcessStreamReader} reads the output stream of a process line by line, and hands each line
+ * over to a {@link LineListener}. Lines longer than {@link #MAX_LINE_LENGTH} characters are truncated, so that a
+ * process can not make the binding buffer an unlimited amount of data.
+ *
+ * @author agent - Initial contribution
+ */
+class ProcessStreamReader implements Runnable {
+
+    /**
+     * Receives the lines read from the stream
+     */
+    interface LineListener {
+        void onLine(String line);
+    }
+
+    static final int MAX_LINE_LENGTH = 8192;
+
+    private final Logger logger = LoggerFactory.getLogger(ProcessStreamReader.class);
+
+    private final InputStream stream;
+    private final String name;
+    private final LineListener listener;
+
+    ProcessStreamReader(InputStream stream, String name, LineListener listener) {
+        this.stream = stream;
+        this.name = name;
+        this.listener = listener;
+    }
+
+    @Override
+    public void run() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream))) {
+            StringBuilder line = new StringBuilder();
+            boolean truncated = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (c == '\n') {
+                    publish(line, truncated);
+                    line.setLength(0);
+                    truncated = false;
+                } else if (c == '\r') {
+                    // ignore, lines may be terminated by \r\n
+                } else if (line.length() < MAX_LINE_LENGTH) {
+                    line.append((char) c);
+                } else {
+                    truncated = true;
+                }
+            }
+            if (line.length() > 0) {
+                publish(line, truncated);
+            }
+        } catch (IOException e) {
+            // The stream is closed as well when the process is destroyed
+            logger.debug("Stopped reading the {} of the process : '{}'", name, e.getMessage());
+        }
+    }
+
+    private void publish(StringBuilder line, boolean truncated) {
+        if (truncated) {
+            logger.warn("A line of the {} of the process exceeded {} characters and has been truncated", name,
+                    MAX_LINE_LENGTH);
+        }
+        logger.debug("Exec [{}]: '{}'", name, line);
+        listener.onLine(line.toString());
+    }
+}
@@ -11,6 +11,7 @@ package org.openhab.binding.exec.internal;
 import static org.openhab.binding.exec.ExecBindingConstants.THING_COMMAND;
 
 import java.util.Collections;
+import java.util.Dictionary;
 import java.util.Set;
 
 import org.eclipse.smarthome.core.thing.Thing;
@@ -18,6 +19,9 @@ import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.openhab.binding.exec.handler.ExecHandler;
+import org.osgi.service.component.ComponentContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The {@link ExecHandlerFactory} is responsible for creating things and thing
@@ -29,6 +33,42 @@ public class ExecHandlerFactory extends BaseThingHandlerFactory {
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Collections.singleton(THING_COMMAND);
 
+    private static final String MAX_CONCURRENT = "maxConcurrent";
+
+    private final Logger logger = LoggerFactory.getLogger(ExecHandlerFactory.class);
+
+    private final ExecutionPool executionPool = new ExecutionPool(ExecutionPool.DEFAULT_MAX_CONCURRENT);
+
+    @Override
+    protected void activate(ComponentContext componentContext) {
+        super.activate(componentContext);
+        modified(componentContext);
+    }
+
+    protected void modified(ComponentContext componentContext) {
+        Dictionary<String, Object> properties = componentContext.getProperties();
+        int maxConcurrent = ExecutionPool.DEFAULT_MAX_CONCURRENT;
+        Object value = properties != null ? properties.get(MAX_CONCURRENT) : null;
+        if (value != null) {
+            try {
+                maxConcurrent = Integer.parseInt(value.toString());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid value '{}' for the maximum number of concurrent executions", value);
+            }
+        }
+        if (maxConcurrent < 1) {
+            maxConcurrent = 1;
+        }
+        logger.debug("Executing at most {} commands at the same time", maxConcurrent);
+        executionPool.setMaxConcurrent(maxConcurrent);
+    }
+
+    @Override
+    protected void deactivate(ComponentContext componentContext) {
+        super.deactivate(componentContext);
+        executionPool.shutdown();
+    }
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -40,7 +80,7 @@ public class ExecHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(THING_COMMAND)) {
-            return new ExecHandler(thing);
+            return new ExecHandler(thing, executionPool);
         }
 
         return null;
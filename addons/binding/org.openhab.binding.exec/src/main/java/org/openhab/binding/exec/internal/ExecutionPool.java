@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.exec.internal;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@link ExecutionPool} runs the commands of all exec things on a limited number of threads. Commands, which are
+ * requested while all threads are busy, wait in a queue of limited length. This keeps slow or hanging commands away
+ * from the scheduler shared by all thing handlers.
+ *
+ * @author agent - Initial contribution
+ */
+public class ExecutionPool {
+
+    public static final int DEFAULT_MAX_CONCURRENT = 4;
+
+    // Number of commands, which may wait for a free thread
+    public static final int MAX_QUEUED = 32;
+
+    private final ThreadPoolExecutor executor;
+
+    public ExecutionPool(int maxConcurrent) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(MAX_QUEUED), new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "ESH-exec-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Changes the number of commands, which may run at the same time
+     */
+    public synchronized void setMaxConcurrent(int maxConcurrent) {
+        if (maxConcurrent > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(maxConcurrent);
+            executor.setCorePoolSize(maxConcurrent);
+        } else {
+            executor.setCorePoolSize(maxConcurrent);
+            executor.setMaximumPoolSize(maxConcurrent);
+        }
+    }
+
+    /**
+     * Runs the command as soon as a thread is free.
+     *
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public Future<?> submit(Runnable execution) {
+        return executor.submit(execution);
+    }
+
+    /**
+     * Cancels a command. A command, which is still waiting for a free thread, is removed from the queue at once.
+     */
+    public void cancel(Future<?> execution, boolean mayInterruptIfRunning) {
+        execution.cancel(mayInterruptIfRunning);
+        if (execution instanceof Runnable) {
+            executor.remove((Runnable) execution);
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
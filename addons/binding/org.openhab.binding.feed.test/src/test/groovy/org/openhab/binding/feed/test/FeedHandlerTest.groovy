@@ -108,6 +108,9 @@ public class FeedHandlerTest extends OSGiTest {
     class FeedServiceMock extends HttpServlet {
         def feedContent;
         def httpStatus;
+        //If set, the servlet sends this ETag and answers conditional requests with 304 Not Modified
+        def eTag = null;
+        def notModifiedResponses = 0;
 
         public FeedServiceMock(def feedContentFile) {
             super()
@@ -118,6 +121,14 @@ public class FeedHandlerTest extends OSGiTest {
 
         @Override
         protected void doGet(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException{
+            if (eTag != null) {
+                if (eTag == request.getHeader("If-None-Match")) {
+                    notModifiedResponses++
+                    response.setStatus(HttpStatus.NOT_MODIFIED_304)
+                    return
+                }
+                response.setHeader("ETag", eTag)
+            }
             ServletOutputStream outputStream = response.getOutputStream()
             outputStream.println(feedContent)
             //Recommended RSS MIME type - http://www.rssboard.org/rss-mime-type-application.txt
@@ -307,6 +318,28 @@ public class FeedHandlerTest extends OSGiTest {
         testIfItemStateIsUpdated(commandReceived,contentChanged);
     }
 
+    @Test
+    public void 'assert that feed is requested conditionally if the server sends an ETag' () {
+        servlet.eTag = '"1"'
+        initializeDefaultFeedHandler()
+
+        waitForAssert({
+            assertThat "Item's state is not updated on initialize", currentItemState, is(notNullValue())
+        },  DEFAULT_MAX_WAIT_TIME)
+        String firstItemState = currentItemState;
+
+        //Before this time has expired, the refresh command will no trigger a request to the server
+        sleep(FeedBindingConstants.MINIMUM_REFRESH_TIME)
+
+        feedThing.handler.handleCommand(channelUID,RefreshType.REFRESH)
+
+        waitForAssert({
+            assertThat servlet.notModifiedResponses, is(1)
+        }, DEFAULT_MAX_WAIT_TIME)
+        assertThat feedThing.getStatus(),is(equalTo(ThingStatus.ONLINE))
+        assertThat currentItemState,is(equalTo(firstItemState))
+    }
+
     @Test
     public void 'assert that thing\'s status is updated when HTTP 500 error code is received' () {
         testIfThingStatusIsUpdated(HttpStatus.INTERNAL_SERVER_ERROR_500)
@@ -10,20 +10,15 @@ package org.openhab.binding.feed.handler;
 
 import static org.openhab.binding.feed.FeedBindingConstants.*;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLConnection;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.zip.GZIPInputStream;
 
 import org.eclipse.smarthome.config.core.Configuration;
 import org.eclipse.smarthome.core.library.types.DateTimeType;
@@ -38,13 +33,14 @@ import org.eclipse.smarthome.core.thing.binding.BaseThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.eclipse.smarthome.core.types.State;
+import org.openhab.binding.feed.internal.FeedSource;
+import org.openhab.binding.feed.internal.FeedSourceRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.rometools.rome.feed.synd.SyndEntry;
 import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.FeedException;
-import com.rometools.rome.io.SyndFeedInput;
 
 /**
  * The {@link FeedHandler } is responsible for handling commands, which are
@@ -62,14 +58,19 @@ public class FeedHandler extends BaseThingHandler {
     private SyndFeed currentFeedState;
     private long lastRefreshTime;
 
-    public FeedHandler(Thing thing) {
+    private final FeedSourceRegistry feedSources;
+    private FeedSource feedSource;
+
+    public FeedHandler(Thing thing, FeedSourceRegistry feedSources) {
         super(thing);
+        this.feedSources = feedSources;
         currentFeedState = null;
     }
 
     @Override
     public void initialize() {
         checkConfiguration();
+        feedSource = feedSources.acquire(urlString);
         startAutomaticRefresh();
         super.initialize();
     }
@@ -112,7 +113,7 @@ public class FeedHandler extends BaseThingHandler {
     }
 
     private void refreshFeedState() {
-        SyndFeed feed = fetchFeedData(urlString);
+        SyndFeed feed = fetchFeedData();
         boolean feedUpdated = updateFeedIfChanged(feed);
 
         if (feedUpdated) {
@@ -187,8 +188,9 @@ public class FeedHandler extends BaseThingHandler {
      *         otherwise
      */
     private synchronized boolean updateFeedIfChanged(SyndFeed newFeedState) {
-        // SyndFeed class has implementation of equals ()
-        if (newFeedState != null && !newFeedState.equals(currentFeedState)) {
+        // The feed source returns the same instance as long as the content is not changed, so the expensive
+        // implementation of equals() in the SyndFeed class is only used, if new content has been downloaded
+        if (newFeedState != null && newFeedState != currentFeedState && !newFeedState.equals(currentFeedState)) {
             currentFeedState = newFeedState;
             logger.debug("New content available!");
             return true;
@@ -198,34 +200,26 @@ public class FeedHandler extends BaseThingHandler {
     }
 
     /**
-     * This method tries to make connection with the server and fetch data from the feed.
+     * This method fetches the data of the feed from the {@link FeedSource}, which is shared by all things with the same
+     * URL and only downloads and parses the feed, if it has been changed.
      * The status of the feed thing is set to {@link ThingStatus#ONLINE}, if the fetching was successful.
      * Otherwise the status will be set to {@link ThingStatus#OFFLINE} with
      * {@link ThingStatusDetail#CONFIGURATION_ERROR} or
      * {@link ThingStatusDetail#COMMUNICATION_ERROR} and adequate message.
      *
-     * @param urlString - URL of the Feed
      * @return {@link SyndFeed} instance with the feed data, if the connection attempt was successful and
      *         <code>null</code> otherwise
      */
-    private SyndFeed fetchFeedData(String urlString) {
+    private SyndFeed fetchFeedData() {
+        FeedSource source = feedSource;
+        if (source == null) {
+            // The handler has been disposed in the meantime
+            return null;
+        }
+
         SyndFeed feed = null;
         try {
-            URL url = new URL(urlString);
-
-            URLConnection connection = url.openConnection();
-            connection.setRequestProperty("Accept-Encoding", "gzip");
-
-            BufferedReader in = null;
-            if ("gzip".equals(connection.getContentEncoding())) {
-                in = new BufferedReader(new InputStreamReader(new GZIPInputStream(connection.getInputStream())));
-            } else {
-                in = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-            }
-
-            SyndFeedInput input = new SyndFeedInput();
-            feed = input.build(in);
-            in.close();
+            feed = source.fetch();
 
             if (this.thing.getStatus() != ThingStatus.ONLINE) {
                 updateStatus(ThingStatus.ONLINE);
@@ -277,7 +271,7 @@ public class FeedHandler extends BaseThingHandler {
         if (command instanceof RefreshType) {
             // safeguard for multiple REFRESH commands for different channels in a row
             if (isMinimumRefreshTimeExceeded()) {
-                SyndFeed feed = fetchFeedData(urlString);
+                SyndFeed feed = fetchFeedData();
                 updateFeedIfChanged(feed);
             }
             publishChannelIfLinked(channelUID);
@@ -292,6 +286,10 @@ public class FeedHandler extends BaseThingHandler {
         if (refreshTask != null) {
             refreshTask.cancel(true);
         }
+        if (feedSource != null) {
+            feedSources.release(feedSource);
+            feedSource = null;
+        }
         lastRefreshTime = 0;
     }
 
@@ -29,6 +29,8 @@ public class FeedHandlerFactory extends BaseThingHandlerFactory {
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Collections.singleton(FEED_THING_TYPE_UID);
 
+    private final FeedSourceRegistry feedSources = new FeedSourceRegistry();
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -39,7 +41,7 @@ public class FeedHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(FEED_THING_TYPE_UID)) {
-            return new FeedHandler(thing);
+            return new FeedHandler(thing, feedSources);
         }
 
         return null;
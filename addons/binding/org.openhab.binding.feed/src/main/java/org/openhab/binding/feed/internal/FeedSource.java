@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.feed.internal;
+
+import static org.openhab.binding.feed.FeedBindingConstants.MINIMUM_REFRESH_TIME;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.rometools.rome.feed.synd.SyndFeed;
+import com.rometools.rome.io.FeedException;
+import com.rometools.rome.io.SyndFeedInput;
+import com.rometools.rome.io.XmlReader;
+
+/**
+ * The {@link FeedSource} downloads the feed document from one URL. It is shared by all feed things with the same URL.
+ * <ul>
+ * <li>The document is requested with the ETag and Last-Modified values of the previous response, so that the server
+ * can answer with 304 Not Modified instead of sending the whole document again.</li>
+ * <li>A downloaded document is only parsed, if its hash differs from the hash of the previous document.</li>
+ * <li>Requests within {@link org.openhab.binding.feed.FeedBindingConstants#MINIMUM_REFRESH_TIME} after the last
+ * download are served from the last result.</li>
+ * </ul>
+ * As long as the content is not changed, {@link #fetch()} returns the same {@link SyndFeed} instance.
+ *
+ * @author agent - Initial contribution
+ */
+public class FeedSource {
+
+    private final Logger logger = LoggerFactory.getLogger(FeedSource.class);
+
+    private final String urlString;
+
+    private String eTag;
+    private String lastModified;
+    private byte[] contentHash;
+    private SyndFeed feed;
+    private long lastFetchTime;
+
+    FeedSource(String urlString) {
+        this.urlString = urlString;
+    }
+
+    public String getUrl() {
+        return urlString;
+    }
+
+    /**
+     * Returns the current feed data. Concurrent calls are served by a single download.
+     *
+     * @return the current feed data
+     * @throws IOException if the server can not be reached or responds with an error
+     * @throws FeedException if the content is not a valid feed
+     * @throws IllegalArgumentException if the URL is not set
+     */
+    public synchronized SyndFeed fetch() throws IOException, FeedException {
+        long now = System.currentTimeMillis();
+        if (feed != null && now - lastFetchTime < MINIMUM_REFRESH_TIME) {
+            logger.trace("Feed {} has been downloaded {} ms ago, using the last result", urlString,
+                    now - lastFetchTime);
+            return feed;
+        }
+
+        if (urlString == null) {
+            throw new IllegalArgumentException("URL must not be null");
+        }
+
+        URL url = new URL(urlString);
+        URLConnection connection = url.openConnection();
+        connection.setRequestProperty("Accept-Encoding", "gzip");
+
+        HttpURLConnection httpConnection = null;
+        if (connection instanceof HttpURLConnection) {
+            httpConnection = (HttpURLConnection) connection;
+            if (feed != null) {
+                // Only ask for a conditional response, if the last response has been parsed successfully
+                if (eTag != null) {
+                    connection.setRequestProperty("If-None-Match", eTag);
+                }
+                if (lastModified != null) {
+                    connection.setRequestProperty("If-Modified-Since", lastModified);
+                }
+            }
+        }
+
+        if (httpConnection != null && httpConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            logger.debug("Feed {} is not modified", urlString);
+            lastFetchTime = now;
+            return feed;
+        }
+
+        byte[] content;
+        try (InputStream in = "gzip".equals(connection.getContentEncoding())
+                ? new GZIPInputStream(connection.getInputStream()) : connection.getInputStream()) {
+            content = readFully(in);
+        }
+
+        byte[] newContentHash = hash(content);
+        if (feed == null || !Arrays.equals(newContentHash, contentHash)) {
+            SyndFeedInput input = new SyndFeedInput();
+            feed = input.build(new XmlReader(new ByteArrayInputStream(content)));
+            contentHash = newContentHash;
+        } else {
+            logger.debug("Content of feed {} is unchanged", urlString);
+        }
+
+        eTag = connection.getHeaderField("ETag");
+        lastModified = connection.getHeaderField("Last-Modified");
+        lastFetchTime = now;
+        return feed;
+    }
+
+    private byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int length;
+        while ((length = in.read(buffer)) != -1) {
+            out.write(buffer, 0, length);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance("MD5").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports MD5, compare the whole content otherwise
+            return content;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.feed.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link FeedSourceRegistry} hands out one {@link FeedSource} per URL, so that feed things with the same URL
+ * share the downloaded data.
+ *
+ * @author agent - Initial contribution
+ */
+public class FeedSourceRegistry {
+
+    private final Map<String, FeedSource> sources = new HashMap<>();
+    private final Map<String, Integer> usages = new HashMap<>();
+
+    /**
+     * Returns the source for a URL. Each call has to be matched by a call of {@link #release(FeedSource)}.
+     */
+    public synchronized FeedSource acquire(String urlString) {
+        // The null URL is kept under an empty key, the source reports the configuration error on fetch
+        String key = urlString != null ? urlString : "";
+        FeedSource source = sources.get(key);
+        if (source == null) {
+            source = new FeedSource(urlString);
+            sources.put(key, source);
+            usages.put(key, 0);
+        }
+        usages.put(key, usages.get(key) + 1);
+        return source;
+    }
+
+    public synchronized void release(FeedSource source) {
+        String key = source.getUrl() != null ? source.getUrl() : "";
+        Integer usage = usages.get(key);
+        if (usage == null || sources.get(key) != source) {
+            return;
+        }
+        if (usage <= 1) {
+            sources.remove(key);
+            usages.remove(key);
+        } else {
+            usages.put(key, usage - 1);
+        }
+    }
+}
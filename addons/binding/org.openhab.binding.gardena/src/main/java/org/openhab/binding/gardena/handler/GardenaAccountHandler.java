@@ -9,6 +9,7 @@
 package org.openhab.binding.gardena.handler;
 
 import java.util.Hashtable;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
@@ -22,6 +23,7 @@ import org.eclipse.smarthome.core.thing.ThingUID;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
+import org.openhab.binding.gardena.GardenaBindingConstants;
 import org.openhab.binding.gardena.discovery.GardenaDeviceDiscoveryService;
 import org.openhab.binding.gardena.internal.GardenaSmart;
 import org.openhab.binding.gardena.internal.GardenaSmartEventListener;
@@ -29,6 +31,7 @@ import org.openhab.binding.gardena.internal.GardenaSmartImpl;
 import org.openhab.binding.gardena.internal.config.GardenaConfig;
 import org.openhab.binding.gardena.internal.exception.GardenaException;
 import org.openhab.binding.gardena.internal.model.Device;
+import org.openhab.binding.gardena.internal.model.Property;
 import org.openhab.binding.gardena.util.UidUtils;
 import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
@@ -197,6 +200,39 @@ public class GardenaAccountHandler extends BaseBridgeHandler implements GardenaS
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDevicePropertiesChanged(Device device, List<Property> changedProperties) {
+        for (ThingUID thingUID : UidUtils.getThingUIDs(device, getThing())) {
+            Thing gardenaThing = getThingByUID(thingUID);
+            try {
+                GardenaThingHandler gardenaThingHandler = (GardenaThingHandler) gardenaThing.getHandler();
+                boolean deviceInfoChanged = false;
+                for (Property property : changedProperties) {
+                    String abilityName = property.getAbility().getName();
+                    if (GardenaBindingConstants.ABILITY_DEVICE_INFO.equals(abilityName)) {
+                        deviceInfoChanged = true;
+                    }
+                    ChannelUID channelUID = new ChannelUID(gardenaThing.getUID(), abilityName, property.getName());
+                    if (gardenaThing.getChannel(channelUID.getId()) != null) {
+                        gardenaThingHandler.updateChannel(channelUID);
+                    }
+                }
+                if (deviceInfoChanged) {
+                    gardenaThingHandler.updateProperties(device);
+                }
+                gardenaThingHandler.updateStatus(device);
+            } catch (GardenaException ex) {
+                logger.error("There is something wrong with your thing, please recreate the thing {}",
+                        gardenaThing.getUID(), ex);
+                updateStatus(ThingStatus.OFFLINE);
+            } catch (AccountHandlerNotAvailableException ignore) {
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
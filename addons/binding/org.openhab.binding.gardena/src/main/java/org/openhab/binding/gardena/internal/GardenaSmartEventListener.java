@@ -8,7 +8,10 @@
  */
 package org.openhab.binding.gardena.internal;
 
+import java.util.List;
+
 import org.openhab.binding.gardena.internal.model.Device;
+import org.openhab.binding.gardena.internal.model.Property;
 
 /**
  * Listener with methods called from events within the {@link GardenaSmart} class.
@@ -22,6 +25,11 @@ public interface GardenaSmartEventListener {
      */
     public void onDeviceUpdated(Device device);
 
+    /**
+     * Called when properties of a device have changed during a refresh.
+     */
+    public void onDevicePropertiesChanged(Device device, List<Property> changedProperties);
+
     /**
      * Called when a new device has been detected.
      */
@@ -8,12 +8,16 @@
  */
 package org.openhab.binding.gardena.internal;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -21,10 +25,12 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.ObjectUtils;
+import org.apache.commons.lang.StringUtils;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.HttpResponseException;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.util.FutureResponseListener;
 import org.eclipse.jetty.client.util.StringContentProvider;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
@@ -97,7 +103,7 @@ public class GardenaSmartImpl implements GardenaSmart {
     private HttpClient httpClient;
 
     private String mowerDuration = DEFAULT_MOWER_DURATION;
-    private Session session;
+    private volatile Session session;
     private GardenaConfig config;
     private String id;
 
@@ -107,9 +113,12 @@ public class GardenaSmartImpl implements GardenaSmart {
 
     private GardenaSmartEventListener eventListener;
 
-    private Map<String, Device> allDevicesById = new HashMap<String, Device>();
+    private volatile Map<String, Device> allDevicesById = new HashMap<String, Device>();
     private Set<Location> allLocations = new HashSet<Location>();
 
+    // time of the last command by device id, the properties of these devices are published even if unchanged
+    private final Map<String, Long> commandedDevices = new ConcurrentHashMap<String, Long>();
+
     /**
      * {@inheritDoc}
      */
@@ -153,6 +162,7 @@ public class GardenaSmartImpl implements GardenaSmart {
         }
         allLocations.clear();
         allDevicesById.clear();
+        commandedDevices.clear();
     }
 
     /**
@@ -236,6 +246,13 @@ public class GardenaSmartImpl implements GardenaSmart {
      */
     private Devices loadDevices(Location location) throws GardenaException {
         Devices devices = executeRequest(HttpMethod.GET, URL_DEVICES + location.getId(), null, Devices.class);
+        return prepareDevices(location, devices);
+    }
+
+    /**
+     * Links the loaded devices to the location, adds virtual properties for commands.
+     */
+    private Devices prepareDevices(Location location, Devices devices) throws GardenaException {
         for (Device device : devices.getDevices()) {
             device.setLocation(location);
             for (Ability ability : device.getAbilities()) {
@@ -266,6 +283,9 @@ public class GardenaSmartImpl implements GardenaSmart {
         Ability ability = null;
         Command command = null;
 
+        // the device may ignore or reject the command, so the cached values can't be trusted anymore
+        commandedDevices.put(device.getId(), System.currentTimeMillis());
+
         switch (commandName) {
             case PARK_UNTIL_NEXT_TIMER:
                 ability = device.getAbility(ABILITY_MOWER);
@@ -353,7 +373,16 @@ public class GardenaSmartImpl implements GardenaSmart {
     /**
      * Communicates with Gardena Smart Home and parses the result.
      */
-    private synchronized <T> T executeRequest(HttpMethod method, String url, Object contentObject, Class<T> result)
+    private <T> T executeRequest(HttpMethod method, String url, Object contentObject, Class<T> result)
+            throws GardenaException {
+        return getResponse(sendRequest(method, url, contentObject, result), result);
+    }
+
+    /**
+     * Sends a request to Gardena Smart Home without waiting for the response, several requests may be in flight at
+     * the same time.
+     */
+    private FutureResponseListener sendRequest(HttpMethod method, String url, Object contentObject, Class<?> result)
             throws GardenaException {
         try {
             if (logger.isTraceEnabled()) {
@@ -378,7 +407,23 @@ public class GardenaSmartImpl implements GardenaSmart {
                 request.header("X-Session", session.getToken());
             }
 
-            ContentResponse contentResponse = request.send();
+            FutureResponseListener listener = new FutureResponseListener(request);
+            request.send(listener);
+            return listener;
+        } catch (GardenaException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new GardenaException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Waits for the response of a request sent with {@link #sendRequest(HttpMethod, String, Object, Class)} and parses
+     * the result.
+     */
+    private <T> T getResponse(FutureResponseListener listener, Class<T> result) throws GardenaException {
+        try {
+            ContentResponse contentResponse = listener.get(config.getConnectionTimeout(), TimeUnit.SECONDS);
             int status = contentResponse.getStatus();
             if (logger.isTraceEnabled()) {
                 logger.trace("Status  : {}", status);
@@ -415,7 +460,7 @@ public class GardenaSmartImpl implements GardenaSmart {
     /**
      * Verifies the Gardena Smart Home session and reconnects if necessary.
      */
-    private void verifySession() throws GardenaException {
+    private synchronized void verifySession() throws GardenaException {
         if (session == null
                 || session.getCreated() + (config.getSessionTimeout() * 60000) <= System.currentTimeMillis()) {
             logger.trace("(Re)logging in to Gardena Smart Home");
@@ -424,6 +469,42 @@ public class GardenaSmartImpl implements GardenaSmart {
         }
     }
 
+    /**
+     * Returns the properties of the new device whose value differs from the old device. All properties are returned,
+     * if the device has been commanded since the last refresh, which has been started before the given time.
+     */
+    private List<Property> getChangedProperties(Device oldDevice, Device newDevice, long refreshStart) {
+        Long commandTime = commandedDevices.get(newDevice.getId());
+        if (commandTime != null) {
+            if (commandTime < refreshStart) {
+                commandedDevices.remove(newDevice.getId(), commandTime);
+            }
+            List<Property> allProperties = new ArrayList<Property>();
+            for (Ability ability : newDevice.getAbilities()) {
+                allProperties.addAll(ability.getProperties());
+            }
+            return allProperties;
+        }
+
+        Map<String, String> oldValues = new HashMap<String, String>();
+        for (Ability ability : oldDevice.getAbilities()) {
+            for (Property property : ability.getProperties()) {
+                oldValues.put(ability.getName() + "#" + property.getName(), property.getValue());
+            }
+        }
+
+        List<Property> changedProperties = new ArrayList<Property>();
+        for (Ability ability : newDevice.getAbilities()) {
+            for (Property property : ability.getProperties()) {
+                String key = ability.getName() + "#" + property.getName();
+                if (!oldValues.containsKey(key) || !StringUtils.equals(oldValues.get(key), property.getValue())) {
+                    changedProperties.add(property);
+                }
+            }
+        }
+        return changedProperties;
+    }
+
     /**
      * Thread which refreshes the data from Gardena Smart Home.
      */
@@ -437,10 +518,20 @@ public class GardenaSmartImpl implements GardenaSmart {
         public void run() {
             try {
                 logger.debug("Refreshing gardena device data");
+                long refreshStart = System.currentTimeMillis();
                 Map<String, Device> newDevicesById = new HashMap<String, Device>();
 
+                // request the devices of all locations at once and collect the responses afterwards
+                Map<Location, FutureResponseListener> pendingRequests = new LinkedHashMap<Location, FutureResponseListener>(
+                        allLocations.size());
                 for (Location location : allLocations) {
-                    Devices devices = loadDevices(location);
+                    pendingRequests.put(location,
+                            sendRequest(HttpMethod.GET, URL_DEVICES + location.getId(), null, Devices.class));
+                }
+
+                for (Map.Entry<Location, FutureResponseListener> pendingRequest : pendingRequests.entrySet()) {
+                    Location location = pendingRequest.getKey();
+                    Devices devices = prepareDevices(location, getResponse(pendingRequest.getValue(), Devices.class));
                     for (Device device : devices.getDevices()) {
                         if (DEVICE_CATEGORY_GATEWAY.equals(device.getCategory())) {
                             location.getDeviceIds().remove(device.getId());
@@ -466,15 +557,24 @@ public class GardenaSmartImpl implements GardenaSmart {
                 Collection<Device> newDevices = CollectionUtils.subtract(newDevicesById.values(),
                         allDevicesById.values());
 
-                // determine updated devices
-                @SuppressWarnings("unchecked")
-                Collection<Device> updatedDevices = CollectionUtils.intersection(allDevicesById.values(),
-                        newDevicesById.values());
+                // determine updated devices and their changed properties
+                Map<Device, List<Property>> updatedDevices = new LinkedHashMap<Device, List<Property>>();
+                for (Device newDevice : newDevicesById.values()) {
+                    Device oldDevice = allDevicesById.get(newDevice.getId());
+                    if (oldDevice != null) {
+                        List<Property> changedProperties = getChangedProperties(oldDevice, newDevice, refreshStart);
+                        if (!changedProperties.isEmpty()
+                                || oldDevice.isConfigurationSynchronized() != newDevice.isConfigurationSynchronized()) {
+                            updatedDevices.put(newDevice, changedProperties);
+                        }
+                    }
+                }
 
                 allDevicesById = newDevicesById;
                 newDevicesById = null;
 
                 for (Device deletedDevice : deletedDevices) {
+                    commandedDevices.remove(deletedDevice.getId());
                     eventListener.onDeviceDeleted(deletedDevice);
                 }
 
@@ -482,8 +582,8 @@ public class GardenaSmartImpl implements GardenaSmart {
                     eventListener.onNewDevice(newDevice);
                 }
 
-                for (Device updatedDevice : updatedDevices) {
-                    eventListener.onDeviceUpdated(updatedDevice);
+                for (Map.Entry<Device, List<Property>> updatedDevice : updatedDevices.entrySet()) {
+                    eventListener.onDevicePropertiesChanged(updatedDevice.getKey(), updatedDevice.getValue());
                 }
 
             } catch (GardenaException ex) {
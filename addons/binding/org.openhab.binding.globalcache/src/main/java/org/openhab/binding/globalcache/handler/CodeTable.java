@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.globalcache.handler;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+import org.eclipse.smarthome.config.core.ConfigConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link CodeTable} holds the IR and serial codes of a MAP file in the conf/transform directory. The file is
+ * read once and every code in hex format is converted to GC format when the file is read, so that looking up a code
+ * for a command is a simple map lookup. The table is reloaded when the modification time or the size of the file
+ * changes.
+ *
+ * @author agent - Initial contribution
+ * @author Mark Hilbush - Conversion of hex codes to GC format, moved from GlobalCacheHandler
+ */
+class CodeTable {
+    private final Logger logger = LoggerFactory.getLogger(CodeTable.class);
+
+    private static final String TRANSFORM_FOLDER = "transform";
+
+    private static final Pattern HEX_CODE_PATTERN = Pattern
+            .compile("0000( +[0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f])+");
+
+    private final String mapFile;
+    private final File file;
+
+    // Guarded by this
+    private Map<String, String> codes;
+    private Map<String, String> conversionErrors;
+    private long lastModified;
+    private long length;
+
+    CodeTable(String mapFile) {
+        this.mapFile = mapFile;
+        this.file = new File(ConfigConstants.getConfigFolder() + File.separator + TRANSFORM_FOLDER + File.separator
+                + mapFile);
+    }
+
+    String getMapFile() {
+        return mapFile;
+    }
+
+    /**
+     * Look up the code for a command. Codes in hex format are returned already converted to GC format.
+     *
+     * @param command the command string
+     * @return the code or null if the MAP file has no entry for the command
+     * @throws IOException if the MAP file can not be read
+     * @throws HexCodeConversionException if the entry of the command is an invalid hex code
+     */
+    synchronized String lookup(String command) throws IOException, HexCodeConversionException {
+        long currentLastModified = file.lastModified();
+        long currentLength = file.length();
+        if (codes == null || currentLastModified != lastModified || currentLength != length) {
+            load(currentLastModified, currentLength);
+        }
+
+        String error = conversionErrors.get(command);
+        if (error != null) {
+            throw new HexCodeConversionException(error);
+        }
+        return codes.get(command);
+    }
+
+    private void load(long currentLastModified, long currentLength) throws IOException {
+        codes = null;
+        conversionErrors = null;
+
+        Properties properties = new Properties();
+        try (Reader reader = new FileReader(file)) {
+            properties.load(reader);
+        }
+
+        Map<String, String> newCodes = new HashMap<>();
+        Map<String, String> newConversionErrors = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            String code = properties.getProperty(key);
+            if (isHexCode(code)) {
+                try {
+                    code = convertHexToGC(code);
+                } catch (HexCodeConversionException e) {
+                    newConversionErrors.put(key, e.getMessage());
+                    continue;
+                }
+            }
+            newCodes.put(key, code);
+        }
+
+        codes = newCodes;
+        conversionErrors = newConversionErrors;
+        lastModified = currentLastModified;
+        length = currentLength;
+        logger.debug("Loaded {} codes from map file '{}', {} hex codes could not be converted", codes.size(), mapFile,
+                conversionErrors.size());
+    }
+
+    /*
+     * Check if the string looks like a hex code; if not then assume it's GC format
+     */
+    static boolean isHexCode(String code) {
+        return HEX_CODE_PATTERN.matcher(code).find();
+    }
+
+    /*
+     * Convert a hex code IR string to a Global Cache formatted IR string
+     */
+    static String convertHexToGC(String hexCode) throws HexCodeConversionException {
+        // Magic number for converting frequency to GC format
+        final int freqConversionFactor = 4145146;
+        final int repeat = 1;
+        int frequency;
+        int sequence1Length;
+        int offset;
+
+        String[] hexCodeArray = hexCode.trim().split(" ");
+
+        if (hexCodeArray.length < 5) {
+            throw new HexCodeConversionException("Hex code is too short");
+        }
+
+        if (!hexCodeArray[0].equals("0000")) {
+            throw new HexCodeConversionException("Illegal hex code element 0, should be 0000");
+        }
+
+        try {
+            // Use magic number to get frequency
+            frequency = Math.round(freqConversionFactor / Integer.parseInt(hexCodeArray[1], 16));
+        } catch (Exception e) {
+            throw new HexCodeConversionException("Unable to convert frequency from element 1");
+        }
+
+        try {
+            // Offset is derived from sequenceLength1
+            sequence1Length = Integer.parseInt(hexCodeArray[2], 16);
+            offset = (sequence1Length * 2) + 1;
+        } catch (Exception e) {
+            throw new HexCodeConversionException("Unable to convert offset from element 2");
+        }
+
+        // sequenceLength2 (hexCodeArray[3]) is not used
+
+        StringBuilder gcCode = new StringBuilder();
+        gcCode.append(frequency);
+        gcCode.append(",");
+        gcCode.append(repeat);
+        gcCode.append(",");
+        gcCode.append(offset);
+
+        try {
+            // The remaining fields are just converted to decimal
+            for (int i = 4; i < hexCodeArray.length; i++) {
+                gcCode.append(",");
+                gcCode.append(Integer.parseInt(hexCodeArray[i], 16));
+            }
+        } catch (Exception e) {
+            throw new HexCodeConversionException("Unable to convert remaining hex code string");
+        }
+
+        return gcCode.toString();
+    }
+
+    /**
+     * The {@link HexCodeConversionException} class is responsible for
+     *
+     * @author Mark Hilbush - Initial contribution
+     */
+    static class HexCodeConversionException extends Exception {
+        private static final long serialVersionUID = -4422352677677729196L;
+
+        public HexCodeConversionException(String message) {
+            super(message);
+        }
+    }
+}
@@ -25,12 +25,15 @@ import java.net.SocketException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.net.UnknownHostException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Set;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
@@ -50,6 +53,8 @@ import org.eclipse.smarthome.core.transform.TransformationService;
 import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.openhab.binding.globalcache.GlobalCacheBindingConstants.CommandType;
+import org.openhab.binding.globalcache.handler.CodeTable.HexCodeConversionException;
+import org.openhab.binding.globalcache.internal.command.AbstractCommand;
 import org.openhab.binding.globalcache.internal.command.CommandGetstate;
 import org.openhab.binding.globalcache.internal.command.CommandGetversion;
 import org.openhab.binding.globalcache.internal.command.CommandSendir;
@@ -79,6 +84,9 @@ public class GlobalCacheHandler extends BaseThingHandler {
 
     private LinkedBlockingQueue<RequestMessage> sendQueue = null;
 
+    // IR and serial codes of the MAP file
+    private volatile CodeTable codeTable;
+
     // IR transaction counter
     private AtomicInteger irCounter;
 
@@ -114,6 +122,7 @@ public class GlobalCacheHandler extends BaseThingHandler {
     @Override
     public void dispose() {
         logger.debug("Disposing thing {}", thingID());
+        codeTable = null;
         commandProcessor.terminate();
         if (scheduledFuture != null) {
             scheduledFuture.cancel(false);
@@ -245,6 +254,38 @@ public class GlobalCacheHandler extends BaseThingHandler {
             return null;
         }
 
+        CodeTable table = codeTable;
+        if (table == null || !table.getMapFile().equals(mapFile)) {
+            table = new CodeTable(mapFile);
+            codeTable = table;
+        }
+
+        String code;
+        try {
+            code = table.lookup(command.toString());
+        } catch (IOException e) {
+            logger.debug("Unable to read map file '{}' for thing {}, using MAP transformation: {}", mapFile,
+                    thingID(), e.getMessage());
+            return transformCode(command, mapFile);
+        } catch (HexCodeConversionException e) {
+            logger.info("Failed to convert hex code to globalcache format: {}", e.getMessage());
+            return null;
+        }
+
+        if (StringUtils.isEmpty(code)) {
+            logger.warn("No entry for {} in map file '{}' for thing {}", command, mapFile, thingID());
+            return null;
+        }
+
+        logger.debug("Looked up {} for thing {} in map file '{}'", command, thingID(), mapFile);
+        return code;
+    }
+
+    /*
+     * Transform the command using the MAP transformation service. This is used when the MAP file can not be read
+     * from the transform directory.
+     */
+    private String transformCode(Command command, String mapFile) {
         TransformationService transformService = TransformationHelper.getTransformationService(bundleContext, "MAP");
         if (transformService == null) {
             logger.error("Failed to get MAP transformation service for thing {}; is bundle installed?", thingID());
@@ -269,10 +310,10 @@ public class GlobalCacheHandler extends BaseThingHandler {
         logger.debug("Transformed {} for thing {} with map file '{}'", command, thingID(), mapFile);
 
         // Determine if the code is hex format. If so, convert to GC format
-        if (isHexCode(code)) {
+        if (CodeTable.isHexCode(code)) {
             logger.debug("Code is in hex format, convert to GC format");
             try {
-                code = convertHexToGC(code);
+                code = CodeTable.convertHexToGC(code);
                 logger.debug("Converted hex code is: {}", code);
             } catch (HexCodeConversionException e) {
                 logger.info("Failed to convert hex code to globalcache format: {}", e.getMessage());
@@ -282,72 +323,6 @@ public class GlobalCacheHandler extends BaseThingHandler {
         return code;
     }
 
-    /*
-     * Check if the string looks like a hex code; if not then assume it's GC format
-     */
-    private boolean isHexCode(String code) {
-        Pattern pattern = Pattern.compile("0000( +[0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f][0-9A-Fa-f])+");
-        return pattern.matcher(code).find();
-    }
-
-    /*
-     * Convert a hex code IR string to a Global Cache formatted IR string
-     */
-    private String convertHexToGC(String hexCode) throws HexCodeConversionException {
-        // Magic number for converting frequency to GC format
-        final int freqConversionFactor = 4145146;
-        final int repeat = 1;
-        int frequency;
-        int sequence1Length;
-        int offset;
-
-        String[] hexCodeArray = hexCode.trim().split(" ");
-
-        if (hexCodeArray.length < 5) {
-            throw new HexCodeConversionException("Hex code is too short");
-        }
-
-        if (!hexCodeArray[0].equals("0000")) {
-            throw new HexCodeConversionException("Illegal hex code element 0, should be 0000");
-        }
-
-        try {
-            // Use magic number to get frequency
-            frequency = Math.round(freqConversionFactor / Integer.parseInt(hexCodeArray[1], 16));
-        } catch (Exception e) {
-            throw new HexCodeConversionException("Unable to convert frequency from element 1");
-        }
-
-        try {
-            // Offset is derived from sequenceLength1
-            sequence1Length = Integer.parseInt(hexCodeArray[2], 16);
-            offset = (sequence1Length * 2) + 1;
-        } catch (Exception e) {
-            throw new HexCodeConversionException("Unable to convert offset from element 2");
-        }
-
-        // sequenceLength2 (hexCodeArray[3]) is not used
-
-        StringBuilder gcCode = new StringBuilder();
-        gcCode.append(frequency);
-        gcCode.append(",");
-        gcCode.append(repeat);
-        gcCode.append(",");
-        gcCode.append(offset);
-
-        try {
-            // The remaining fields are just converted to decimal
-            for (int i = 4; i < hexCodeArray.length; i++) {
-                gcCode.append(",");
-                gcCode.append(Integer.parseInt(hexCodeArray[i], 16));
-            }
-        } catch (Exception e) {
-            throw new HexCodeConversionException("Unable to convert remaining hex code string");
-        }
-
-        return gcCode.toString();
-    }
-
     public static String getAsHexString(byte[] b) {
         StringBuilder sb = new StringBuilder();
 
@@ -415,25 +390,17 @@ public class GlobalCacheHandler extends BaseThingHandler {
         return thing.getStatusInfo().getStatusDetail();
     }
 
-    /**
-     * The {@link HexCodeConversionException} class is responsible for
-     *
-     * @author Mark Hilbush - Initial contribution
-     */
-    private class HexCodeConversionException extends Exception {
-        private static final long serialVersionUID = -4422352677677729196L;
-
-        public HexCodeConversionException(String message) {
-            super(message);
-        }
-    }
-
     /**
      * The {@link CommandProcessor} class is responsible for handling communication with the GlobalCache
-     * device. It waits for requests to arrive on a queue. When a request arrives, it sends the command to the
-     * GlobalCache device, waits for a response from the device, parses the response, then responds to the caller by
-     * placing a message in a response queue. Device response time is typically well below 100 ms, hence the reason
-     * fgor a relatively low timeout when reading the response queue.
+     * device. It waits for requests to arrive on a queue. When a request arrives, it is added to the pending
+     * requests, from which it is sent to the GlobalCache device as soon as no other request for the same module and
+     * connector is waiting for its reply. Thus commands for different connectors are in flight at the same time, while
+     * the commands for one connector are sent in the order they were queued. Commands which are not addressed to a
+     * connector (e.g. getversion) are only sent when no other command is in flight.
+     *
+     * The {@link ReplyReader} reads the replies from the device, matches them to the commands in flight by their
+     * module:connector address, and completes the response future of the command. Device response time is typically
+     * well below 100 ms, hence the reason for a relatively low timeout when waiting for the reply.
      *
      * @author Mark Hilbush - Initial contribution
      */
@@ -448,6 +415,15 @@ public class GlobalCacheHandler extends BaseThingHandler {
 
         private ConnectionManager connectionManager;
 
+        // Guards the pending and in flight requests, and the writes to the device
+        private final Object lock = new Object();
+
+        // Requests not sent yet, in the order they were queued
+        private final LinkedList<RequestMessage> pendingRequests = new LinkedList<RequestMessage>();
+
+        // Requests sent to the device and waiting for the reply, in the order they were sent
+        private final LinkedList<InFlightRequest> inFlightRequests = new LinkedList<InFlightRequest>();
+
         public CommandProcessor() {
             super("GlobalCache Command Processor");
             sendQueue = new LinkedBlockingQueue<RequestMessage>(SEND_QUEUE_MAX_DEPTH);
@@ -470,7 +446,9 @@ public class GlobalCacheHandler extends BaseThingHandler {
         public void run() {
             logger.debug("Command processor STARTING for thing {} at IP {}", thingID(), getIP());
             connectionManager = new ConnectionManager();
-            connectionManager.connect();
+            synchronized (lock) {
+                connectionManager.connect();
+            }
             connectionManager.scheduleConnectionMonitorJob();
             sendQueue.clear();
             terminate = false;
@@ -478,41 +456,21 @@ public class GlobalCacheHandler extends BaseThingHandler {
             try {
                 RequestMessage requestMessage;
                 while (!terminate) {
-                    requestMessage = sendQueue.poll(SEND_QUEUE_TIMEOUT, TimeUnit.MILLISECONDS);
-                    if (requestMessage != null) {
-                        if (requestMessage.getCommandName().equals(TERMINATE_COMMAND)) {
-                            logger.debug("Processor for thing {} received terminate message", thingID());
-                            break;
-                        }
+                    requestMessage = sendQueue.poll(getPollTimeout(), TimeUnit.MILLISECONDS);
+                    if (requestMessage != null && requestMessage.getCommandName().equals(TERMINATE_COMMAND)) {
+                        logger.debug("Processor for thing {} received terminate message", thingID());
+                        break;
+                    }
 
-                        String deviceReply;
-                        connectionManager.connect();
-                        if (connectionManager.isConnected()) {
-                            try {
-                                long startTime = System.currentTimeMillis();
-                                if (requestMessage.isCommand()) {
-                                    writeCommandToDevice(requestMessage);
-                                    deviceReply = readReplyFromDevice(requestMessage);
-                                } else {
-                                    writeSerialToDevice(requestMessage);
-                                    deviceReply = "successful";
-                                }
-                                long endTime = System.currentTimeMillis();
-                                logger.debug("Transaction '{}' for thing {} at {} took {} ms",
-                                        requestMessage.getCommandName(), thingID(), getIP(), endTime - startTime);
-
-                            } catch (IOException e) {
-                                logger.error("Comm error for thing {} at {}: {}", thingID(), getIP(), e.getMessage());
-                                deviceReply = "ERROR: " + e.getMessage();
-                                connectionManager.setCommError(deviceReply);
-                                connectionManager.disconnect();
-                            }
-                        } else {
-                            deviceReply = "ERROR: " + "No connection to device";
+                    synchronized (lock) {
+                        if (requestMessage != null) {
+                            pendingRequests.add(requestMessage);
+                        }
+                        expireInFlightRequests();
+                        if (!pendingRequests.isEmpty()) {
+                            connectionManager.connect();
+                            sendPendingRequests();
                         }
-
-                        logger.trace("Processor for thing {} queuing response message: {}", thingID(), deviceReply);
-                        requestMessage.getReceiveQueue().put(new ResponseMessage(deviceReply));
                     }
                 }
             } catch (InterruptedException e) {
@@ -521,11 +479,234 @@ public class GlobalCacheHandler extends BaseThingHandler {
             }
 
             connectionManager.cancelConnectionMonitorJob();
-            connectionManager.disconnect();
-            connectionManager = null;
+            synchronized (lock) {
+                connectionManager.disconnect();
+                failRequests("ERROR: " + "Command processor terminated", null);
+                connectionManager = null;
+            }
             logger.debug("Command processor TERMINATING for thing {} at IP {}", thingID(), getIP());
         }
 
+        /*
+         * Wait for the next request at most until the oldest request in flight times out.
+         */
+        private long getPollTimeout() {
+            synchronized (lock) {
+                if (inFlightRequests.isEmpty()) {
+                    return SEND_QUEUE_TIMEOUT;
+                }
+                long timeout = inFlightRequests.getFirst().sendTime + AbstractCommand.RESPONSE_TIMEOUT
+                        - System.currentTimeMillis();
+                return Math.max(1, Math.min(timeout, SEND_QUEUE_TIMEOUT));
+            }
+        }
+
+        /*
+         * Send every pending request whose connector is not busy. Must be called holding the lock.
+         */
+        private void sendPendingRequests() {
+            expirePendingRequests();
+            if (!connectionManager.isConnected()) {
+                // Fail the pending requests, so that the callers don't need to wait for the timeout
+                failRequests("ERROR: " + "No connection to device", null);
+                return;
+            }
+
+            Set<String> busyAddresses = new HashSet<String>();
+            for (InFlightRequest inFlight : inFlightRequests) {
+                if (inFlight.address == null) {
+                    // A command not addressed to a connector is in flight, its reply can't be matched otherwise
+                    return;
+                }
+                busyAddresses.add(inFlight.address);
+            }
+
+            Iterator<RequestMessage> iterator = pendingRequests.iterator();
+            while (iterator.hasNext()) {
+                RequestMessage requestMessage = iterator.next();
+                String address = requestMessage.getConnectorAddress();
+                if (address == null) {
+                    // Send only when nothing else is in flight, and don't send any later request before it
+                    if (inFlightRequests.isEmpty() && busyAddresses.isEmpty()) {
+                        iterator.remove();
+                        sendRequest(requestMessage, address);
+                    }
+                    return;
+                }
+                if (!busyAddresses.add(address)) {
+                    // Keep the order of the requests for this connector
+                    continue;
+                }
+                iterator.remove();
+                if (!sendRequest(requestMessage, address)) {
+                    // The connection is lost
+                    failRequests("ERROR: " + "No connection to device", null);
+                    return;
+                }
+            }
+        }
+
+        /*
+         * Write the request to the device. Serial requests are completed immediately, as the device does not reply to
+         * them. Returns false if the connection failed.
+         */
+        private boolean sendRequest(RequestMessage requestMessage, String address) {
+            long startTime = System.currentTimeMillis();
+            try {
+                if (requestMessage.isCommand()) {
+                    InFlightRequest inFlight = new InFlightRequest(requestMessage, address,
+                            connectionManager.getReplyReader(), startTime);
+                    inFlightRequests.add(inFlight);
+                    writeCommandToDevice(requestMessage);
+                } else {
+                    writeSerialToDevice(requestMessage);
+                    logger.debug("Transaction '{}' for thing {} at {} took {} ms", requestMessage.getCommandName(),
+                            thingID(), getIP(), System.currentTimeMillis() - startTime);
+                    completeRequest(requestMessage, "successful");
+                }
+                return true;
+
+            } catch (IOException e) {
+                logger.error("Comm error for thing {} at {}: {}", thingID(), getIP(), e.getMessage());
+                String deviceReply = "ERROR: " + e.getMessage();
+                if (!requestMessage.isCommand()) {
+                    completeRequest(requestMessage, deviceReply);
+                }
+                connectionManager.setCommError(deviceReply);
+                connectionManager.disconnect();
+                failRequests(deviceReply, null);
+                return false;
+            }
+        }
+
+        /*
+         * Match a reply from the device to a request in flight by its module:connector address. Replies without an
+         * address (e.g. version or unknowncommand) are immediate replies to the request sent last.
+         */
+        private void handleReply(String deviceReply, ReplyReader replyReader) {
+            synchronized (lock) {
+                InFlightRequest match = null;
+                String address = new ResponseMessage(deviceReply).getConnectorAddress();
+                if (address != null) {
+                    for (InFlightRequest inFlight : inFlightRequests) {
+                        if (address.equals(inFlight.address)) {
+                            match = inFlight;
+                            break;
+                        }
+                    }
+                }
+                if (match == null && !inFlightRequests.isEmpty()) {
+                    InFlightRequest last = inFlightRequests.getLast();
+                    if (address == null || last.address == null) {
+                        match = last;
+                    }
+                }
+
+                if (match == null || match.replyReader != replyReader) {
+                    logger.debug("Processor for thing {} got unexpected reply: {}", thingID(), deviceReply);
+                    return;
+                }
+
+                inFlightRequests.remove(match);
+                logger.debug("Transaction '{}' for thing {} at {} took {} ms", match.request.getCommandName(),
+                        thingID(), getIP(), System.currentTimeMillis() - match.sendTime);
+                completeRequest(match.request, deviceReply);
+
+                // The connector is free again
+                if (!pendingRequests.isEmpty() && connectionManager != null && connectionManager.isConnected()) {
+                    sendPendingRequests();
+                }
+            }
+        }
+
+        /*
+         * Close the connection after the reply reader failed to read from it.
+         */
+        private void handleCommError(ReplyReader replyReader, String errorMessage) {
+            synchronized (lock) {
+                if (connectionManager != null && connectionManager.getReplyReader() == replyReader) {
+                    connectionManager.setCommError(errorMessage);
+                    connectionManager.disconnect();
+                }
+            }
+        }
+
+        /*
+         * Fail the requests in flight, which were sent over the connection of the reply reader, because they won't
+         * get a reply.
+         */
+        private void handleReplyReaderStopped(ReplyReader replyReader, String errorMessage) {
+            synchronized (lock) {
+                Iterator<InFlightRequest> iterator = inFlightRequests.iterator();
+                while (iterator.hasNext()) {
+                    InFlightRequest inFlight = iterator.next();
+                    if (inFlight.replyReader == replyReader) {
+                        iterator.remove();
+                        completeRequest(inFlight.request, errorMessage);
+                    }
+                }
+            }
+        }
+
+        /*
+         * Fail the requests in flight, which didn't get a reply in time. Their connector may be used again.
+         */
+        private void expireInFlightRequests() {
+            long now = System.currentTimeMillis();
+            Iterator<InFlightRequest> iterator = inFlightRequests.iterator();
+            while (iterator.hasNext()) {
+                InFlightRequest inFlight = iterator.next();
+                if (now - inFlight.sendTime >= AbstractCommand.RESPONSE_TIMEOUT) {
+                    logger.debug("Processor for thing {} got no reply for '{}'", thingID(),
+                            inFlight.request.getCommandName());
+                    iterator.remove();
+                    completeRequest(inFlight.request, "ERROR: " + "Timed out waiting for reply from device");
+                }
+            }
+        }
+
+        /*
+         * Drop the pending requests, whose caller has stopped waiting for the response. They must not be sent
+         * anymore.
+         */
+        private void expirePendingRequests() {
+            long now = System.currentTimeMillis();
+            Iterator<RequestMessage> iterator = pendingRequests.iterator();
+            while (iterator.hasNext()) {
+                RequestMessage requestMessage = iterator.next();
+                if (now - requestMessage.getQueueTime() >= AbstractCommand.RESPONSE_TIMEOUT) {
+                    logger.debug("Processor for thing {} dropped '{}', it was not sent in time", thingID(),
+                            requestMessage.getCommandName());
+                    iterator.remove();
+                    completeRequest(requestMessage, "ERROR: " + "Timed out waiting for connector");
+                }
+            }
+        }
+
+        /*
+         * Fail all pending requests and the requests in flight of the given reply reader (all if null).
+         */
+        private void failRequests(String errorMessage, ReplyReader replyReader) {
+            for (RequestMessage requestMessage : pendingRequests) {
+                completeRequest(requestMessage, errorMessage);
+            }
+            pendingRequests.clear();
+
+            Iterator<InFlightRequest> iterator = inFlightRequests.iterator();
+            while (iterator.hasNext()) {
+                InFlightRequest inFlight = iterator.next();
+                if (replyReader == null || inFlight.replyReader == replyReader) {
+                    iterator.remove();
+                    completeRequest(inFlight.request, errorMessage);
+                }
+            }
+        }
+
+        private void completeRequest(RequestMessage requestMessage, String deviceReply) {
+            logger.trace("Processor for thing {} completing response message: {}", thingID(), deviceReply);
+            requestMessage.getResponse().complete(new ResponseMessage(deviceReply));
+        }
+
         /*
          * Write the command to the device.
          */
@@ -542,21 +723,6 @@ public class GlobalCacheHandler extends BaseThingHandler {
             connectionManager.getCommandOut().flush();
         }
 
-        /*
-         * Read command reply from the device, then remove the CR at the end of the line.
-         */
-        private String readReplyFromDevice(RequestMessage requestMessage) throws IOException {
-            logger.trace("Processor for thing {} reading reply from device", thingID());
-
-            if (connectionManager.getCommandIn() == null) {
-                logger.debug("Error reading from device because input stream object is null");
-                return "ERROR: BufferedReader is null!";
-            }
-
-            logger.trace("Processor for thing {} reading response from device", thingID());
-            return connectionManager.getCommandIn().readLine().trim();
-        }
-
         /*
          * Write a serial command to the device
          */
@@ -575,6 +741,93 @@ public class GlobalCacheHandler extends BaseThingHandler {
         }
     }
 
+    /*
+     * The {@link InFlightRequest} class stores a request, which has been sent to the device and waits for its reply.
+     *
+     * @author agent - Initial contribution
+     */
+    private class InFlightRequest {
+        private final RequestMessage request;
+        private final String address;
+        private final ReplyReader replyReader;
+        private final long sendTime;
+
+        InFlightRequest(RequestMessage request, String address, ReplyReader replyReader, long sendTime) {
+            this.request = request;
+            this.address = address;
+            this.replyReader = replyReader;
+            this.sendTime = sendTime;
+        }
+    }
+
+    /*
+     * The {@link ReplyReader} class reads the replies from the command connection, and passes them to the
+     * command processor. A reply reader is started for every connection to the device.
+     *
+     * @author agent - Initial contribution
+     */
+    private class ReplyReader {
+        private Logger logger = LoggerFactory.getLogger(ReplyReader.class);
+
+        private BufferedReader commandIn;
+        private ScheduledFuture<?> replyReaderJob;
+        private volatile boolean terminateReplyReader;
+
+        private Runnable replyReaderRunnable = new Runnable() {
+            @Override
+            public void run() {
+                replyReader();
+            }
+        };
+
+        ReplyReader(BufferedReader commandIn) {
+            if (commandIn == null) {
+                throw new IllegalArgumentException("Command input stream is not set");
+            }
+            this.commandIn = commandIn;
+            replyReaderJob = null;
+            terminateReplyReader = false;
+        }
+
+        public void start() {
+            replyReaderJob = scheduledExecutorService.schedule(replyReaderRunnable, 0, TimeUnit.SECONDS);
+        }
+
+        public void stop() {
+            terminateReplyReader = true;
+            if (replyReaderJob != null) {
+                replyReaderJob.cancel(false);
+                replyReaderJob = null;
+            }
+        }
+
+        private void replyReader() {
+            logger.debug("Reply reader RUNNING for {} on {}", thingID(), getIP());
+
+            String errorMessage = "ERROR: " + "Connection to device closed";
+            while (!terminateReplyReader) {
+                try {
+                    String line = commandIn.readLine();
+                    if (line == null) {
+                        throw new IOException("Unexpected end of stream");
+                    }
+                    String deviceReply = line.trim();
+                    logger.trace("Reply reader for thing {} got reply: {}", thingID(), deviceReply);
+                    commandProcessor.handleReply(deviceReply, this);
+                } catch (IOException e) {
+                    if (!terminateReplyReader) {
+                        logger.error("Comm error for thing {} at {}: {}", thingID(), getIP(), e.getMessage());
+                        errorMessage = "ERROR: " + e.getMessage();
+                        commandProcessor.handleCommError(this, errorMessage);
+                    }
+                    break;
+                }
+            }
+            commandProcessor.handleReplyReaderStopped(this, errorMessage);
+            logger.debug("Reply reader STOPPING for {} on {}", thingID(), getIP());
+        }
+    }
+
     /*
      * The {@link ConnectionManager} class is responsible for managing the state of the connections to the
      * command port and the serial port(s) of the device.
@@ -591,7 +844,9 @@ public class GlobalCacheHandler extends BaseThingHandler {
         private SerialPortReader serialReaderPort1;
         private SerialPortReader serialReaderPort2;
 
-        private boolean deviceIsConnected;
+        private ReplyReader replyReader;
+
+        private volatile boolean deviceIsConnected;
 
         private final String COMMAND_NAME = "command";
         private final String SERIAL1_NAME = "serial-1";
@@ -673,6 +928,7 @@ public class GlobalCacheHandler extends BaseThingHandler {
              */
             markThingOnline();
             deviceIsConnected = true;
+            startReplyReader();
             startSerialPortReaders();
         }
 
@@ -749,6 +1005,7 @@ public class GlobalCacheHandler extends BaseThingHandler {
             if (!isConnected()) {
                 return;
             }
+            stopReplyReader();
             commandDisconnect(commandConnection);
 
             stopSerialPortReaders();
@@ -880,10 +1137,29 @@ public class GlobalCacheHandler extends BaseThingHandler {
                 deviceIsConnected = true;
             } else {
                 logger.debug("Connection check failed for thing {} at IP {}", thingID(), commandConnection.getIP());
-                disconnect();
+                synchronized (commandProcessor.lock) {
+                    disconnect();
+                }
+            }
+        }
+
+        private void startReplyReader() {
+            replyReader = new ReplyReader(getCommandIn());
+            replyReader.start();
+        }
+
+        private void stopReplyReader() {
+            if (replyReader != null) {
+                logger.debug("Stopping reply reader for thing {} at IP {}", thingID(), commandConnection.getIP());
+                replyReader.stop();
+                replyReader = null;
             }
         }
 
+        private ReplyReader getReplyReader() {
+            return replyReader;
+        }
+
         private void startSerialPortReaders() {
             if (deviceSupportsSerialPort1()) {
                 serialReaderPort1 = startSerialPortReader(CommandType.SERIAL1, CONFIG_ENABLE_TWO_WAY_PORT_1,
@@ -8,8 +8,11 @@
  */
 package org.openhab.binding.globalcache.internal.command;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,8 +33,8 @@ public abstract class AbstractCommand implements CommandInterface {
 
     private LinkedBlockingQueue<RequestMessage> requestQueue;
 
-    private final int RESPONSE_QUEUE_MAX_DEPTH = 1;
-    private final int RESPONSE_QUEUE_TIMEOUT = 3000;
+    // Time to wait for the reply of the device
+    public static final int RESPONSE_TIMEOUT = 3000;
 
     protected Thing thing;
 
@@ -183,40 +186,39 @@ public abstract class AbstractCommand implements CommandInterface {
     }
 
     /*
-     * Place a request message onto the request queue, then wait on the response queue for the
-     * response message. The CommandHandler private class in GlobalCacheHandler.java
-     * is responsible for the actual device interaction.
+     * Place a request message onto the request queue, then wait for the response message. The CommandProcessor
+     * private class in GlobalCacheHandler.java is responsible for the actual device interaction.
      */
     private boolean sendCommand() {
-        // Create a response queue. The command processor will use this queue to return the device's reply.
-        LinkedBlockingQueue<ResponseMessage> responseQueue = new LinkedBlockingQueue<ResponseMessage>(
-                RESPONSE_QUEUE_MAX_DEPTH);
+        // Create the response future. The command processor will use it to return the device's reply.
+        CompletableFuture<ResponseMessage> response = new CompletableFuture<ResponseMessage>();
 
         // Create the request message
-        RequestMessage requestMsg = new RequestMessage(commandName, commandType, deviceCommand, responseQueue);
+        RequestMessage requestMsg = new RequestMessage(commandName, commandType, deviceCommand, response);
 
         try {
             // Put the request message on the request queue
             requestQueue.put(requestMsg);
             logger.trace("Put request on queue (depth={}), sent command '{}'", requestQueue.size(), deviceCommand);
 
-            // Wait on the response queue for the response message
-            ResponseMessage responseMsg = responseQueue.poll(RESPONSE_QUEUE_TIMEOUT, TimeUnit.MILLISECONDS);
-
-            if (responseMsg == null) {
-                createGenericError("Timed out waiting on response queue for message");
-                return false;
-            }
+            // Wait for the response message
+            ResponseMessage responseMsg = response.get(RESPONSE_TIMEOUT, TimeUnit.MILLISECONDS);
 
             deviceReply = responseMsg.getDeviceReply();
-            logger.trace("Got response message off response queue, received reply '{}'", deviceReply);
+            logger.trace("Got response message, received reply '{}'", deviceReply);
 
             if (isErrorReply(deviceReply)) {
                 return false;
             }
 
+        } catch (TimeoutException e) {
+            createGenericError("Timed out waiting for response message");
+            return false;
+        } catch (ExecutionException e) {
+            createGenericError("Failed to get response message: " + e.getMessage());
+            return false;
         } catch (InterruptedException e) {
-            createGenericError("Poll of response queue was interrupted");
+            createGenericError("Wait for response message was interrupted");
             return false;
         }
 
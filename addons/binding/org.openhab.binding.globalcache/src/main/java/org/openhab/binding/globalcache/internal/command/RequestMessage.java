@@ -8,28 +8,36 @@
  */
 package org.openhab.binding.globalcache.internal.command;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.openhab.binding.globalcache.GlobalCacheBindingConstants.CommandType;
 
 /**
  * The {@link RequestMessage} class is responsible for storing the command to be sent to the GlobalCache
- * device and for storing whether the command is serial or not.
+ * device and for storing whether the command is serial or not. The reply of the device completes the response
+ * future of the request.
  *
  * @author Mark Hilbush - Initial contribution
  */
 public class RequestMessage {
-    private LinkedBlockingQueue<ResponseMessage> rcvQueue;
+    // Matches the module:connector address of commands of the form name,m:c,...
+    private static final Pattern ADDRESS_PATTERN = Pattern.compile("^[^,]+,(\\d+:\\d+)");
+
+    private CompletableFuture<ResponseMessage> response;
     private String deviceCommand;
     private CommandType commandType;
     private String commandName;
+    private long queueTime;
 
     public RequestMessage(String commandName, CommandType commandType, String deviceCommand,
-            LinkedBlockingQueue<ResponseMessage> rcvQueue) {
+            CompletableFuture<ResponseMessage> response) {
         this.commandName = commandName;
         this.commandType = commandType;
         this.deviceCommand = deviceCommand;
-        this.rcvQueue = rcvQueue;
+        this.response = response;
+        this.queueTime = System.currentTimeMillis();
     }
 
     public String getDeviceCommand() {
@@ -60,7 +68,29 @@ public class RequestMessage {
         return commandType == CommandType.SERIAL2;
     }
 
-    public LinkedBlockingQueue<ResponseMessage> getReceiveQueue() {
-        return rcvQueue;
+    /*
+     * Returns the module:connector address the command is sent to, the name of the serial port for serial
+     * commands, or null if the command is not addressed to a connector (e.g. getversion).
+     */
+    public String getConnectorAddress() {
+        if (isSerial()) {
+            return commandType.toString();
+        }
+        if (deviceCommand == null) {
+            return null;
+        }
+        Matcher matcher = ADDRESS_PATTERN.matcher(deviceCommand);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /*
+     * Returns the time the request has been created, from which on the caller waits for the response.
+     */
+    public long getQueueTime() {
+        return queueTime;
+    }
+
+    public CompletableFuture<ResponseMessage> getResponse() {
+        return response;
     }
 }
@@ -8,6 +8,9 @@
  */
 package org.openhab.binding.globalcache.internal.command;
 
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * The {@link ResponseMessage} class is responsible for storing the raw and parsed response from the
  * GlobalCache device.
@@ -16,12 +19,26 @@ package org.openhab.binding.globalcache.internal.command;
  */
 public class ResponseMessage {
 
+    // Matches the module:connector address of replies like completeir,m:c,id or ERR_m:c,eee
+    private static final Pattern ADDRESS_PATTERN = Pattern.compile("^[^,]*[,_](\\d+:\\d+)");
+
     private String deviceReply;
 
     public ResponseMessage(String deviceReply) {
         this.deviceReply = deviceReply;
     }
 
+    /*
+     * Returns the module:connector address the reply refers to, or null if the reply does not contain an address.
+     */
+    public String getConnectorAddress() {
+        if (deviceReply == null) {
+            return null;
+        }
+        Matcher matcher = ADDRESS_PATTERN.matcher(deviceReply);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
     public String getDeviceReply() {
         return deviceReply;
     }
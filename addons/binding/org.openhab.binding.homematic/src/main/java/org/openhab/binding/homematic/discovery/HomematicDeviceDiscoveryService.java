@@ -109,6 +109,7 @@ public class HomematicDeviceDiscoveryService extends AbstractDiscoveryService {
                         final HomematicGateway gateway = bridgeHandler.getGateway();
                         gateway.loadAllDeviceMetadata();
                         bridgeHandler.getTypeGenerator().validateFirmwares();
+                        bridgeHandler.getTypeGenerator().persistTypes();
                         logger.debug("Finished Homematic device discovery scan on gateway '{}'", gateway.getId());
                     } catch (Throwable ex) {
                         logger.error("{}", ex.getMessage(), ex);
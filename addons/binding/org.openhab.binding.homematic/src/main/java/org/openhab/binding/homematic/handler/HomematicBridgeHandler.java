@@ -9,7 +9,9 @@
 package org.openhab.binding.homematic.handler;
 
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
@@ -268,7 +270,7 @@ public class HomematicBridgeHandler extends BaseBridgeHandler implements Homemat
      */
     @Override
     public void onServerRestart() {
-        reloadAllDeviceValues();
+        gateway.scheduleAllDeviceValuesReload();
     }
 
     /**
@@ -285,7 +287,7 @@ public class HomematicBridgeHandler extends BaseBridgeHandler implements Homemat
     @Override
     public void onConnectionResumed() {
         updateStatus(ThingStatus.ONLINE);
-        reloadAllDeviceValues();
+        gateway.scheduleAllDeviceValuesReload();
     }
 
     /**
@@ -325,4 +327,16 @@ public class HomematicBridgeHandler extends BaseBridgeHandler implements Homemat
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getThingAddresses() {
+        Set<String> addresses = new HashSet<String>();
+        for (Thing hmThing : getThing().getThings()) {
+            addresses.add(UidUtils.getHomematicAddress(hmThing));
+        }
+        return addresses;
+    }
+
 }
@@ -25,6 +25,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.lang.ObjectUtils;
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.openhab.binding.homematic.internal.common.HomematicConfig;
@@ -98,6 +99,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     private Map<String, HmDevice> devices = Collections.synchronizedMap(new HashMap<String, HmDevice>());
     private Map<HmInterface, TransferMode> availableInterfaces = new TreeMap<HmInterface, TransferMode>();
     private static List<VirtualDatapointHandler> virtualDatapointHandlers = new ArrayList<VirtualDatapointHandler>();
+    private DeviceReloadScheduler reloadScheduler;
     private boolean cancelLoadAllMetadata;
     private boolean initialized;
 
@@ -125,6 +127,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         this.id = id;
         this.config = config;
         this.eventListener = eventListener;
+        this.reloadScheduler = new DeviceReloadScheduler(id, this, eventListener, devices, config.getAliveInterval());
     }
 
     /**
@@ -269,6 +272,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         logger.debug("Starting connection tracker for gateway with id '{}'", id);
         connectionTrackerThread = scheduler.scheduleWithFixedDelay(new ConnectionTrackerThread(), 30,
                 CONNECTION_TRACKER_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        reloadScheduler.start(scheduler);
     }
 
     private void stopWatchdogs() {
@@ -281,6 +285,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         if (connectionTrackerThread != null) {
             connectionTrackerThread.cancel(true);
         }
+        reloadScheduler.stop();
     }
 
     /**
@@ -531,11 +536,11 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
 
     private void updateRssiInfo(String address, String datapointName, Integer value) {
         HmDatapointInfo dpInfo = new HmDatapointInfo(address, HmParamsetType.VALUES, 0, datapointName);
-        HmChannel channel;
         try {
-            channel = getDevice(dpInfo.getAddress()).getChannel(0);
-            if (channel != null) {
-                eventReceived(dpInfo, value);
+            // the RSSI values of all devices are loaded at once, only pass the changed values
+            HmDatapoint dp = getDatapoint(dpInfo);
+            if (!ObjectUtils.equals(dp.getValue(), value)) {
+                handleEvent(dpInfo, value);
             }
         } catch (HomematicClientException e) {
             // ignore
@@ -554,6 +559,14 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         eventListener.reloadDeviceValues(device);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void scheduleAllDeviceValuesReload() {
+        reloadScheduler.reloadAll();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -645,7 +658,14 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         logger.debug("Received new ({}) value '{}' for '{}' from gateway with id '{}'", className, newValue, dpInfo,
                 id);
         lastEventTime = System.currentTimeMillis();
+        reloadScheduler.eventReceived(dpInfo.getAddress());
+        handleEvent(dpInfo, newValue);
+    }
 
+    /**
+     * Updates the datapoint with the new value and notifies the listener.
+     */
+    private void handleEvent(HmDatapointInfo dpInfo, Object newValue) {
         if (echoEvents.remove(dpInfo)) {
             logger.debug("Echo event detected, ignoring '{}'", dpInfo);
         } else {
@@ -705,6 +725,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
             for (String address : addresses) {
                 logger.debug("Device '{}' removed from gateway with id '{}'", address, id);
                 HmDevice device = devices.remove(address);
+                reloadScheduler.deviceRemoved(address);
                 if (device != null) {
                     eventListener.onDeviceDeleted(device);
                 }
@@ -855,6 +876,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
                     connectionLost = true;
                     logger.warn("Connection lost on gateway '{}'", id);
                     stopClients();
+                    reloadScheduler.suspend();
                     eventListener.onConnectionLost();
                 }
                 // temporary disable EventTrackerThread
@@ -0,0 +1,272 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openhab.binding.homematic.internal.model.HmDevice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link DeviceReloadScheduler} reloads the values of devices which have been silent for longer than expected.
+ * The expected interval of each device is learned from the events the device sends, so a sensor which reports every
+ * few minutes is reloaded soon after it stops reporting, while an actor which only reports changes is rarely reloaded.
+ * If a device still sends no event after it has been reloaded, the expected interval is doubled, so a device which
+ * has only sent a short burst of events is not reloaded over and over again. Only devices with a thing are reloaded.
+ *
+ * The reloads are queued and at most one device is reloaded per tick, so the gateway never receives a burst of
+ * requests, not even if the values of all devices have to be reloaded after the RPC server has been restarted.
+ *
+ * @author agent - Initial contribution
+ */
+public class DeviceReloadScheduler {
+    private final Logger logger = LoggerFactory.getLogger(DeviceReloadScheduler.class);
+
+    // Interval in seconds in which the next queued device is reloaded
+    private static final long TICK_INTERVAL_SECONDS = 2;
+
+    // A device is stale, if it's silent for longer than its average event interval multiplied with this factor
+    private static final int STALE_FACTOR = 3;
+
+    // Upper bound of the expected interval, also used for devices which have not sent two events yet
+    private static final long MAX_EXPECTED_INTERVAL_MS = TimeUnit.HOURS.toMillis(6);
+
+    // Events closer than this belong to the same message of the device
+    private static final long MIN_EVENT_GAP_MS = 1000;
+
+    private final String gatewayId;
+    private final HomematicGateway gateway;
+    private final HomematicGatewayListener eventListener;
+    private final Map<String, HmDevice> devices;
+    private final long minExpectedInterval;
+
+    // Guarded by this
+    private final Map<String, DeviceStats> stats = new HashMap<String, DeviceStats>();
+    private final Set<String> queue = new LinkedHashSet<String>();
+    private ScheduledFuture<?> future;
+    private boolean suspended;
+
+    /**
+     * Creates the scheduler.
+     *
+     * @param gatewayId the id of the gateway
+     * @param gateway the gateway which reloads the device values
+     * @param eventListener the listener of the gateway, which knows the devices with a thing
+     * @param devices the devices of the gateway, must be a synchronized map
+     * @param aliveInterval the minimum expected interval in seconds
+     */
+    public DeviceReloadScheduler(String gatewayId, HomematicGateway gateway, HomematicGatewayListener eventListener,
+            Map<String, HmDevice> devices, int aliveInterval) {
+        this.gatewayId = gatewayId;
+        this.gateway = gateway;
+        this.eventListener = eventListener;
+        this.devices = devices;
+        this.minExpectedInterval = TimeUnit.SECONDS.toMillis(aliveInterval);
+    }
+
+    /**
+     * Starts the scheduler.
+     */
+    public synchronized void start(ScheduledExecutorService scheduler) {
+        if (future == null) {
+            logger.debug("Starting device reload scheduler for gateway with id '{}'", gatewayId);
+            future = scheduler.scheduleWithFixedDelay(new Runnable() {
+
+                @Override
+                public void run() {
+                    try {
+                        tick();
+                    } catch (Exception ex) {
+                        logger.warn("{}", ex.getMessage(), ex);
+                    }
+                }
+            }, TICK_INTERVAL_SECONDS, TICK_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Stops the scheduler and forgets all devices.
+     */
+    public synchronized void stop() {
+        if (future != null) {
+            future.cancel(true);
+            future = null;
+        }
+        stats.clear();
+        queue.clear();
+        suspended = false;
+    }
+
+    /**
+     * Called for every event of a device received from the gateway.
+     */
+    public synchronized void eventReceived(String address) {
+        long now = System.currentTimeMillis();
+        DeviceStats deviceStats = stats.get(address);
+        if (deviceStats == null) {
+            deviceStats = new DeviceStats(now);
+            stats.put(address, deviceStats);
+        }
+        deviceStats.eventReceived(now);
+    }
+
+    /**
+     * Called when a device has been deleted from the gateway.
+     */
+    public synchronized void deviceRemoved(String address) {
+        stats.remove(address);
+        queue.remove(address);
+    }
+
+    /**
+     * Suspends reloading, while the connection to the gateway is lost.
+     */
+    public synchronized void suspend() {
+        suspended = true;
+    }
+
+    /**
+     * Queues all devices with a thing for reloading and resumes reloading.
+     */
+    public void reloadAll() {
+        Set<String> thingAddresses = eventListener.getThingAddresses();
+        synchronized (this) {
+            suspended = false;
+            for (HmDevice device : getDevices()) {
+                if (thingAddresses.contains(device.getAddress())) {
+                    queue.add(device.getAddress());
+                }
+            }
+            logger.debug("Queued {} devices for reloading from gateway with id '{}'", queue.size(), gatewayId);
+        }
+    }
+
+    /**
+     * Queues the stale devices and reloads the next device from the queue.
+     */
+    private void tick() {
+        HmDevice device = null;
+        Set<String> thingAddresses = eventListener.getThingAddresses();
+        synchronized (this) {
+            if (suspended) {
+                return;
+            }
+            long now = System.currentTimeMillis();
+            for (HmDevice hmDevice : getDevices()) {
+                if (hmDevice.isGatewayExtras() || !thingAddresses.contains(hmDevice.getAddress())) {
+                    continue;
+                }
+                DeviceStats deviceStats = stats.get(hmDevice.getAddress());
+                if (deviceStats == null) {
+                    // values have been loaded with the device
+                    stats.put(hmDevice.getAddress(), new DeviceStats(now));
+                } else if (deviceStats.isStale(now) && queue.add(hmDevice.getAddress())) {
+                    logger.debug("Device '{}' is silent since {} seconds, expected interval is {} seconds",
+                            hmDevice.getAddress(), deviceStats.getSilentTime(now) / 1000,
+                            deviceStats.getExpectedInterval() / 1000);
+                }
+            }
+
+            while (device == null && !queue.isEmpty()) {
+                String address = queue.iterator().next();
+                queue.remove(address);
+                device = devices.get(address);
+            }
+            if (device != null) {
+                DeviceStats deviceStats = stats.get(device.getAddress());
+                if (deviceStats == null) {
+                    stats.put(device.getAddress(), new DeviceStats(now));
+                } else {
+                    deviceStats.reloaded(now);
+                }
+            }
+        }
+
+        if (device != null) {
+            gateway.triggerDeviceValuesReload(device);
+        }
+    }
+
+    private List<HmDevice> getDevices() {
+        synchronized (devices) {
+            return new ArrayList<HmDevice>(devices.values());
+        }
+    }
+
+    /**
+     * The event statistics of a device.
+     */
+    private class DeviceStats {
+        private long lastEvent;
+        private long lastReload;
+        private long averageInterval;
+
+        public DeviceStats(long now) {
+            this.lastReload = now;
+        }
+
+        /**
+         * Updates the average event interval.
+         */
+        public void eventReceived(long now) {
+            if (lastEvent > 0) {
+                long interval = now - lastEvent;
+                if (interval < MIN_EVENT_GAP_MS) {
+                    return;
+                }
+                averageInterval = averageInterval == 0 ? interval : (averageInterval * 3 + interval) / 4;
+            }
+            lastEvent = now;
+        }
+
+        /**
+         * Doubles the expected interval, if the device has not sent an event since the last reload.
+         */
+        public void reloaded(long now) {
+            if (averageInterval > 0 && lastReload > lastEvent) {
+                averageInterval = Math.min(MAX_EXPECTED_INTERVAL_MS, getExpectedInterval() * 2) / STALE_FACTOR;
+            }
+            lastReload = now;
+        }
+
+        /**
+         * Returns the interval in which an event or reload is expected.
+         */
+        public long getExpectedInterval() {
+            if (averageInterval == 0) {
+                return MAX_EXPECTED_INTERVAL_MS;
+            }
+            return Math.min(MAX_EXPECTED_INTERVAL_MS, Math.max(minExpectedInterval, averageInterval * STALE_FACTOR));
+        }
+
+        /**
+         * Returns true, if neither an event has been received nor the values have been reloaded within the expected
+         * interval.
+         */
+        public boolean isStale(long now) {
+            return getSilentTime(now) > getExpectedInterval();
+        }
+
+        /**
+         * Returns the time since the last event or reload.
+         */
+        public long getSilentTime(long now) {
+            return now - Math.max(lastEvent, lastReload);
+        }
+    }
+}
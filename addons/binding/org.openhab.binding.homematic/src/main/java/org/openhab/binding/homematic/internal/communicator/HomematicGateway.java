@@ -64,6 +64,11 @@ public interface HomematicGateway {
      */
     public void triggerDeviceValuesReload(HmDevice device);
 
+    /**
+     * Reloads the values of all devices with a thing one after the other, so the gateway is not flooded with requests.
+     */
+    public void scheduleAllDeviceValuesReload();
+
     /**
      * Sends the datapoint to the Homematic gateway or executes virtual datapoints.
      */
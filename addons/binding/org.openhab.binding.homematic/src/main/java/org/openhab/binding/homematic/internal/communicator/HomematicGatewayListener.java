@@ -8,6 +8,8 @@
  */
 package org.openhab.binding.homematic.internal.communicator;
 
+import java.util.Set;
+
 import org.openhab.binding.homematic.internal.model.HmDatapoint;
 import org.openhab.binding.homematic.internal.model.HmDevice;
 
@@ -43,6 +45,11 @@ public interface HomematicGatewayListener {
      */
     public void reloadAllDeviceValues();
 
+    /**
+     * Returns the addresses of the devices, which have a thing.
+     */
+    public Set<String> getThingAddresses();
+
     /**
      * Called when a device has been loaded from the gateway.
      */
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.homematic.type;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.commons.lang.StringUtils;
+import org.eclipse.smarthome.config.core.ConfigDescription;
+import org.eclipse.smarthome.core.thing.ThingTypeUID;
+import org.eclipse.smarthome.core.thing.type.ChannelGroupType;
+import org.eclipse.smarthome.core.thing.type.ChannelType;
+import org.eclipse.smarthome.core.thing.type.ThingType;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.io.xml.StaxDriver;
+
+/**
+ * Stores the types generated for each device type together with the firmware of the device they have been generated
+ * for. The types are saved to a file, so after a restart they are available immediately and only have to be
+ * generated again if the firmware of the device type has changed.
+ *
+ * The file is discarded if it has been written by another version of the binding or for another locale.
+ *
+ * @author agent - Initial contribution
+ */
+public class HomematicTypeCache {
+    private final Logger logger = LoggerFactory.getLogger(HomematicTypeCache.class);
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final File file;
+    private final XStream xStream = new XStream(new StaxDriver());
+    private final String version;
+
+    // Guarded by this
+    private Map<String, Entry> entries = new LinkedHashMap<String, Entry>();
+    private boolean modified;
+
+    public HomematicTypeCache(File file) {
+        this.file = file;
+        xStream.setClassLoader(HomematicTypeCache.class.getClassLoader());
+        xStream.alias("types", Types.class);
+        xStream.alias("entry", Entry.class);
+
+        Bundle bundle = FrameworkUtil.getBundle(HomematicTypeCache.class);
+        version = String.format("%s/%s/%s", FORMAT_VERSION, bundle != null ? bundle.getVersion() : "?",
+                Locale.getDefault());
+    }
+
+    /**
+     * Loads the cached types from the file.
+     *
+     * @return the cached types of all device types
+     */
+    public synchronized Collection<Entry> load() {
+        entries.clear();
+        if (file.exists()) {
+            try (InputStream is = new FileInputStream(file)) {
+                Types types = (Types) xStream.fromXML(is);
+                if (StringUtils.equals(types.version, version) && types.entries != null) {
+                    for (Entry entry : types.entries) {
+                        entries.put(entry.thingType.getUID().getAsString(), entry);
+                    }
+                    logger.debug("Loaded {} cached ThingTypes from '{}'", entries.size(), file);
+                } else {
+                    logger.debug("Discarding ThingType cache '{}' of version {}", file, types.version);
+                }
+            } catch (Exception ex) {
+                logger.debug("Can't load ThingType cache '{}': {}", file, ex.getMessage());
+                entries.clear();
+            }
+        }
+        modified = false;
+        return new ArrayList<Entry>(entries.values());
+    }
+
+    /**
+     * Returns true, if the types of the device type have been generated for the given firmware.
+     */
+    public synchronized boolean isCurrent(ThingTypeUID thingTypeUID, String firmware) {
+        Entry entry = entries.get(thingTypeUID.getAsString());
+        return entry != null && StringUtils.equals(entry.firmware, firmware);
+    }
+
+    /**
+     * Stores the generated types of a device type.
+     */
+    public synchronized void put(String firmware, ThingType thingType, List<ChannelGroupType> channelGroupTypes,
+            List<ChannelType> channelTypes, ConfigDescription configDescription) {
+        Entry entry = new Entry();
+        entry.firmware = firmware;
+        entry.thingType = thingType;
+        entry.channelGroupTypes = new ArrayList<ChannelGroupType>(channelGroupTypes);
+        entry.channelTypes = new ArrayList<ChannelType>(channelTypes);
+        entry.configDescription = configDescription;
+        entries.put(thingType.getUID().getAsString(), entry);
+        modified = true;
+    }
+
+    /**
+     * Saves the types to the file, if they have been modified since they have been loaded or saved.
+     */
+    public synchronized void save() {
+        if (!modified) {
+            return;
+        }
+
+        Types types = new Types();
+        types.version = version;
+        types.entries = new ArrayList<Entry>(entries.values());
+
+        file.getParentFile().mkdirs();
+        try (OutputStream os = new FileOutputStream(file)) {
+            xStream.toXML(types, os);
+            modified = false;
+            logger.debug("Saved {} ThingTypes to '{}'", types.entries.size(), file);
+        } catch (Exception ex) {
+            logger.warn("Can't save ThingType cache '{}': {}", file, ex.getMessage());
+        }
+    }
+
+    /**
+     * The content of the file.
+     */
+    private static class Types {
+        private String version;
+        private List<Entry> entries;
+    }
+
+    /**
+     * The types generated for a device type.
+     */
+    public static class Entry {
+        private String firmware;
+        private ThingType thingType;
+        private List<ChannelGroupType> channelGroupTypes;
+        private List<ChannelType> channelTypes;
+        private ConfigDescription configDescription;
+
+        public ThingType getThingType() {
+            return thingType;
+        }
+
+        public List<ChannelGroupType> getChannelGroupTypes() {
+            return channelGroupTypes;
+        }
+
+        public List<ChannelType> getChannelTypes() {
+            return channelTypes;
+        }
+
+        public ConfigDescription getConfigDescription() {
+            return configDescription;
+        }
+    }
+}
@@ -32,4 +32,10 @@ public interface HomematicTypeGenerator {
      */
     public void validateFirmwares();
 
+    /**
+     * Saves the generated types, so after a restart they only have to be generated again for device types with a
+     * different firmware.
+     */
+    public void persistTypes();
+
 }
@@ -11,6 +11,7 @@ package org.openhab.binding.homematic.type;
 import static org.openhab.binding.homematic.HomematicBindingConstants.*;
 import static org.openhab.binding.homematic.internal.misc.HomematicConstants.*;
 
+import java.io.File;
 import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -25,6 +26,7 @@ import java.util.Set;
 import org.apache.commons.lang.ObjectUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang.WordUtils;
+import org.eclipse.smarthome.config.core.ConfigConstants;
 import org.eclipse.smarthome.config.core.ConfigDescription;
 import org.eclipse.smarthome.config.core.ConfigDescriptionParameter;
 import org.eclipse.smarthome.config.core.ConfigDescriptionParameterBuilder;
@@ -63,6 +65,11 @@ public class HomematicTypeGeneratorImpl implements HomematicTypeGenerator {
     private HomematicChannelTypeProvider channelTypeProvider;
     private HomematicConfigDescriptionProvider configDescriptionProvider;
     private Map<String, Set<String>> firmwaresByType = new HashMap<String, Set<String>>();
+    private HomematicTypeCache typeCache;
+    // ThingTypes which have been generated or checked against the firmware of a device since the start
+    private Set<ThingTypeUID> checkedThingTypes = new HashSet<ThingTypeUID>();
+
+    private static final String TYPE_CACHE_FILE = "homematic" + File.separator + "thing-types.xml";
 
     private static final String[] STATUS_DATAPOINT_NAMES = new String[] { DATAPOINT_NAME_UNREACH,
             DATAPOINT_NAME_CONFIG_PENDING, DATAPOINT_NAME_DEVICE_IN_BOOTLOADER, DATAPOINT_NAME_UPDATE_PENDING };
@@ -109,6 +116,20 @@ public class HomematicTypeGeneratorImpl implements HomematicTypeGenerator {
     @Override
     public void initialize() {
         MetadataUtils.initialize();
+
+        typeCache = new HomematicTypeCache(new File(ConfigConstants.getUserDataFolder(), TYPE_CACHE_FILE));
+        for (HomematicTypeCache.Entry entry : typeCache.load()) {
+            for (ChannelType channelType : entry.getChannelTypes()) {
+                channelTypeProvider.addChannelType(channelType);
+            }
+            for (ChannelGroupType groupType : entry.getChannelGroupTypes()) {
+                channelTypeProvider.addChannelGroupType(groupType);
+            }
+            if (entry.getConfigDescription() != null) {
+                configDescriptionProvider.addConfigDescription(entry.getConfigDescription());
+            }
+            thingTypeProvider.addThingType(entry.getThingType());
+        }
     }
 
     /**
@@ -119,11 +140,23 @@ public class HomematicTypeGeneratorImpl implements HomematicTypeGenerator {
         if (thingTypeProvider != null) {
             ThingTypeUID thingTypeUID = UidUtils.generateThingTypeUID(device);
             ThingType tt = thingTypeProvider.getThingType(thingTypeUID, Locale.getDefault());
-            if (tt == null || device.isGatewayExtras()) {
+
+            // the ThingType of the first device of a type may have been loaded from the cache
+            boolean firmwareChanged = false;
+            if (tt != null && !device.isGatewayExtras() && checkedThingTypes.add(thingTypeUID)) {
+                firmwareChanged = !typeCache.isCurrent(thingTypeUID, device.getFirmware());
+                if (firmwareChanged) {
+                    logger.debug("Cached ThingType for device '{}' doesn't match firmware {}", device.getType(),
+                            device.getFirmware());
+                }
+            }
+
+            if (tt == null || device.isGatewayExtras() || firmwareChanged) {
                 logger.debug("Generating ThingType for device '{}' with {} datapoints", device.getType(),
                         device.getDatapointCount());
 
                 List<ChannelGroupType> groupTypes = new ArrayList<ChannelGroupType>();
+                List<ChannelType> channelTypes = new ArrayList<ChannelType>();
                 for (HmChannel channel : device.getChannels()) {
                     List<ChannelDefinition> channelDefinitions = new ArrayList<ChannelDefinition>();
                     // generate channel
@@ -132,10 +165,11 @@ public class HomematicTypeGeneratorImpl implements HomematicTypeGenerator {
                             ChannelTypeUID channelTypeUID = UidUtils.generateChannelTypeUID(dp);
                             ChannelType channelType = channelTypeProvider.getChannelType(channelTypeUID,
                                     Locale.getDefault());
-                            if (channelType == null) {
+                            if (channelType == null || firmwareChanged) {
                                 channelType = createChannelType(dp, channelTypeUID);
                                 channelTypeProvider.addChannelType(channelType);
                             }
+                            channelTypes.add(channelType);
 
                             ChannelDefinition channelDef = new ChannelDefinition(dp.getName(), channelType.getUID());
                             channelDefinitions.add(channelDef);
@@ -146,7 +180,7 @@ public class HomematicTypeGeneratorImpl implements HomematicTypeGenerator {
                     ChannelGroupTypeUID groupTypeUID = UidUtils.generateChannelGroupTypeUID(channel);
                     ChannelGroupType groupType = channelTypeProvider.getChannelGroupType(groupTypeUID,
                             Locale.getDefault());
-                    if (groupType == null || device.isGatewayExtras()) {
+                    if (groupType == null || device.isGatewayExtras() || firmwareChanged) {
                         String groupLabel = String.format("%s",
                                 WordUtils.capitalizeFully(StringUtils.replace(channel.getType(), "_", " ")));
                         groupType = new ChannelGroupType(groupTypeUID, false, groupLabel, null, channelDefinitions);
@@ -155,8 +189,14 @@ public class HomematicTypeGeneratorImpl implements HomematicTypeGenerator {
                     }
 
                 }
-                tt = createThingType(device, groupTypes);
+                tt = createThingType(device, groupTypes, firmwareChanged);
                 thingTypeProvider.addThingType(tt);
+
+                if (!device.isGatewayExtras()) {
+                    checkedThingTypes.add(thingTypeUID);
+                    typeCache.put(device.getFirmware(), tt, groupTypes, channelTypes,
+                            configDescriptionProvider.getConfigDescription(tt.getConfigDescriptionURI(), null));
+                }
             }
             addFirmware(device);
         }
@@ -179,6 +219,14 @@ public class HomematicTypeGeneratorImpl implements HomematicTypeGenerator {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void persistTypes() {
+        typeCache.save();
+    }
+
     /**
      * Adds the firmware version for validation.
      */
@@ -197,7 +245,7 @@ public class HomematicTypeGeneratorImpl implements HomematicTypeGenerator {
     /**
      * Creates the ThingType for the given device.
      */
-    private ThingType createThingType(HmDevice device, List<ChannelGroupType> groupTypes) {
+    private ThingType createThingType(HmDevice device, List<ChannelGroupType> groupTypes, boolean regenerate) {
         String label = MetadataUtils.getDeviceName(device);
         String description = String.format("%s (%s)", label, device.getType());
 
@@ -210,7 +258,7 @@ public class HomematicTypeGeneratorImpl implements HomematicTypeGenerator {
         properties.put(Thing.PROPERTY_MODEL_ID, device.getType());
 
         URI configDescriptionURI = getConfigDescriptionURI(device);
-        if (configDescriptionProvider.getConfigDescription(configDescriptionURI, null) == null) {
+        if (regenerate || configDescriptionProvider.getConfigDescription(configDescriptionURI, null) == null) {
             generateConfigDescription(device, configDescriptionURI);
         }
 
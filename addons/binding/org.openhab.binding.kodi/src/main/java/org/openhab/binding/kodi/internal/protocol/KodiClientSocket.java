@@ -9,9 +9,16 @@
 package org.openhab.binding.kodi.internal.protocol;
 
 import java.net.URI;
-import java.util.concurrent.CountDownLatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
@@ -24,6 +31,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
@@ -32,6 +40,9 @@ import com.google.gson.JsonParser;
  * KodiClientSocket implements the low level communication to kodi through
  * websocket. Usually this communication is done through port 9090
  *
+ * Requests are multiplexed by their JSON-RPC id, so several callers can have requests in flight at the same time.
+ * Multiple requests can also be sent as one JSON-RPC batch array to save round trips.
+ *
  * @author Paul Frank
  *
  */
@@ -42,9 +53,8 @@ public class KodiClientSocket {
     private final ScheduledExecutorService scheduler;
     private static final int REQUEST_TIMEOUT_MS = 60000;
 
-    private CountDownLatch commandLatch = null;
-    private JsonObject commandResponse = null;
-    private int nextMessageId = 1;
+    private final Map<Integer, CompletableFuture<JsonElement>> pendingRequests = new ConcurrentHashMap<>();
+    private final AtomicInteger nextMessageId = new AtomicInteger(1);
 
     private boolean connected = false;
 
@@ -86,6 +96,7 @@ public class KodiClientSocket {
      * Close this connection to the kodi instance
      */
     public void close() {
+        failPendingRequests("connection closed");
         // if there is an old web socket then clean up and destroy
         if (session != null) {
             try {
@@ -138,14 +149,19 @@ public class KodiClientSocket {
         @OnWebSocketMessage
         public void onMessage(String message) {
             logger.debug("Message received from server: {}", message);
-            final JsonObject json = parser.parse(message).getAsJsonObject();
-            if (json.has("id")) {
-                logger.debug("Response received from server: {}", json);
-                int messageId = json.get("id").getAsInt();
-                if (messageId == nextMessageId - 1) {
-                    commandResponse = json;
-                    commandLatch.countDown();
+            final JsonElement element = parser.parse(message);
+            if (element.isJsonArray()) {
+                // response to a batch request
+                for (JsonElement response : element.getAsJsonArray()) {
+                    if (response.isJsonObject()) {
+                        handleResponse(response.getAsJsonObject());
+                    }
                 }
+                return;
+            }
+            final JsonObject json = element.getAsJsonObject();
+            if (json.has("id")) {
+                handleResponse(json);
             } else {
                 logger.debug("Event received from server: {}", json);
                 try {
@@ -175,6 +191,7 @@ public class KodiClientSocket {
         public void onClose(int statusCode, String reason) {
             session = null;
             connected = false;
+            failPendingRequests(reason);
             logger.debug("Closing a WebSocket due to {}", reason);
             scheduler.submit(new Runnable() {
 
@@ -190,7 +207,7 @@ public class KodiClientSocket {
         }
     }
 
-    private void sendMessage(String str) throws Exception {
+    private synchronized void sendMessage(String str) throws Exception {
         if (isConnected()) {
             logger.debug("send message: {}", str);
             session.getRemote().sendString(str);
@@ -199,38 +216,139 @@ public class KodiClientSocket {
         }
     }
 
-    public JsonElement callMethod(String methodName) {
-        return callMethod(methodName, null);
+    private void handleResponse(JsonObject json) {
+        logger.debug("Response received from server: {}", json);
+        JsonElement id = json.get("id");
+        if (id == null || id.isJsonNull()) {
+            logger.debug("Response without id received: {}", json);
+            return;
+        }
+        CompletableFuture<JsonElement> future = pendingRequests.remove(id.getAsInt());
+        if (future == null) {
+            logger.debug("No pending request found for response with id {}", id);
+            return;
+        }
+        if (json.has("error")) {
+            logger.debug("Error response received from server: {}", json.get("error"));
+        }
+        future.complete(json.get("result"));
     }
 
-    public synchronized JsonElement callMethod(String methodName, JsonObject params) {
-        try {
-            JsonObject payloadObject = new JsonObject();
-            payloadObject.addProperty("jsonrpc", "2.0");
-            payloadObject.addProperty("id", nextMessageId);
-            payloadObject.addProperty("method", methodName);
+    private void failPendingRequests(String reason) {
+        for (Integer id : pendingRequests.keySet()) {
+            CompletableFuture<JsonElement> future = pendingRequests.remove(id);
+            if (future != null) {
+                future.completeExceptionally(new IllegalStateException("Request aborted: " + reason));
+            }
+        }
+    }
+
+    private JsonObject createRequest(String methodName, JsonObject params, CompletableFuture<JsonElement> future) {
+        int messageId = nextMessageId.getAndIncrement();
+
+        JsonObject payloadObject = new JsonObject();
+        payloadObject.addProperty("jsonrpc", "2.0");
+        payloadObject.addProperty("id", messageId);
+        payloadObject.addProperty("method", methodName);
+
+        if (params != null) {
+            payloadObject.add("params", params);
+        }
+
+        pendingRequests.put(messageId, future);
+        return payloadObject;
+    }
 
-            if (params != null) {
-                payloadObject.add("params", params);
+    private void scheduleTimeout(final int messageId, final String methodName,
+            final CompletableFuture<JsonElement> future) {
+        final ScheduledFuture<?> timeoutJob = scheduler.schedule(() -> {
+            if (pendingRequests.remove(messageId, future)) {
+                future.completeExceptionally(new TimeoutException("Timeout during callMethod(" + methodName + ")"));
             }
+        }, REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        future.whenComplete((result, error) -> timeoutJob.cancel(false));
+    }
 
-            String message = mapper.toJson(payloadObject);
+    /**
+     * Sends a request without waiting for the response.
+     *
+     * @param methodName the JSON-RPC method
+     * @param params the parameters of the method, may be null
+     * @return a future which is completed with the result of the call
+     */
+    public CompletableFuture<JsonElement> callMethodAsync(String methodName, JsonObject params) {
+        CompletableFuture<JsonElement> future = new CompletableFuture<>();
+        JsonObject payloadObject = createRequest(methodName, params, future);
+        int messageId = payloadObject.get("id").getAsInt();
+        try {
+            sendMessage(mapper.toJson(payloadObject));
+            scheduleTimeout(messageId, methodName, future);
+        } catch (Exception e) {
+            pendingRequests.remove(messageId);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
 
-            commandLatch = new CountDownLatch(1);
-            commandResponse = null;
-            nextMessageId++;
+    /**
+     * Sends several requests as a single JSON-RPC batch, i.e. in one round trip.
+     *
+     * @param methodNames the JSON-RPC methods
+     * @param params the parameters of the methods, entries may be null
+     * @return the futures for the results, in the order of the given methods
+     */
+    public List<CompletableFuture<JsonElement>> callMethodsAsync(String[] methodNames, JsonObject[] params) {
+        List<CompletableFuture<JsonElement>> futures = new ArrayList<>(methodNames.length);
+        List<Integer> messageIds = new ArrayList<>(methodNames.length);
+        JsonArray batch = new JsonArray();
+        for (int i = 0; i < methodNames.length; i++) {
+            CompletableFuture<JsonElement> future = new CompletableFuture<>();
+            JsonObject payloadObject = createRequest(methodNames[i], params[i], future);
+            messageIds.add(payloadObject.get("id").getAsInt());
+            futures.add(future);
+            batch.add(payloadObject);
+        }
+        try {
+            sendMessage(mapper.toJson(batch));
+            for (int i = 0; i < methodNames.length; i++) {
+                scheduleTimeout(messageIds.get(i), methodNames[i], futures.get(i));
+            }
+        } catch (Exception e) {
+            for (int i = 0; i < methodNames.length; i++) {
+                pendingRequests.remove(messageIds.get(i));
+                futures.get(i).completeExceptionally(e);
+            }
+        }
+        return futures;
+    }
 
-            sendMessage(message);
-            if (commandLatch.await(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
-                logger.debug("callMethod returns {}", commandResponse.toString());
-                return commandResponse.get("result");
-            } else {
-                logger.error("Timeout during callMethod({}, {})", methodName, params != null ? params.toString() : "");
-                return null;
+    /**
+     * Waits for the result of a request sent by {@link #callMethodAsync(String, JsonObject)} or
+     * {@link #callMethodsAsync(String[], JsonObject[])}.
+     *
+     * @return the result or null in case of an error or a timeout
+     */
+    public JsonElement getResult(CompletableFuture<JsonElement> future) {
+        try {
+            JsonElement result = future.get(REQUEST_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            if (result != null) {
+                logger.debug("callMethod returns {}", result);
             }
+            return result;
+        } catch (TimeoutException e) {
+            logger.error("Timeout during callMethod");
+            return null;
         } catch (Exception e) {
             logger.error("Error during callMethod", e);
             return null;
         }
     }
+
+    public JsonElement callMethod(String methodName) {
+        return callMethod(methodName, null);
+    }
+
+    public JsonElement callMethod(String methodName, JsonObject params) {
+        return getResult(callMethodAsync(methodName, params));
+    }
 }
@@ -9,6 +9,8 @@
 package org.openhab.binding.kodi.internal.protocol;
 
 import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.apache.commons.lang.StringUtils;
@@ -39,7 +41,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
     private KodiClientSocket socket;
 
     private int volume = 0;
-    private KodiState currentState = KodiState.Stop;
+    private volatile KodiState currentState = KodiState.Stop;
 
     private final KodiEventListener listener;
 
@@ -168,33 +170,51 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Application.SetMute", params);
     }
 
-    private int getSpeed(int activePlayer) {
+    private JsonObject getSpeedParams(int activePlayer) {
         final String[] properties = { "speed", "position" };
 
         JsonObject params = new JsonObject();
         params.addProperty("playerid", activePlayer);
         params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetProperties", params);
+        return params;
+    }
+
+    private JsonObject getItemParams(int activePlayer) {
+        final String[] properties = { "title", "album", "artist", "director", "thumbnail", "file", "fanart",
+                "showtitle", "streamdetails", "channel", "channeltype" };
 
-        JsonObject result = response.getAsJsonObject();
-        return result.get("speed").getAsInt();
+        JsonObject params = new JsonObject();
+        params.addProperty("playerid", activePlayer);
+        params.add("properties", getJsonArray(properties));
+        return params;
     }
 
-    public synchronized void updatePlayerStatus() {
-        if (socket.isConnected()) {
+    /**
+     * Refreshes the player state. Speed and item properties of the active player are fetched with one batch request.
+     */
+    public void updatePlayerStatus() {
+        KodiClientSocket socket = this.socket;
+        if (socket != null && socket.isConnected()) {
             int activePlayer = getActivePlayer();
             if (activePlayer >= 0) {
-                int speed = getSpeed(activePlayer);
-                if (speed == 0) {
-                    updateState(KodiState.Stop);
-                } else if (speed == 1) {
-                    updateState(KodiState.Play);
-                } else if (speed < 0) {
-                    updateState(KodiState.Rewind);
-                } else {
-                    updateState(KodiState.FastForward);
+                List<CompletableFuture<JsonElement>> futures = socket.callMethodsAsync(
+                        new String[] { "Player.GetProperties", "Player.GetItem" },
+                        new JsonObject[] { getSpeedParams(activePlayer), getItemParams(activePlayer) });
+
+                JsonElement speedResponse = socket.getResult(futures.get(0));
+                if (speedResponse instanceof JsonObject) {
+                    int speed = speedResponse.getAsJsonObject().get("speed").getAsInt();
+                    if (speed == 0) {
+                        updateState(KodiState.Stop);
+                    } else if (speed == 1) {
+                        updateState(KodiState.Play);
+                    } else if (speed < 0) {
+                        updateState(KodiState.Rewind);
+                    } else {
+                        updateState(KodiState.FastForward);
+                    }
                 }
-                requestPlayerUpdate(activePlayer);
+                processPlayerItem(socket.getResult(futures.get(1)));
             } else {
                 updateState(KodiState.Stop);
             }
@@ -223,13 +243,13 @@ public class KodiConnection implements KodiClientSocketEventListener {
     }
 
     private void requestPlayerUpdate(int activePlayer) {
-        final String[] properties = { "title", "album", "artist", "director", "thumbnail", "file", "fanart",
-                "showtitle", "streamdetails", "channel", "channeltype" };
+        processPlayerItem(socket.callMethod("Player.GetItem", getItemParams(activePlayer)));
+    }
 
-        JsonObject params = new JsonObject();
-        params.addProperty("playerid", activePlayer);
-        params.add("properties", getJsonArray(properties));
-        JsonElement response = socket.callMethod("Player.GetItem", params);
+    private void processPlayerItem(JsonElement response) {
+        if (!(response instanceof JsonObject)) {
+            return;
+        }
 
         JsonObject item = ((JsonObject) response).get("item").getAsJsonObject();
 
@@ -460,7 +480,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket = null;
     }
 
-    public synchronized void updateVolume() {
+    public void updateVolume() {
         if (socket.isConnected()) {
             String[] props = { "volume", "version", "name", "muted" };
 
@@ -496,7 +516,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Player.Open", params);
     }
 
-    private synchronized JsonArray getChannelGroups(final String channelType) {
+    private JsonArray getChannelGroups(final String channelType) {
         JsonObject params = new JsonObject();
         params.addProperty("channeltype", channelType);
         JsonElement response = socket.callMethod("PVR.GetChannelGroups", params);
@@ -525,7 +545,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         return 0;
     }
 
-    private synchronized JsonArray getChannels(final int channelGroupID) {
+    private JsonArray getChannels(final int channelGroupID) {
         JsonObject params = new JsonObject();
         params.addProperty("channelgroupid", channelGroupID);
         JsonElement response = socket.callMethod("PVR.GetChannels", params);
@@ -563,7 +583,7 @@ public class KodiConnection implements KodiClientSocketEventListener {
         socket.callMethod("Player.Open", params);
     }
 
-    public synchronized void showNotification(String message) {
+    public void showNotification(String message) {
         JsonObject params = new JsonObject();
         params.addProperty("title", "openHAB");
         params.addProperty("message", message);
@@ -13,12 +13,12 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.MatchResult;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.apache.commons.lang.StringUtils;
 import org.eclipse.smarthome.config.discovery.DiscoveryService;
@@ -28,6 +28,7 @@ import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.lutron.config.IPBridgeConfig;
 import org.openhab.binding.lutron.internal.discovery.LutronDeviceDiscoveryService;
@@ -36,6 +37,7 @@ import org.openhab.binding.lutron.internal.net.TelnetSessionListener;
 import org.openhab.binding.lutron.internal.protocol.LutronCommand;
 import org.openhab.binding.lutron.internal.protocol.LutronCommandType;
 import org.openhab.binding.lutron.internal.protocol.LutronOperation;
+import org.openhab.binding.lutron.internal.protocol.LutronStatusMessage;
 import org.osgi.framework.ServiceRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,8 +48,6 @@ import org.slf4j.LoggerFactory;
  * @author Allan Tong - Initial contribution
  */
 public class IPBridgeHandler extends BaseBridgeHandler {
-    private static final Pattern STATUS_REGEX = Pattern.compile("~(OUTPUT|DEVICE|SYSTEM),([^,]+),(.*)");
-
     private static final String DB_UPDATE_DATE_FORMAT = "MM/dd/yyyy HH:mm:ss";
 
     private static final Integer MONITOR_PROMPT = 12;
@@ -71,6 +71,9 @@ public class IPBridgeHandler extends BaseBridgeHandler {
     private ScheduledFuture<?> keepAlive;
     private ScheduledFuture<?> keepAliveReconnect;
 
+    // Handlers of the things of this bridge by integration ID
+    private final ConcurrentMap<Integer, LutronHandler> handlersByIntegrationId = new ConcurrentHashMap<>();
+
     private Date lastDbUpdateDate;
     private ServiceRegistration<DiscoveryService> discoveryServiceRegistration;
 
@@ -103,6 +106,8 @@ public class IPBridgeHandler extends BaseBridgeHandler {
     public void initialize() {
         this.config = getThing().getConfiguration().as(IPBridgeConfig.class);
 
+        indexThingHandlers();
+
         if (validConfiguration(this.config)) {
             LutronDeviceDiscoveryService discovery = new LutronDeviceDiscoveryService(this);
 
@@ -271,18 +276,61 @@ public class IPBridgeHandler extends BaseBridgeHandler {
         this.sendQueue.add(command);
     }
 
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof LutronHandler) {
+            LutronHandler handler = (LutronHandler) childHandler;
+
+            // The handler may have been registered with a different integration ID before
+            this.handlersByIntegrationId.values().remove(handler);
+
+            int integrationId = getIntegrationId(handler);
+
+            if (integrationId > 0) {
+                this.handlersByIntegrationId.put(integrationId, handler);
+            }
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        this.handlersByIntegrationId.values().remove(childHandler);
+    }
+
+    private int getIntegrationId(LutronHandler handler) {
+        try {
+            return handler.getIntegrationId();
+        } catch (IllegalStateException e) {
+            // Handler is not initialized
+            return -1;
+        }
+    }
+
     private LutronHandler findThingHandler(int integrationId) {
+        LutronHandler handler = this.handlersByIntegrationId.get(integrationId);
+
+        if (handler != null && getIntegrationId(handler) == integrationId) {
+            return handler;
+        }
+
+        return null;
+    }
+
+    /**
+     * Indexes the handlers of the things, which have been initialized before this bridge, e.g. after a change of the
+     * bridge configuration. Later handlers are indexed by {@link #childHandlerInitialized(ThingHandler, Thing)}.
+     */
+    private void indexThingHandlers() {
         for (Thing thing : getThing().getThings()) {
             if (thing.getHandler() instanceof LutronHandler) {
                 LutronHandler handler = (LutronHandler) thing.getHandler();
+                int integrationId = getIntegrationId(handler);
 
-                if (handler.getIntegrationId() == integrationId) {
-                    return handler;
+                if (integrationId > 0) {
+                    this.handlersByIntegrationId.put(integrationId, handler);
                 }
             }
         }
-
-        return null;
     }
 
     private void parseUpdates() {
@@ -299,27 +347,32 @@ public class IPBridgeHandler extends BaseBridgeHandler {
                 this.keepAliveReconnect.cancel(true);
             }
 
-            Matcher matcher = STATUS_REGEX.matcher(line);
+            LutronStatusMessage message = LutronStatusMessage.parse(line);
 
-            if (matcher.find()) {
-                LutronCommandType type = LutronCommandType.valueOf(matcher.group(1));
+            if (message != null) {
+                LutronCommandType type = message.getType();
 
                 if (type == LutronCommandType.SYSTEM) {
                     // SYSTEM messages are assumed to be a response to the SYSTEM_DBEXPORTDATETIME
                     // query. The response returns the last time the device database was updated.
-                    setDbUpdateDate(matcher.group(2), matcher.group(3));
+                    setDbUpdateDate(message.getTarget(), message.getParameterString());
+
+                    continue;
+                }
+
+                int integrationId = message.getIntegrationId();
+
+                if (integrationId < 0) {
+                    this.logger.info("Ignoring message with invalid integration ID {}", line);
 
                     continue;
                 }
 
-                Integer integrationId = new Integer(matcher.group(2));
                 LutronHandler handler = findThingHandler(integrationId);
 
                 if (handler != null) {
-                    String paramString = matcher.group(3);
-
                     try {
-                        handler.handleUpdate(type, paramString.split(","));
+                        handler.handleUpdate(type, message.getParameters());
                     } catch (Exception e) {
                         this.logger.error("Error processing update", e);
                     }
@@ -392,6 +445,8 @@ public class IPBridgeHandler extends BaseBridgeHandler {
     public void dispose() {
         disconnect();
 
+        this.handlersByIntegrationId.clear();
+
         if (this.discoveryServiceRegistration != null) {
             this.discoveryServiceRegistration.unregister();
             this.discoveryServiceRegistration = null;
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.lutron.internal.protocol;
+
+/**
+ * Status message from a Lutron integration access point, of the form
+ * <code>~OUTPUT|DEVICE|SYSTEM,&lt;target&gt;,&lt;parameters&gt;</code>. The target is the integration ID for OUTPUT
+ * and DEVICE messages.
+ *
+ * The line is parsed by hand instead of using a regular expression, as the bridge sends bursts of hundreds of
+ * messages e.g. when a scene is activated.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+public class LutronStatusMessage {
+    private static final String[] NO_PARAMETERS = new String[0];
+
+    private final LutronCommandType type;
+    private final String target;
+    private final String parameterString;
+
+    private LutronStatusMessage(LutronCommandType type, String target, String parameterString) {
+        this.type = type;
+        this.target = target;
+        this.parameterString = parameterString;
+    }
+
+    /**
+     * Parses a line received from the bridge.
+     *
+     * @param line the received line
+     * @return the status message, or null if the line does not contain a status message
+     */
+    public static LutronStatusMessage parse(String line) {
+        int start = line.indexOf('~');
+
+        while (start != -1) {
+            LutronCommandType type = parseType(line, start + 1);
+
+            if (type != null) {
+                int targetStart = start + 1 + type.name().length() + 1;
+                int targetEnd = line.indexOf(',', targetStart);
+
+                if (targetEnd > targetStart) {
+                    return new LutronStatusMessage(type, line.substring(targetStart, targetEnd),
+                            line.substring(targetEnd + 1));
+                }
+            }
+
+            start = line.indexOf('~', start + 1);
+        }
+
+        return null;
+    }
+
+    private static LutronCommandType parseType(String line, int offset) {
+        if (matchesType(line, offset, LutronCommandType.OUTPUT)) {
+            return LutronCommandType.OUTPUT;
+        } else if (matchesType(line, offset, LutronCommandType.DEVICE)) {
+            return LutronCommandType.DEVICE;
+        } else if (matchesType(line, offset, LutronCommandType.SYSTEM)) {
+            return LutronCommandType.SYSTEM;
+        }
+
+        return null;
+    }
+
+    private static boolean matchesType(String line, int offset, LutronCommandType type) {
+        String name = type.name();
+
+        return line.startsWith(name, offset) && line.length() > offset + name.length()
+                && line.charAt(offset + name.length()) == ',';
+    }
+
+    public LutronCommandType getType() {
+        return this.type;
+    }
+
+    public String getTarget() {
+        return this.target;
+    }
+
+    /**
+     * Returns the integration ID of the message.
+     *
+     * @return the integration ID, or -1 if the target is not a valid integration ID
+     */
+    public int getIntegrationId() {
+        int length = this.target.length();
+
+        if (length == 0 || length > 9) {
+            return -1;
+        }
+
+        int integrationId = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = this.target.charAt(i);
+
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+
+            integrationId = integrationId * 10 + (c - '0');
+        }
+
+        return integrationId;
+    }
+
+    public String getParameterString() {
+        return this.parameterString;
+    }
+
+    /**
+     * Returns the comma separated parameters of the message. Like {@link String#split(String)}, trailing empty
+     * parameters are dropped.
+     *
+     * @return the parameters
+     */
+    public String[] getParameters() {
+        int length = this.parameterString.length();
+
+        // Trailing empty parameters are dropped
+        while (length > 0 && this.parameterString.charAt(length - 1) == ',') {
+            length--;
+        }
+
+        if (length == 0) {
+            return this.parameterString.isEmpty() ? new String[] { "" } : NO_PARAMETERS;
+        }
+
+        int count = 1;
+
+        for (int i = 0; i < length; i++) {
+            if (this.parameterString.charAt(i) == ',') {
+                count++;
+            }
+        }
+
+        String[] parameters = new String[count];
+        int start = 0;
+
+        for (int i = 0; i < count - 1; i++) {
+            int end = this.parameterString.indexOf(',', start);
+
+            parameters[i] = this.parameterString.substring(start, end);
+            start = end + 1;
+        }
+
+        parameters[count - 1] = this.parameterString.substring(start, length);
+
+        return parameters;
+    }
+}
@@ -47,7 +47,7 @@ import org.slf4j.LoggerFactory;
  * @author David Graeff <david.graeff@web.de>
  * @since 2.1
  */
-public class MilightV6SessionManager implements Runnable {
+public class MilightV6SessionManager implements Runnable, QueuedSend.SendListener {
     protected final Logger logger = LoggerFactory.getLogger(MilightV6SessionManager.class);
 
     // The used sequence number for a command will be present in the response of the iBox. This
@@ -100,7 +100,7 @@ public class MilightV6SessionManager implements Runnable {
     private long lastSessionConfirmed = 0;
     // Quits the receive thread if set to true
     private boolean willbeclosed = false;
-    // Keep track of send commands and their sequence number
+    // Keep track of send commands and their sequence number and send time, guarded by itself
     private Map<Byte, Long> used_sequence_no = new TreeMap<Byte, Long>();
     // The receive thread for all bridge responses.
     private Thread sessionThread;
@@ -136,6 +136,7 @@ public class MilightV6SessionManager implements Runnable {
         this.bridgeId = bridgeId;
         this.scheduler = scheduler;
         this.observer = observer;
+        sendQueue.setSendListener(this);
         for (int i = 0; i < 6; ++i) {
             BRIDGE_MAC[i] = Integer.valueOf(bridgeId.substring(i * 2, i * 2 + 2), 16).byteValue();
         }
@@ -186,30 +187,49 @@ public class MilightV6SessionManager implements Runnable {
         return lastSessionConfirmed;
     }
 
-    // Get the first byte of a new sequence number. Add that to a queue of used sequence numbers.
-    // The bridge response will remove the queued number. This method also checks
-    // for non confirmed sequence numbers older that 2 seconds and report them.
+    // Get the first byte of a new sequence number.
     public byte getNextSequenceNo1() {
         return fixed_seq_no;
     }
 
-    // Get the second byte of a new sequence number. Add that to a queue of used sequence numbers.
-    // The bridge response will remove the queued number. This method also checks
-    // for non confirmed sequence numbers older that 2 seconds and report them.
-    byte getNextSequenceNo2() {
+    // Get the second byte of a new sequence number.
+    synchronized byte getNextSequenceNo2() {
         byte t = sequence_no;
+        ++sequence_no;
+        return t;
+    }
+
+    /**
+     * Called by the send queue for every send packet. Commands are added to the map of used sequence numbers
+     * together with the send time. The bridge response will remove the sequence number again and the response time
+     * is reported to the send queue. This method also checks for non confirmed sequence numbers older than 2 seconds
+     * and reports them.
+     * Packets that have been replaced in the send queue by a newer command are never send and therefore never
+     * expected to be confirmed.
+     */
+    @Override
+    public void packetSent(byte[] data) {
+        // Only commands (80 .. 31) are confirmed, the registration (80 .. 33) is answered differently
+        if (data.length < 11 || data[0] != (byte) 0x80 || data[10] != 0x31) {
+            return;
+        }
         long current = System.currentTimeMillis();
-        used_sequence_no.put(t, current);
-        // Check old seq no:
-        for (Iterator<Map.Entry<Byte, Long>> it = used_sequence_no.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<Byte, Long> entry = it.next();
-            if (entry.getValue() + 2000 < current) {
-                logger.error("Command not confirmed: {}", entry.getKey());
-                it.remove();
+        int notConfirmed = 0;
+        synchronized (used_sequence_no) {
+            used_sequence_no.put(data[8], current);
+            // Check old seq no:
+            for (Iterator<Map.Entry<Byte, Long>> it = used_sequence_no.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<Byte, Long> entry = it.next();
+                if (entry.getValue() + 2000 < current) {
+                    logger.error("Command not confirmed: {}", entry.getKey());
+                    it.remove();
+                    ++notConfirmed;
+                }
             }
         }
-        ++sequence_no;
-        return t;
+        if (notConfirmed > 0) {
+            sendQueue.commandNotConfirmed();
+        }
     }
 
     // You have to call that if you are done with this object, we have to clean up
@@ -217,6 +237,7 @@ public class MilightV6SessionManager implements Runnable {
     public void dispose() {
         willbeclosed = true;
         scheduler = null;
+        sendQueue.setSendListener(null);
         if (sessionThread != null) {
             try {
                 sessionThread.join(100);
@@ -488,9 +509,15 @@ public class MilightV6SessionManager implements Runnable {
                         break;
                     }
                     // 88 00 00 00 03 SN SN 00 // two byte sequence number, we use the later one only
-                    case (byte) 0x88:
-                        used_sequence_no.remove(buffer[6]);
+                    case (byte) 0x88: {
+                        Long sendTime;
+                        synchronized (used_sequence_no) {
+                            sendTime = used_sequence_no.remove(buffer[6]);
+                        }
                         if (buffer[07] == 0) {
+                            if (sendTime != null) {
+                                sendQueue.commandConfirmed(System.currentTimeMillis() - sendTime);
+                            }
                             if (DEBUG_SESSION) {
                                 logger.debug("Confirmation received for command:{}", String.valueOf(buffer[6]));
                             }
@@ -498,6 +525,7 @@ public class MilightV6SessionManager implements Runnable {
                             logger.info("Bridge reports an error for command:{}", String.valueOf(buffer[6]));
                         }
                         break;
+                    }
                     // D8 00 00 00 07 (AC CF 23 F5 7A D4) 01
                     // Response to the keepAlive() packet
                     case (byte) 0xD8: {
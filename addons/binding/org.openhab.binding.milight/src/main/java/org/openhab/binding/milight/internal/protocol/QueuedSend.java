@@ -12,10 +12,9 @@ import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
 import java.net.SocketException;
-import java.util.Iterator;
-import java.util.NoSuchElementException;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,30 +22,66 @@ import org.slf4j.LoggerFactory;
 /**
  * This implements a queue for UDP sending, where each item to be send is associated with an id.
  * If a new item is added, that has the same id of an already queued item, it replaces the
- * queued item. This is used for milight packets, where older bridges accept commands with a 100ms
- * delay only. The user may issue absolute brightness or color changes faster than 1/10s though, and we don't
- * want to just queue up those commands but apply the newest command only.
+ * queued item at its position in the queue. This is used for milight packets, where older bridges accept commands
+ * with a 100ms delay only. The user may issue absolute brightness or color changes faster than 1/10s though, and we
+ * don't want to just queue up those commands but apply the newest command only.
+ *
+ * The packets of all queues are send by one shared thread, see {@link SendScheduler}. The delay between two packets
+ * starts with the configured delay. If the bridge confirms commands (iBox/V6 bridges, see
+ * {@link MilightV6SessionManager}), the delay is adapted to the observed response time: It shrinks while commands are
+ * confirmed quickly and doubles, if a command is not confirmed at all. The share of commands, which are not
+ * confirmed, is tracked as well: Repeatable commands are repeated more often than configured, while commands get lost,
+ * so that all repetitions of a command are lost with a probability below 1%.
  *
  * @author David Graeff <david.graeff@web.de>
  * @since 2.1
  *
  */
-public class QueuedSend implements Runnable {
+public class QueuedSend {
     private final Logger logger = LoggerFactory.getLogger(QueuedSend.class);
 
-    BlockingQueue<QueueItem> queue = new LinkedBlockingQueue<>(20);
+    private static final SendScheduler SCHEDULER = new SendScheduler();
+
+    // Commands are coalesced by their id, this limit only applies to a flood of non-categorised commands
+    private static final int MAX_QUEUE_SIZE = 100;
+    // Lower limit of the adaptive delay in ms, the upper limit is the configured delay
+    private static final int MIN_ADAPTIVE_DELAY = 10;
+    // Upper limit of the command repetitions
+    private static final int MAX_REPEAT_COMMANDS = 5;
+    // Weight of the newest confirmation in the loss rate
+    private static final double LOSS_RATE_WEIGHT = 0.1;
+    // Commands are repeated until the probability, that all repetitions are lost, is below that
+    private static final double TARGET_LOSS_RATE = 0.01;
+
+    /**
+     * Gets notified about every packet that has been send. Repetitions of a packet are not reported.
+     */
+    public interface SendListener {
+        void packetSent(byte[] data);
+    }
+
+    // Guarded by this
+    private final LinkedList<QueueItem> queue = new LinkedList<>();
+    // The command chain that is currently processed, guarded by this
+    private QueueItem current = null;
+    // System.nanoTime() after which the next packet may be send, guarded by this
+    private long nextSendTime = 0;
+
     protected final DatagramPacket packet;
     protected final DatagramSocket datagramSocket;
     private int delay_between_commands = 100;
+    // The delay adapted to command confirmations, -1 as long as no confirmation has been received
+    private int adaptive_delay = -1;
     private int repeat_commands = 1;
-    private boolean willbeclosed = false;
-    private Thread thread;
+    // Share of the commands not confirmed by the bridge, -1 as long as the bridge has not confirmed a command
+    private double loss_rate = -1;
+    private SendListener sendListener;
 
     public static final byte NO_CATEGORY = 0;
 
     /**
-     * Creates a new send queue and starts the background thread. Call setAddress and
-     * setPort before using any of the queue commands.
+     * Creates a new send queue. Call setAddress and setPort before using any of the queue commands
+     * and start() to actually send queued packets.
      *
      * @throws SocketException
      */
@@ -57,12 +92,10 @@ public class QueuedSend implements Runnable {
     }
 
     /**
-     * Start the send thread of this queue. Call dispose() to quit the thread.
+     * Start sending the packets of this queue. Call dispose() to stop sending.
      */
     public void start() {
-        willbeclosed = false;
-        thread = new Thread(this);
-        thread.start();
+        SCHEDULER.register(this);
     }
 
     public int getDelayBetweenCommands() {
@@ -74,88 +107,132 @@ public class QueuedSend implements Runnable {
     }
 
     public void setRepeatCommands(int repeat_commands) {
-        repeat_commands = Math.max(1, Math.min(5, repeat_commands));
+        repeat_commands = Math.max(1, Math.min(MAX_REPEAT_COMMANDS, repeat_commands));
         this.repeat_commands = repeat_commands;
     }
 
-    public void setDelayBetweenCommands(int ms) {
+    /**
+     * @return The number of times a repeatable command is send. This is the configured number, unless the bridge
+     *         confirms commands and the loss rate requires more repetitions.
+     */
+    public synchronized int getEffectiveRepeatCommands() {
+        if (loss_rate < TARGET_LOSS_RATE) {
+            return repeat_commands;
+        }
+        int needed = (int) Math.min(MAX_REPEAT_COMMANDS,
+                Math.ceil(Math.log(TARGET_LOSS_RATE) / Math.log(loss_rate)));
+        return Math.max(repeat_commands, needed);
+    }
+
+    public synchronized void setDelayBetweenCommands(int ms) {
         ms = Math.max(0, Math.min(400, ms));
         delay_between_commands = ms;
+        // Learn the delay again, the configured delay is the upper limit
+        adaptive_delay = -1;
+    }
+
+    public void setSendListener(SendListener sendListener) {
+        this.sendListener = sendListener;
+    }
+
+    /**
+     * The bridge confirmed a command. The delay between commands approaches twice the response time, but never
+     * exceeds the configured delay.
+     *
+     * @param responseTimeMs Time between sending the command and receiving the confirmation.
+     */
+    public synchronized void commandConfirmed(long responseTimeMs) {
+        int target = (int) Math.min(delay_between_commands, Math.max(MIN_ADAPTIVE_DELAY, 2 * responseTimeMs));
+        int delay = adaptive_delay >= 0 ? adaptive_delay : delay_between_commands;
+        int step = (target - delay) / 4;
+        adaptive_delay = step == 0 ? target : delay + step;
+        updateLossRate(false);
+    }
+
+    /**
+     * The bridge did not confirm a command in time. The delay between commands is doubled, but never exceeds the
+     * configured delay.
+     */
+    public synchronized void commandNotConfirmed() {
+        int delay = adaptive_delay >= 0 ? adaptive_delay : delay_between_commands;
+        adaptive_delay = Math.min(delay_between_commands, Math.max(MIN_ADAPTIVE_DELAY, delay * 2));
+        updateLossRate(true);
+        logger.debug("Command not confirmed by bridge {}, delay between commands is now {} ms, loss rate {}, "
+                + "repeating commands {} times", getAddr(), adaptive_delay, String.format("%.2f", loss_rate),
+                getEffectiveRepeatCommands());
+    }
+
+    private void updateLossRate(boolean lost) {
+        double sample = lost ? 1 : 0;
+        double rate = loss_rate >= 0 ? loss_rate : 0;
+        loss_rate = rate + (sample - rate) * LOSS_RATE_WEIGHT;
+    }
+
+    synchronized boolean hasPending() {
+        return current != null || !queue.isEmpty();
+    }
+
+    synchronized long getNextSendTime() {
+        return nextSendTime;
     }
 
     /**
-     * The queue process
+     * Sends the next packet of this queue. If the command belongs to a chain of commands, the next command of the
+     * chain is send before any other queued command. Called by the {@link SendScheduler} thread.
      */
-    @Override
-    public void run() {
-        QueueItem item = null;
-        while (!willbeclosed) {
-            // If the command belongs to a chain of commands, get the next command now.
-            if (item != null && item.next != null) {
-                item = item.next;
+    void sendNext() {
+        QueueItem item;
+        int repeat;
+        synchronized (this) {
+            if (current != null) {
+                item = current;
             } else {
-                try {
-                    // block/wait for another item
-                    item = queue.take();
-                } catch (InterruptedException e) {
-                    if (!willbeclosed) {
-                        logger.error("Queue take failed: {}", e.getLocalizedMessage());
-                    }
-                    break;
-                }
+                item = queue.poll();
             }
-
-            if (item == null || item.unique_command_id == QueueItem.INVALID) {
-                // Just in case it is a command chain, set the item to null to not process any chained commands.
-                item = null;
-                continue;
+            if (item == null) {
+                return;
             }
+            current = item.next;
+            repeat = item.repeatable ? getEffectiveRepeatCommands() : 1;
+        }
 
+        try {
             packet.setData(item.data);
-            try {
-                for (int i = 0; i < (item.repeatable ? repeat_commands : 1); ++i) {
-                    datagramSocket.send(packet);
-
-                    if (logger.isDebugEnabled()) {
-                        StringBuilder s = new StringBuilder();
-                        for (int c = 0; c < item.data.length; ++c) {
-                            s.append(String.format("%02X ", item.data[c]));
-                        }
-                        logger.debug("Sent packet '{}' to bridge {}", s.toString(),
-                                packet.getAddress().getHostAddress());
+            for (int i = 0; i < repeat; ++i) {
+                datagramSocket.send(packet);
+
+                if (logger.isDebugEnabled()) {
+                    StringBuilder s = new StringBuilder();
+                    for (int c = 0; c < item.data.length; ++c) {
+                        s.append(String.format("%02X ", item.data[c]));
                     }
+                    logger.debug("Sent packet '{}' to bridge {}", s.toString(), packet.getAddress().getHostAddress());
                 }
-
-            } catch (Exception e) {
-                logger.error("Failed to send Message to '{}': {}", packet.getAddress().getHostAddress(),
-                        e.getMessage());
             }
-
-            try {
-                Thread.sleep((item.custom_delay_time != 0) ? item.custom_delay_time : delay_between_commands);
-            } catch (InterruptedException e) {
-                if (!willbeclosed) {
-                    logger.error("Queue sleep failed: {}", e.getLocalizedMessage());
-                }
-                break;
+            SendListener listener = sendListener;
+            if (listener != null) {
+                listener.packetSent(item.data);
             }
+        } catch (Exception e) {
+            logger.error("Failed to send Message to '{}': {}", packet.getAddress(), e.getMessage());
         }
 
+        synchronized (this) {
+            int delay = item.custom_delay_time != 0 ? item.custom_delay_time
+                    : (adaptive_delay >= 0 ? adaptive_delay : delay_between_commands);
+            nextSendTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+        }
     }
 
     /**
-     * Once disposed, this object can't be reused anymore.
+     * Stops sending and removes all queued commands. The queue can be started again with start().
      */
     public void dispose() {
-        willbeclosed = true;
-        if (thread != null) {
-            try {
-                thread.join(delay_between_commands);
-            } catch (InterruptedException e) {
-            }
-            thread.interrupt();
+        SCHEDULER.unregister(this);
+        synchronized (this) {
+            queue.clear();
+            current = null;
         }
-        thread = null;
     }
 
     public void setRepeatTimes(int times) {
@@ -163,27 +240,31 @@ public class QueuedSend implements Runnable {
     }
 
     /**
-     * Mark all commands in the queue invalid that have the same unique id as the given one. This does not synchronise
-     * with the sender thread. If an element has been started to being processed, this method has no more effect on that
-     * element. Command chains are always executed in a row. Even if the head of the command queue has been marked
-     * as invalid, if the processing has been started, the chain will be processed completely.
-     *
-     * @param unique_command_id
+     * Adds the item to the queue. If commands with the same unique id are queued already, the first of them is
+     * replaced by the given item and the others are removed. The newest value is therefore send at the position of
+     * the oldest not yet send command with the same id. If a command chain has been started to being processed, it is
+     * completed though. Must be called with the lock held.
      */
-    private void remove_from_queue(int unique_command_id) {
-        Iterator<QueueItem> iterator = queue.iterator();
-        while (iterator.hasNext()) {
-            try {
-                QueueItem item = iterator.next();
-                if (item != null && item.unique_command_id == unique_command_id) {
-                    item.unique_command_id = QueueItem.INVALID; // invalidate
+    private void add(QueueItem item) {
+        boolean replaced = false;
+        if (item.unique_command_id != NO_CATEGORY) {
+            ListIterator<QueueItem> iterator = queue.listIterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().unique_command_id == item.unique_command_id) {
+                    if (replaced) {
+                        iterator.remove();
+                    } else {
+                        iterator.set(item);
+                        replaced = true;
+                    }
                 }
-            } catch (IllegalStateException e) {
-                // Ignore threading errors
-                logger.error("{}", e.getLocalizedMessage());
-            } catch (NoSuchElementException e) {
-                // The element might have been processed already while iterate.
-                // Ignore NoSuchElementException here.
+            }
+        }
+        if (!replaced) {
+            queue.add(item);
+            if (queue.size() > MAX_QUEUE_SIZE) {
+                queue.poll();
+                logger.warn("Too many commands for bridge {}, dropped the oldest one", getAddr());
             }
         }
     }
@@ -202,28 +283,28 @@ public class QueuedSend implements Runnable {
      * @param data Data to be send
      */
     public void queueRepeatable(int unique_command_id, byte[]... data) {
-        remove_from_queue(unique_command_id);
         QueueItem item = QueueItem.createRepeatable(unique_command_id, data[0]);
         QueueItem next = item;
         for (int i = 1; i < data.length; ++i) {
             next = next.addRepeatable(data[i]);
         }
-        queue.offer(item);
+        queue(item);
     }
 
     /**
      * Add data to the send queue.
      * You have to create your own QueueItem, but this allows to you create a chain of commands. A chain will always
-     * executed in order and without interrupting the sequence with another command. A chain will be removed completely
-     * if another command with the same category is added except if the chain has been started to be processed.
+     * executed in order and without interrupting the sequence with another command. A chain will be replaced
+     * completely if another command with the same category is added except if the chain has been started to be
+     * processed.
      *
      * @param item A queue item, cannot be null.
      */
     public void queue(QueueItem item) {
-        if (item.unique_command_id != NO_CATEGORY) {
-            remove_from_queue(item.unique_command_id);
+        synchronized (this) {
+            add(item);
         }
-        queue.offer(item);
+        SCHEDULER.wakeup();
     }
 
     public InetAddress getAddr() {
@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.milight.internal.protocol;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single thread that sends the queued packets of all started {@link QueuedSend} objects. Each queue tells the
+ * scheduler when it is allowed to send its next packet, so the thread never sleeps while one bridge waits for its
+ * delay time and another one has packets ready. Queues are served round robin, so a busy bridge can not starve the
+ * others.
+ *
+ * The thread is started with the first registered queue and quits after the last queue has been unregistered.
+ *
+ * @author agent - Initial contribution
+ */
+class SendScheduler implements Runnable {
+    private final Logger logger = LoggerFactory.getLogger(SendScheduler.class);
+
+    private final List<QueuedSend> queues = new ArrayList<>();
+    private int nextQueueIndex = 0;
+    private Thread thread;
+
+    synchronized void register(QueuedSend queue) {
+        if (!queues.contains(queue)) {
+            queues.add(queue);
+        }
+        if (thread == null) {
+            thread = new Thread(this, "ESH-milight-send");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        notifyAll();
+    }
+
+    synchronized void unregister(QueuedSend queue) {
+        queues.remove(queue);
+        notifyAll();
+    }
+
+    /**
+     * Wake up the send thread, because a queue got new packets.
+     */
+    synchronized void wakeup() {
+        notifyAll();
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            QueuedSend ready = null;
+            synchronized (this) {
+                if (queues.isEmpty()) {
+                    thread = null;
+                    return;
+                }
+
+                long now = System.nanoTime();
+                long waitNanos = Long.MAX_VALUE;
+                int size = queues.size();
+                for (int i = 0; i < size; ++i) {
+                    int index = (nextQueueIndex + i) % size;
+                    QueuedSend queue = queues.get(index);
+                    if (!queue.hasPending()) {
+                        continue;
+                    }
+                    long due = queue.getNextSendTime() - now;
+                    if (due <= 0) {
+                        ready = queue;
+                        nextQueueIndex = (index + 1) % size;
+                        break;
+                    }
+                    waitNanos = Math.min(waitNanos, due);
+                }
+
+                if (ready == null) {
+                    try {
+                        if (waitNanos == Long.MAX_VALUE) {
+                            wait();
+                        } else {
+                            // Round up, wait(0) would wait forever
+                            wait(waitNanos / 1000000 + 1);
+                        }
+                    } catch (InterruptedException e) {
+                        logger.debug("Milight send thread interrupted");
+                        thread = null;
+                        return;
+                    }
+                    continue;
+                }
+            }
+
+            // Send outside of the lock, other threads may queue packets in the meantime
+            ready.sendNext();
+        }
+    }
+}
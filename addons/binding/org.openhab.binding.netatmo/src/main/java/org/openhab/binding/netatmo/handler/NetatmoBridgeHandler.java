@@ -9,13 +9,17 @@
 package org.openhab.binding.netatmo.handler;
 
 import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.oltu.oauth2.client.request.OAuthClientRequest;
 import org.eclipse.smarthome.core.thing.Bridge;
 import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingStatus;
 import org.eclipse.smarthome.core.thing.ThingStatusDetail;
 import org.eclipse.smarthome.core.thing.binding.BaseBridgeHandler;
+import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.netatmo.config.NetatmoBridgeConfiguration;
 import org.slf4j.Logger;
@@ -37,6 +41,10 @@ import retrofit.RetrofitError;
  * to the framework. The devices and modules uses the
  * {@link NetatmoBridgeHandler} to request informations about their status
  *
+ * The station and thermostat data of all devices is requested at once and cached, so that the API is called once
+ * per refresh interval, whatever the number of devices. The bridge polls the data at the shortest refresh interval
+ * of its devices and hands it over to all of them.
+ *
  * @author Gaël L'hopital - Initial contribution OH2 version
  *
  */
@@ -48,6 +56,14 @@ public class NetatmoBridgeHandler extends BaseBridgeHandler {
     private ThermostatApi thermostatApi = null;
     private PartnerApi partnerApi = null;
 
+    private NAStationDataBody stationsDataBody;
+    private long stationsDataTime;
+    private NAThermostatDataBody thermostatsDataBody;
+    private long thermostatsDataTime;
+
+    private ScheduledFuture<?> refreshJob;
+    private long refreshInterval;
+
     public NetatmoBridgeHandler(Bridge bridge) {
         super(bridge);
     }
@@ -71,6 +87,104 @@ public class NetatmoBridgeHandler extends BaseBridgeHandler {
             }
         }
         super.initialize();
+        // The device handlers are not initialized again after a change of the bridge configuration
+        updateRefreshJob();
+    }
+
+    @Override
+    public void dispose() {
+        synchronized (this) {
+            stopRefreshJob();
+            refreshInterval = 0;
+            stationsDataBody = null;
+            stationsDataTime = 0;
+            thermostatsDataBody = null;
+            thermostatsDataTime = 0;
+        }
+        super.dispose();
+    }
+
+    @Override
+    public void childHandlerInitialized(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof NetatmoDeviceHandler) {
+            final NetatmoDeviceHandler<?> deviceHandler = (NetatmoDeviceHandler<?>) childHandler;
+            updateRefreshJob();
+            // Provide the new device with the cached data right away
+            scheduler.execute(new Runnable() {
+                @Override
+                public void run() {
+                    deviceHandler.updateFromBridge();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof NetatmoDeviceHandler) {
+            updateRefreshJob();
+        }
+    }
+
+    /**
+     * (Re)schedules the poll job at the shortest refresh interval of all device handlers, or stops it if there are
+     * no device handlers.
+     */
+    private synchronized void updateRefreshJob() {
+        long interval = 0;
+        for (Thing thing : getThing().getThings()) {
+            ThingHandler handler = thing.getHandler();
+            if (handler instanceof NetatmoDeviceHandler) {
+                NetatmoDeviceHandler<?> deviceHandler = (NetatmoDeviceHandler<?>) handler;
+                if (deviceHandler.getConfiguration() != null) {
+                    long deviceInterval = deviceHandler.getConfiguration().refreshInterval;
+                    if (deviceInterval > 0 && (interval == 0 || deviceInterval < interval)) {
+                        interval = deviceInterval;
+                    }
+                }
+            }
+        }
+
+        if (interval == refreshInterval && refreshJob != null) {
+            return;
+        }
+        stopRefreshJob();
+        refreshInterval = interval;
+        if (interval > 0) {
+            logger.debug("Scheduling the Netatmo API poll to run every {} ms", interval);
+            refreshJob = scheduler.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    pollDevices();
+                }
+            }, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void stopRefreshJob() {
+        if (refreshJob != null) {
+            refreshJob.cancel(true);
+            refreshJob = null;
+        }
+    }
+
+    /**
+     * Invalidates the cached data and lets all device handlers update. The first device of each kind triggers the
+     * API call, all others are served from the cache.
+     */
+    private void pollDevices() {
+        invalidateStationsData();
+        invalidateThermostatsData();
+        for (Thing thing : getThing().getThings()) {
+            ThingHandler handler = thing.getHandler();
+            if (handler instanceof NetatmoDeviceHandler) {
+                try {
+                    ((NetatmoDeviceHandler<?>) handler).updateFromBridge();
+                } catch (Exception e) {
+                    logger.error("Exception when updating device {} : {}", thing.getUID(), e.getMessage());
+                }
+            }
+        }
     }
 
     // We'll use TrustingOkHttpClient because Netatmo certificate is a StartTTLS
@@ -143,6 +257,57 @@ public class NetatmoBridgeHandler extends BaseBridgeHandler {
         return null;
     }
 
+    /**
+     * Returns the station data of all devices. The data is requested from the API, if the cached data is older than
+     * the given age.
+     *
+     * @param maxAge maximum age of the cached data in ms
+     * @return the station data or null, if it could not be requested
+     */
+    public synchronized NAStationDataBody getCachedStationsDataBody(long maxAge) {
+        long now = System.currentTimeMillis();
+        if (stationsDataBody == null || now - stationsDataTime >= maxAge) {
+            NAStationDataBody body = getStationsDataBody(null);
+            if (body == null) {
+                return null;
+            }
+            stationsDataBody = body;
+            stationsDataTime = now;
+        }
+        return stationsDataBody;
+    }
+
+    /**
+     * Returns the thermostat data of all devices. The data is requested from the API, if the cached data is older
+     * than the given age.
+     *
+     * @param maxAge maximum age of the cached data in ms
+     * @return the thermostat data or null, if it could not be requested
+     */
+    public synchronized NAThermostatDataBody getCachedThermostatsDataBody(long maxAge) {
+        long now = System.currentTimeMillis();
+        if (thermostatsDataBody == null || now - thermostatsDataTime >= maxAge) {
+            NAThermostatDataBody body = getThermostatsDataBody(null);
+            if (body == null) {
+                return null;
+            }
+            thermostatsDataBody = body;
+            thermostatsDataTime = now;
+        }
+        return thermostatsDataBody;
+    }
+
+    public synchronized void invalidateStationsData() {
+        stationsDataTime = 0;
+    }
+
+    /**
+     * Forces the next request for thermostat data to call the API, e.g. after a thermostat setting has been changed.
+     */
+    public synchronized void invalidateThermostatsData() {
+        thermostatsDataTime = 0;
+    }
+
     public NAThermostatDataBody getThermostatsDataBody(String equipmentId) {
         if (getThermostatApi() != null) {
             try {
@@ -10,8 +10,8 @@ package org.openhab.binding.netatmo.handler;
 
 import static org.openhab.binding.netatmo.NetatmoBindingConstants.*;
 
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.PointType;
@@ -34,6 +34,9 @@ import io.swagger.client.model.NAPlace;
  * {@link NetatmoDeviceHandler} is the handler for a given
  * device accessed through the Netatmo Bridge
  *
+ * The device is updated by the bridge, which polls the data of all devices at once. Channels of the device and its
+ * modules are only updated by the poll, if the time of the measurement or report changed.
+ *
  * @author Gaël L'hopital - Initial contribution OH2 version
  *
  */
@@ -42,7 +45,9 @@ public abstract class NetatmoDeviceHandler<X extends NetatmoDeviceConfiguration>
 
     protected NADeviceAdapter<?> device;
     private Logger logger = LoggerFactory.getLogger(NetatmoDeviceHandler.class);
-    private ScheduledFuture<?> refreshJob;
+    // Time of the data last published to the channels of the device and its modules
+    private Integer dataTimestamp;
+    private final Map<String, Integer> moduleDataTimestamps = new HashMap<>();
 
     public NetatmoDeviceHandler(Thing thing, Class<X> configurationClass) {
         super(thing, configurationClass);
@@ -57,13 +62,6 @@ public abstract class NetatmoDeviceHandler<X extends NetatmoDeviceConfiguration>
             if (getBridge().getStatus() == ThingStatus.ONLINE) {
                 logger.debug("setting device '{}' online", configuration.getEquipmentId());
                 updateStatus(ThingStatus.ONLINE);
-                logger.debug("scheduling update channel thread to run every {} ms", configuration.refreshInterval);
-                refreshJob = scheduler.scheduleWithFixedDelay(new Runnable() {
-                    @Override
-                    public void run() {
-                        updateChannels(configuration.getEquipmentId());
-                    }
-                }, 1, configuration.refreshInterval, TimeUnit.MILLISECONDS);
             } else {
                 logger.debug("setting device '{}' offline (bridge or thing offline)", configuration.getEquipmentId());
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.BRIDGE_OFFLINE);
@@ -77,24 +75,46 @@ public abstract class NetatmoDeviceHandler<X extends NetatmoDeviceConfiguration>
     @Override
     public void dispose() {
         logger.debug("Running dispose()");
-        if (refreshJob != null && !refreshJob.isCancelled()) {
-            refreshJob.cancel(true);
-            refreshJob = null;
-        }
+        dataTimestamp = null;
+        moduleDataTimestamps.clear();
     }
 
+    /**
+     * Returns the readings of the device. Implementations take them from the data cached by the bridge, which is
+     * requested again once it is older than the refresh interval of this device.
+     */
     protected abstract NADeviceAdapter<?> updateReadings(String equipmentId);
 
     @Override
     protected void updateChannels(String equipmentId) {
+        updateChannels(equipmentId, true);
+    }
+
+    /**
+     * Called by the bridge after it polled the Netatmo API. Unchanged data is not published again.
+     */
+    void updateFromBridge() {
+        if (configuration == null || getThing().getStatus() != ThingStatus.ONLINE) {
+            return;
+        }
+        updateChannels(configuration.getEquipmentId(), false);
+    }
+
+    private synchronized void updateChannels(String equipmentId, boolean force) {
         logger.debug("Trying to update channels on device {}", equipmentId);
         try {
             NADeviceAdapter<?> tmpDevice = updateReadings(equipmentId);
             if (tmpDevice != null) {
-                logger.debug("Successfully updated device readings! Now updating channels");
                 this.device = tmpDevice;
-                super.updateChannels(equipmentId);
-                updateChildModules(equipmentId);
+                Integer timestamp = tmpDevice.getDataTimestamp();
+                if (force || timestamp == null || !timestamp.equals(dataTimestamp)) {
+                    logger.debug("Successfully updated device readings! Now updating channels");
+                    dataTimestamp = timestamp;
+                    super.updateChannels(equipmentId);
+                } else {
+                    logger.debug("Readings of device {} are unchanged", equipmentId);
+                }
+                updateChildModules(equipmentId, force);
             }
         } catch (Exception e) {
             logger.error("Exception when trying to update channels: {}", e.getMessage());
@@ -124,7 +144,8 @@ public abstract class NetatmoDeviceHandler<X extends NetatmoDeviceConfiguration>
         }
     }
 
-    private void updateChildModules(String equipmentId) {
+    private void updateChildModules(String equipmentId, boolean force) {
+        Map<String, NAModuleAdapter> modules = device.getModules();
         logger.debug("Updating child modules of {}", equipmentId);
         for (Thing handler : getBridge().getThings()) {
             ThingHandler thingHandler = handler.getHandler();
@@ -135,8 +156,18 @@ public abstract class NetatmoDeviceHandler<X extends NetatmoDeviceConfiguration>
                 String parentId = moduleConfiguration.getParentId();
                 if (equipmentId.equalsIgnoreCase(parentId)) {
                     String childId = moduleHandler.configuration.getEquipmentId();
-                    NAModuleAdapter module = device.getModules().get(childId);
+                    NAModuleAdapter module = modules.get(childId);
+                    if (module == null) {
+                        logger.debug("No readings for child module {}", childId);
+                        continue;
+                    }
+                    Integer timestamp = module.getDataTimestamp();
+                    if (!force && timestamp != null && timestamp.equals(moduleDataTimestamps.get(childId))) {
+                        logger.debug("Readings of child module {} are unchanged", childId);
+                        continue;
+                    }
                     logger.debug("Updating child module {}", childId);
+                    moduleDataTimestamps.put(childId, timestamp);
                     moduleHandler.updateChannels(module);
                 }
             }
@@ -93,6 +93,8 @@ public abstract class NetatmoModuleHandler<X extends NetatmoModuleConfiguration>
 
     protected void requestParentRefresh() {
         logger.debug("Updating parent modules of {}", configuration.getEquipmentId());
+        // The cached data does not contain the change yet
+        getBridgeHandler().invalidateThermostatsData();
         for (Thing thing : getBridge().getThings()) {
             ThingHandler thingHandler = thing.getHandler();
             if (thingHandler instanceof NetatmoDeviceHandler) {
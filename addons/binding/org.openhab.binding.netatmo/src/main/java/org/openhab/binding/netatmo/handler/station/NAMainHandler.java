@@ -20,6 +20,7 @@ import org.openhab.binding.netatmo.internal.NADeviceAdapter;
 import org.openhab.binding.netatmo.internal.NAStationAdapter;
 
 import io.swagger.client.model.NADashboardData;
+import io.swagger.client.model.NAMain;
 import io.swagger.client.model.NAStationDataBody;
 import io.swagger.client.model.NAUserAdministrative;
 
@@ -38,12 +39,16 @@ public class NAMainHandler extends NetatmoDeviceHandler<NetatmoDeviceConfigurati
 
     @Override
     protected NADeviceAdapter<?> updateReadings(String equipmentId) {
-        NAStationDataBody stationDataBody = getBridgeHandler().getStationsDataBody(equipmentId);
+        NAStationDataBody stationDataBody = getBridgeHandler()
+                .getCachedStationsDataBody(configuration.refreshInterval);
         if (stationDataBody != null) {
-            return new NAStationAdapter(stationDataBody);
-        } else {
-            return null;
+            for (NAMain station : stationDataBody.getDevices()) {
+                if (equipmentId.equalsIgnoreCase(station.getId())) {
+                    return new NAStationAdapter(station, stationDataBody.getUser().getAdministrative());
+                }
+            }
         }
+        return null;
     }
 
     @Override
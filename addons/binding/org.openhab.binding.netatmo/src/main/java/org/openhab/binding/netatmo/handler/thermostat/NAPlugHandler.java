@@ -14,6 +14,7 @@ import org.openhab.binding.netatmo.handler.NetatmoDeviceHandler;
 import org.openhab.binding.netatmo.internal.NADeviceAdapter;
 import org.openhab.binding.netatmo.internal.NAPlugAdapter;
 
+import io.swagger.client.model.NAPlug;
 import io.swagger.client.model.NAThermostatDataBody;
 
 /**
@@ -30,12 +31,16 @@ public class NAPlugHandler extends NetatmoDeviceHandler<NetatmoDeviceConfigurati
 
     @Override
     protected NADeviceAdapter<?> updateReadings(String equipmentId) {
-        NAThermostatDataBody thermostatDataBody = getBridgeHandler().getThermostatsDataBody(equipmentId);
+        NAThermostatDataBody thermostatDataBody = getBridgeHandler()
+                .getCachedThermostatsDataBody(configuration.refreshInterval);
         if (thermostatDataBody != null) {
-            return new NAPlugAdapter(thermostatDataBody);
-        } else {
-            return null;
+            for (NAPlug plug : thermostatDataBody.getDevices()) {
+                if (equipmentId.equalsIgnoreCase(plug.getId())) {
+                    return new NAPlugAdapter(plug, thermostatDataBody.getUser().getAdministrative());
+                }
+            }
         }
+        return null;
     }
 
 }
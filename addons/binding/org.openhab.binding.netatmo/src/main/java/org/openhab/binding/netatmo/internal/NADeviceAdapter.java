@@ -30,9 +30,13 @@ public abstract class NADeviceAdapter<DeviceClass> {
     protected DeviceClass device;
 
     public NADeviceAdapter(DeviceClass device) {
+        this(device, null);
+    }
+
+    public NADeviceAdapter(DeviceClass device, NAUserAdministrative userAdministrative) {
         if (device != null) {
             this.device = device;
-            this.userAdministrative = null;
+            this.userAdministrative = userAdministrative;
         } else {
             throw new IllegalArgumentException("device can not be null");
         }
@@ -70,6 +74,11 @@ public abstract class NADeviceAdapter<DeviceClass> {
 
     public abstract String getTypeName();
 
+    /**
+     * @return the time (in seconds since epoch) the data of this device has been measured or reported, null if unknown
+     */
+    public abstract Integer getDataTimestamp();
+
     public NAUserAdministrative getUserAdministrative() {
         return userAdministrative;
     }
@@ -96,6 +96,19 @@ public class NAModuleAdapter {
         }
     }
 
+    /**
+     * @return the time (in seconds since epoch) the data of this module has been measured or reported, null if unknown
+     */
+    public Integer getDataTimestamp() {
+        if (stationModule != null) {
+            NADashboardData dashboardData = stationModule.getDashboardData();
+            return dashboardData != null ? dashboardData.getTimeUtc() : stationModule.getLastMessage();
+        } else {
+            // The setpoint may change without a new measurement, but it is reported by a new message
+            return thermostat.getLastMessage();
+        }
+    }
+
     public NADashboardData getDashboardData() {
         return stationModule.getDashboardData();
     }
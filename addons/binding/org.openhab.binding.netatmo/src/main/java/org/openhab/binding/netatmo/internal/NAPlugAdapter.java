@@ -12,6 +12,7 @@ import io.swagger.client.model.NAPlace;
 import io.swagger.client.model.NAPlug;
 import io.swagger.client.model.NAThermostat;
 import io.swagger.client.model.NAThermostatDataBody;
+import io.swagger.client.model.NAUserAdministrative;
 
 /**
  * {@link NAPlugAdapter} handles specifics of the NAPlug device
@@ -25,6 +26,10 @@ public class NAPlugAdapter extends NADeviceAdapter<NAPlug> {
         super(device);
     }
 
+    public NAPlugAdapter(NAPlug device, NAUserAdministrative userAdministrative) {
+        super(device, userAdministrative);
+    }
+
     public NAPlugAdapter(NAThermostatDataBody thermostatDataBody) {
         super(thermostatDataBody);
     }
@@ -60,6 +65,11 @@ public class NAPlugAdapter extends NADeviceAdapter<NAPlug> {
         return device.getStationName();
     }
 
+    @Override
+    public Integer getDataTimestamp() {
+        return device.getLastStatusStore();
+    }
+
     @Override
     protected void populateModules() {
         for (NAThermostat module : device.getModules()) {
@@ -9,15 +9,15 @@
 package org.openhab.binding.samsungtv.internal.protocol;
 
 import java.io.BufferedWriter;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
-import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.SocketTimeoutException;
 import java.util.Arrays;
 import java.util.List;
 
@@ -56,15 +56,35 @@ public class RemoteController {
 
     private final int TIMEOUT = 5000;
 
+    // Weight of the latest key in the average latency
+    private final double LATENCY_SMOOTHING = 0.2;
+
+    // Gap between the key codes of a sequence in milliseconds. The TV acknowledges a key code before it has processed
+    // it, so a minimum gap is always kept. The gap is doubled when a key code is acknowledged much slower than on
+    // average and reduced step by step while the latency is normal.
+    private final int MIN_KEY_GAP = 100;
+    private final int MAX_KEY_GAP = 1000;
+    private final int INITIAL_KEY_GAP = 300;
+    private final int KEY_GAP_STEP = 20;
+
+    // Latency in milliseconds above twice the average, which is still considered normal
+    private final int LATENCY_TOLERANCE = 20;
+
     private String host;
     private int port;
     private String appName;
     private String uniqueId;
 
     private Socket socket;
-    private InputStreamReader reader;
+    private InputStream in;
     private BufferedWriter writer;
 
+    private long keyCount;
+    private long lastLatency;
+    private long maxLatency;
+    private double averageLatency;
+    private int keyGap = INITIAL_KEY_GAP;
+
     /**
      * Create and initialize remote controller instance.
      *
@@ -91,6 +111,9 @@ public class RemoteController {
         socket = new Socket();
         try {
             socket.connect(new InetSocketAddress(host, port), TIMEOUT);
+            socket.setSoTimeout(TIMEOUT);
+            socket.setKeepAlive(true);
+            socket.setTcpNoDelay(true);
         } catch (Exception e) {
             throw new RemoteControllerException("Connection failed", e);
         }
@@ -142,12 +165,11 @@ public class RemoteController {
                 * @formatter:on
                 */
 
-                InputStream in = socket.getInputStream();
-                reader = new InputStreamReader(in);
+                in = socket.getInputStream();
 
-                reader.skip(1);
-                readString(reader);
-                char[] result = readCharArray(reader);
+                readByte(in);
+                readString(in);
+                char[] result = readCharArray(in);
 
                 if (Arrays.equals(result, ACCESS_GRANTED_RESP)) {
                     logger.debug("Access granted");
@@ -184,6 +206,10 @@ public class RemoteController {
      * @throws RemoteControllerException
      */
     public void closeConnection() throws RemoteControllerException {
+        if (socket == null) {
+            return;
+        }
+
         try {
             socket.close();
         } catch (IOException e) {
@@ -220,20 +246,23 @@ public class RemoteController {
     }
 
     /**
-     * Send sequence of key codes to Samsung TV.
+     * Send sequence of key codes to Samsung TV. Every key is sent after the
+     * TV has acknowledged the previous key and the key gap has passed. The
+     * key gap grows, if the TV acknowledges the keys slower than usual.
      *
      * @param keys List of key codes to send.
      * @throws RemoteControllerException
      */
     public void sendKeys(List<KeyCode> keys) throws RemoteControllerException {
-        sendKeys(keys, 300);
+        sendKeys(keys, 0);
     }
 
     /**
      * Send sequence of key codes to Samsung TV.
      *
      * @param keys List of key codes to send.
-     * @param sleepInMs Sleep between key code sending in milliseconds.
+     * @param sleepInMs Minimum sleep between key code sending in
+     *            milliseconds. The key gap is used, if it is longer.
      * @throws RemoteControllerException
      */
     public void sendKeys(List<KeyCode> keys, int sleepInMs) throws RemoteControllerException {
@@ -260,7 +289,7 @@ public class RemoteController {
             if ((keys.size() - 1) != i) {
                 // Sleep a while between commands
                 try {
-                    Thread.sleep(sleepInMs);
+                    Thread.sleep(Math.max(sleepInMs, keyGap));
                 } catch (InterruptedException e) {
                     return;
                 }
@@ -270,7 +299,12 @@ public class RemoteController {
         logger.debug("Command(s) successfully sent");
     }
 
-    private boolean isConnected() {
+    /**
+     * Check if the connection is open.
+     *
+     * @return true if the connection is open
+     */
+    public boolean isConnected() {
         if (socket == null || socket.isClosed() || !socket.isConnected()) {
             return false;
         } else {
@@ -278,6 +312,78 @@ public class RemoteController {
         }
     }
 
+    /**
+     * Check if the connection is still open and has not been closed by the TV.
+     * Data the TV has sent without a request is discarded.
+     *
+     * @return true if the connection is alive
+     */
+    public boolean isAlive() {
+        if (!isConnected()) {
+            return false;
+        }
+
+        try {
+            int i;
+            while ((i = in.available()) > 0) {
+                in.skip(i);
+            }
+
+            socket.setSoTimeout(1);
+            try {
+                if (in.read() == -1) {
+                    logger.debug("Connection closed by the TV");
+                    return false;
+                }
+            } catch (SocketTimeoutException e) {
+                // Nothing received, connection is still open
+            } finally {
+                socket.setSoTimeout(TIMEOUT);
+            }
+            return true;
+        } catch (IOException e) {
+            logger.debug("Connection check failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return Number of key codes acknowledged by the TV.
+     */
+    public long getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * @return Latency in milliseconds between sending the last key code and
+     *         receiving the acknowledgement of the TV.
+     */
+    public long getLastLatency() {
+        return lastLatency;
+    }
+
+    /**
+     * @return Maximum latency in milliseconds of all key codes.
+     */
+    public long getMaxLatency() {
+        return maxLatency;
+    }
+
+    /**
+     * @return Exponential moving average of the latency in milliseconds.
+     */
+    public long getAverageLatency() {
+        return Math.round(averageLatency);
+    }
+
+    /**
+     * @return Current gap between the key codes of a sequence in
+     *         milliseconds.
+     */
+    public int getKeyGap() {
+        return keyGap;
+    }
+
     private String createRegistrationPayload(String ip) throws IOException {
         /*
          * Payload starts with 2 bytes: 0x64 and 0x00, then comes 3 strings
@@ -315,21 +421,31 @@ public class RemoteController {
         writeString(writer, tmp);
     }
 
-    private String readString(Reader reader) throws IOException {
-        char[] buf = readCharArray(reader);
+    private String readString(InputStream in) throws IOException {
+        char[] buf = readCharArray(in);
         return new String(buf);
     }
 
-    private char[] readCharArray(Reader reader) throws IOException {
-        byte low = (byte) reader.read();
-        byte high = (byte) reader.read();
+    private char[] readCharArray(InputStream in) throws IOException {
+        int low = readByte(in);
+        int high = readByte(in);
         int len = (high << 8) + low;
 
         char[] buffer = new char[len];
-        reader.read(buffer);
+        for (int i = 0; i < len; i++) {
+            buffer[i] = (char) readByte(in);
+        }
         return buffer;
     }
 
+    private int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b == -1) {
+            throw new EOFException("Connection closed by the TV");
+        }
+        return b;
+    }
+
     private void sendKeyData(KeyCode key) throws RemoteControllerException {
         logger.debug("Sending key code {}", key.getValue());
 
@@ -346,6 +462,8 @@ public class RemoteController {
          * @formatter:on
          */
         try {
+            long start = System.nanoTime();
+
             writer.append((char) 0x00);
             writeString(writer, APP_STRING);
             writeString(writer, createKeyDataPayload(key));
@@ -353,16 +471,35 @@ public class RemoteController {
 
             /*
              * Read response. Response is pretty useless, because TV seems to
-             * send same response in both ok and error situation.
+             * send same response in both ok and error situation. It is only
+             * used to pace the key codes and to measure the latency.
              */
-            reader.skip(1);
-            readString(reader);
-            readCharArray(reader);
+            readByte(in);
+            readString(in);
+            readCharArray(in);
+
+            updateLatency((System.nanoTime() - start) / 1000000);
+            logger.debug("Key code {} acknowledged in {} ms (average {} ms, max {} ms), key gap {} ms", key.getValue(),
+                    lastLatency, getAverageLatency(), maxLatency, keyGap);
         } catch (IOException e) {
             throw new RemoteControllerException(e);
         }
     }
 
+    private void updateLatency(long latency) {
+        if (keyCount > 0 && latency > averageLatency * 2 + LATENCY_TOLERANCE) {
+            // The TV is busy, back off
+            keyGap = Math.min(MAX_KEY_GAP, keyGap * 2);
+        } else {
+            keyGap = Math.max(MIN_KEY_GAP, keyGap - KEY_GAP_STEP);
+        }
+        lastLatency = latency;
+        maxLatency = Math.max(maxLatency, latency);
+        averageLatency = keyCount == 0 ? latency
+                : LATENCY_SMOOTHING * latency + (1 - LATENCY_SMOOTHING) * averageLatency;
+        keyCount++;
+    }
+
     private String createKeyDataPayload(KeyCode key) throws IOException {
         /* @formatter:off
         *
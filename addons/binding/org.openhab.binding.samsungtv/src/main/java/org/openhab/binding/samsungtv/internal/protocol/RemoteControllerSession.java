@@ -0,0 +1,156 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.samsungtv.internal.protocol;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RemoteControllerSession} keeps one authenticated remote
+ * controller connection to the Samsung TV open, so key codes can be sent
+ * without opening a new connection and querying access for every command.
+ *
+ * The connection is checked periodically. If the TV has closed it, a new
+ * connection is opened in the background, so the next key code doesn't have
+ * to wait for the access query.
+ *
+ * @author agent - Initial contribution
+ */
+public class RemoteControllerSession {
+
+    private Logger logger = LoggerFactory.getLogger(RemoteControllerSession.class);
+
+    // Interval of the connection check in seconds
+    private static final int KEEP_ALIVE_INTERVAL = 30;
+
+    private final RemoteController remoteController;
+    private final ScheduledExecutorService scheduler;
+    private final String address;
+
+    private ScheduledFuture<?> keepAliveJob;
+
+    // Set while a lost connection is reopened in the background. A failed
+    // reconnect is not retried until the next key code is sent successfully.
+    private boolean reconnect;
+
+    private Runnable keepAliveRunnable = new Runnable() {
+
+        @Override
+        public void run() {
+            checkConnection();
+        }
+    };
+
+    /**
+     * Create remote controller session.
+     *
+     * @param host Host name of the Samsung TV.
+     * @param port TCP port of the remote controller protocol.
+     * @param appName Application name used to send key codes.
+     * @param uniqueId Unique Id used to send key codes.
+     * @param scheduler Scheduler for opening and checking the connection.
+     */
+    public RemoteControllerSession(String host, int port, String appName, String uniqueId,
+            ScheduledExecutorService scheduler) {
+        this.remoteController = new RemoteController(host, port, appName, uniqueId);
+        this.scheduler = scheduler;
+        this.address = host + ":" + port;
+    }
+
+    /**
+     * Open the connection in the background and start checking it
+     * periodically.
+     */
+    public synchronized void start() {
+        reconnect = true;
+        if (keepAliveJob == null || keepAliveJob.isCancelled()) {
+            keepAliveJob = scheduler.scheduleWithFixedDelay(keepAliveRunnable, 0, KEEP_ALIVE_INTERVAL,
+                    TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Stop checking the connection and close it.
+     */
+    public synchronized void stop() {
+        if (keepAliveJob != null) {
+            keepAliveJob.cancel(false);
+            keepAliveJob = null;
+        }
+        reconnect = false;
+        close();
+    }
+
+    /**
+     * Send key code to Samsung TV.
+     *
+     * @param key Key code to send.
+     * @throws RemoteControllerException
+     */
+    public void sendKey(KeyCode key) throws RemoteControllerException {
+        sendKeys(Collections.singletonList(key));
+    }
+
+    /**
+     * Send sequence of key codes to Samsung TV. Each key code is sent after
+     * the TV has acknowledged the previous one and the key gap has passed,
+     * see {@link RemoteController#sendKeys(List)}.
+     *
+     * @param keys List of key codes to send.
+     * @throws RemoteControllerException
+     */
+    public synchronized void sendKeys(List<KeyCode> keys) throws RemoteControllerException {
+        long start = System.currentTimeMillis();
+        long keyCount = remoteController.getKeyCount();
+
+        try {
+            remoteController.sendKeys(keys);
+            reconnect = true;
+        } catch (RemoteControllerException e) {
+            reconnect = false;
+            close();
+            throw e;
+        }
+
+        logger.debug("Sent {} key code(s) to {} in {} ms, latency: last {} ms, average {} ms, max {} ms, key gap {} ms",
+                remoteController.getKeyCount() - keyCount, address, System.currentTimeMillis() - start,
+                remoteController.getLastLatency(), remoteController.getAverageLatency(),
+                remoteController.getMaxLatency(), remoteController.getKeyGap());
+    }
+
+    private synchronized void checkConnection() {
+        if (!reconnect || remoteController.isAlive()) {
+            return;
+        }
+
+        close();
+        try {
+            logger.debug("Open remote controller connection to {}", address);
+            remoteController.openConnection();
+        } catch (RemoteControllerException e) {
+            logger.debug("Could not open remote controller connection to {}: {}", address, e.getMessage());
+            reconnect = false;
+            close();
+        }
+    }
+
+    private void close() {
+        try {
+            remoteController.closeConnection();
+        } catch (RemoteControllerException e) {
+            logger.debug("Could not close remote controller connection to {}: {}", address, e.getMessage());
+        }
+    }
+}
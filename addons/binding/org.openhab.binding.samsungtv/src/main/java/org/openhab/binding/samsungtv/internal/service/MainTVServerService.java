@@ -16,11 +16,13 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.types.Command;
@@ -39,6 +41,10 @@ import org.w3c.dom.NodeList;
  * The {@link MainTVServerService} is responsible for handling MainTVServer
  * commands.
  *
+ * The service subscribes to the events of the MainTVAgent2 service. Variables
+ * which are received by events are only polled every
+ * {@link #FALLBACK_POLLING_INTERVAL} milliseconds, in case an event is lost.
+ *
  * @author Pauli Anttila - Initial contribution
  */
 public class MainTVServerService implements UpnpIOParticipant, SamsungTvService {
@@ -46,11 +52,19 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
     public static final String SERVICE_NAME = "MainTVServer2";
     private static final List<String> supportedCommands = Arrays.asList(SOURCE_NAME, BROWSER_URL, STOP_BROWSER);
 
+    private static final String MAIN_TV_AGENT = "MainTVAgent2";
+
+    // Duration of the GENA subscription in seconds
+    private static final int SUBSCRIPTION_DURATION = 1800;
+
+    // Interval in milliseconds for polling variables, which are received by events
+    private static final long FALLBACK_POLLING_INTERVAL = 60000;
+
     private Logger logger = LoggerFactory.getLogger(MainTVServerService.class);
 
     private UpnpIOService service;
 
-    private ScheduledExecutorService scheduler;
+    private ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("thingHandler");
     private ScheduledFuture<?> pollingJob;
 
     private String udn;
@@ -58,6 +72,11 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
 
     private Map<String, String> stateMap = Collections.synchronizedMap(new HashMap<String, String>());
 
+    private Set<String> eventedVariables = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private volatile boolean subscribed;
+    private long lastSubscriptionAttempt;
+    private long lastFallbackPoll;
+
     private List<ValueReceiver> listeners = new ArrayList<ValueReceiver>();
 
     public MainTVServerService(UpnpIOService upnpIOService, String udn, int pollingInterval) {
@@ -71,8 +90,6 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
 
         this.udn = udn;
         this.pollingInterval = pollingInterval;
-
-        scheduler = Executors.newScheduledThreadPool(1);
     }
 
     @Override
@@ -109,6 +126,7 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
             pollingJob.cancel(true);
             pollingJob = null;
         }
+        removeSubscription();
     }
 
     @Override
@@ -121,14 +139,26 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
         @Override
         public void run() {
             if (isRegistered()) {
+                long now = System.currentTimeMillis();
+
+                if (!subscribed && now - lastSubscriptionAttempt >= FALLBACK_POLLING_INTERVAL) {
+                    lastSubscriptionAttempt = now;
+                    addSubscription();
+                }
+
+                boolean fallbackPoll = now - lastFallbackPoll >= FALLBACK_POLLING_INTERVAL;
+                if (fallbackPoll) {
+                    lastFallbackPoll = now;
+                }
+
                 try {
-                    updateResourceState("MainTVAgent2", "GetCurrentMainTVChannel", null);
+                    pollResourceState("CurrentChannel", "GetCurrentMainTVChannel", fallbackPoll);
 
-                    updateResourceState("MainTVAgent2", "GetCurrentExternalSource", null);
+                    pollResourceState("CurrentExternalSource", "GetCurrentExternalSource", fallbackPoll);
 
-                    updateResourceState("MainTVAgent2", "GetCurrentContentRecognition", null);
+                    pollResourceState("ProgramTitle", "GetCurrentContentRecognition", fallbackPoll);
 
-                    updateResourceState("MainTVAgent2", "GetCurrentBrowserURL", null);
+                    pollResourceState("BrowserURL", "GetCurrentBrowserURL", fallbackPoll);
                 } catch (Exception e) {
                     logger.debug("Exception during poll : {}", e);
                 }
@@ -136,6 +166,30 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
         }
     };
 
+    /**
+     * Invoke the Get action of a variable, unless the variable is received by
+     * events and this is not a fallback poll.
+     */
+    private void pollResourceState(String variable, String actionId, boolean fallbackPoll) {
+        if (fallbackPoll || !eventedVariables.contains(variable)) {
+            updateResourceState(MAIN_TV_AGENT, actionId, null);
+        }
+    }
+
+    private void addSubscription() {
+        logger.debug("Subscribing to {} events of {}", MAIN_TV_AGENT, udn);
+        service.addSubscription(this, MAIN_TV_AGENT, SUBSCRIPTION_DURATION);
+    }
+
+    private void removeSubscription() {
+        if (subscribed) {
+            service.removeSubscription(this, MAIN_TV_AGENT);
+        }
+        subscribed = false;
+        eventedVariables.clear();
+        lastSubscriptionAttempt = 0;
+    }
+
     @Override
     public void handleCommand(String channel, Command command) {
         logger.debug("Received channel: {}, command: {}", channel, command);
@@ -170,10 +224,21 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
 
     @Override
     public void onServiceSubscribed(String service, boolean succeeded) {
+        logger.debug("Subscription to {} events of {} {}", service, udn, succeeded ? "succeeded" : "failed");
+        subscribed = succeeded;
+        if (!succeeded) {
+            // Poll all variables until the next subscription succeeds
+            eventedVariables.clear();
+        }
     }
 
     @Override
     public void onValueReceived(String variable, String value, String service) {
+        eventedVariables.add(variable);
+        updateValue(variable, value);
+    }
+
+    private void updateValue(String variable, String value) {
 
         String oldValue = stateMap.get(variable);
         if ((value == null && oldValue == null) || (value != null && value.equals(oldValue))) {
@@ -220,7 +285,7 @@ public class MainTVServerService implements UpnpIOParticipant, SamsungTvService
         Map<String, String> result = service.invokeAction(this, serviceId, actionId, inputs);
 
         for (String variable : result.keySet()) {
-            onValueReceived(variable, result.get(variable), serviceId);
+            updateValue(variable, result.get(variable));
         }
 
         return result;
@@ -16,11 +16,13 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.PercentType;
@@ -33,11 +35,19 @@ import org.openhab.binding.samsungtv.internal.service.api.SamsungTvService;
 import org.openhab.binding.samsungtv.internal.service.api.ValueReceiver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
 
 /**
  * The {@link MediaRendererService} is responsible for handling MediaRenderer
  * commands.
  *
+ * The service subscribes to the LastChange events of the RenderingControl
+ * service. Variables which are received by events are only polled every
+ * {@link #FALLBACK_POLLING_INTERVAL} milliseconds, in case an event is lost.
+ *
  * @author Pauli Anttila - Initial contribution
  */
 public class MediaRendererService implements UpnpIOParticipant, SamsungTvService {
@@ -46,11 +56,33 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
     private final List<String> supportedCommands = Arrays.asList(VOLUME, MUTE, BRIGHTNESS, CONTRAST, SHARPNESS,
             COLOR_TEMPERATURE);
 
+    private static final String RENDERING_CONTROL = "RenderingControl";
+
+    // Duration of the GENA subscription in seconds
+    private static final int SUBSCRIPTION_DURATION = 1800;
+
+    // Interval in milliseconds for polling variables, which are received by events
+    private static final long FALLBACK_POLLING_INTERVAL = 60000;
+
+    // Maps the elements of the LastChange event to the state variables returned by the Get actions
+    @SuppressWarnings("serial")
+    private static final Map<String, String> lastChangeVariables = Collections
+            .unmodifiableMap(new HashMap<String, String>() {
+                {
+                    put("Volume", "CurrentVolume");
+                    put("Mute", "CurrentMute");
+                    put("Brightness", "CurrentBrightness");
+                    put("Contrast", "CurrentContrast");
+                    put("Sharpness", "CurrentSharpness");
+                    put("ColorTemperature", "CurrentColorTemperature");
+                }
+            });
+
     private Logger logger = LoggerFactory.getLogger(MediaRendererService.class);
 
     private UpnpIOService service;
 
-    private ScheduledExecutorService scheduler;
+    private ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("thingHandler");
     private ScheduledFuture<?> pollingJob;
 
     private String udn;
@@ -58,6 +90,11 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
 
     private Map<String, String> stateMap = Collections.synchronizedMap(new HashMap<String, String>());
 
+    private Set<String> eventedVariables = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private volatile boolean subscribed;
+    private long lastSubscriptionAttempt;
+    private long lastFallbackPoll;
+
     private List<ValueReceiver> listeners = new ArrayList<ValueReceiver>();
 
     public MediaRendererService(UpnpIOService upnpIOService, String udn, int pollingInterval) {
@@ -71,8 +108,6 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
 
         this.udn = udn;
         this.pollingInterval = pollingInterval;
-
-        scheduler = Executors.newScheduledThreadPool(1);
     }
 
     @Override
@@ -109,6 +144,7 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
             pollingJob.cancel(true);
             pollingJob = null;
         }
+        removeSubscription();
     }
 
     @Override
@@ -121,20 +157,31 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
         @Override
         public void run() {
             if (isRegistered()) {
+                long now = System.currentTimeMillis();
+
+                if (!subscribed && now - lastSubscriptionAttempt >= FALLBACK_POLLING_INTERVAL) {
+                    lastSubscriptionAttempt = now;
+                    addSubscription();
+                }
+
+                boolean fallbackPoll = now - lastFallbackPoll >= FALLBACK_POLLING_INTERVAL;
+                if (fallbackPoll) {
+                    lastFallbackPoll = now;
+                }
 
                 try {
-                    updateResourceState("RenderingControl", "GetVolume",
-                            SamsungTvUtils.buildHashMap("InstanceID", "0", "Channel", "Master"));
-                    updateResourceState("RenderingControl", "GetMute",
-                            SamsungTvUtils.buildHashMap("InstanceID", "0", "Channel", "Master"));
-                    updateResourceState("RenderingControl", "GetBrightness",
-                            SamsungTvUtils.buildHashMap("InstanceID", "0"));
-                    updateResourceState("RenderingControl", "GetContrast",
-                            SamsungTvUtils.buildHashMap("InstanceID", "0"));
-                    updateResourceState("RenderingControl", "GetSharpness",
-                            SamsungTvUtils.buildHashMap("InstanceID", "0"));
-                    updateResourceState("RenderingControl", "GetColorTemperature",
-                            SamsungTvUtils.buildHashMap("InstanceID", "0"));
+                    pollResourceState("CurrentVolume", "GetVolume",
+                            SamsungTvUtils.buildHashMap("InstanceID", "0", "Channel", "Master"), fallbackPoll);
+                    pollResourceState("CurrentMute", "GetMute",
+                            SamsungTvUtils.buildHashMap("InstanceID", "0", "Channel", "Master"), fallbackPoll);
+                    pollResourceState("CurrentBrightness", "GetBrightness",
+                            SamsungTvUtils.buildHashMap("InstanceID", "0"), fallbackPoll);
+                    pollResourceState("CurrentContrast", "GetContrast", SamsungTvUtils.buildHashMap("InstanceID", "0"),
+                            fallbackPoll);
+                    pollResourceState("CurrentSharpness", "GetSharpness",
+                            SamsungTvUtils.buildHashMap("InstanceID", "0"), fallbackPoll);
+                    pollResourceState("CurrentColorTemperature", "GetColorTemperature",
+                            SamsungTvUtils.buildHashMap("InstanceID", "0"), fallbackPoll);
 
                 } catch (Exception e) {
                     logger.debug("Exception during poll : {}", e);
@@ -143,6 +190,31 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
         }
     };
 
+    /**
+     * Invoke the Get action of a variable, unless the variable is received by
+     * events and this is not a fallback poll.
+     */
+    private void pollResourceState(String variable, String actionId, Map<String, String> inputs,
+            boolean fallbackPoll) {
+        if (fallbackPoll || !eventedVariables.contains(variable)) {
+            updateResourceState(RENDERING_CONTROL, actionId, inputs);
+        }
+    }
+
+    private void addSubscription() {
+        logger.debug("Subscribing to {} events of {}", RENDERING_CONTROL, udn);
+        service.addSubscription(this, RENDERING_CONTROL, SUBSCRIPTION_DURATION);
+    }
+
+    private void removeSubscription() {
+        if (subscribed) {
+            service.removeSubscription(this, RENDERING_CONTROL);
+        }
+        subscribed = false;
+        eventedVariables.clear();
+        lastSubscriptionAttempt = 0;
+    }
+
     @Override
     public void handleCommand(String channel, Command command) {
         logger.debug("Received channel: {}, command: {}", channel, command);
@@ -182,10 +254,28 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
 
     @Override
     public void onServiceSubscribed(String service, boolean succeeded) {
+        logger.debug("Subscription to {} events of {} {}", service, udn, succeeded ? "succeeded" : "failed");
+        subscribed = succeeded;
+        if (!succeeded) {
+            // Poll all variables until the next subscription succeeds
+            eventedVariables.clear();
+        }
     }
 
     @Override
     public void onValueReceived(String variable, String value, String service) {
+        if ("LastChange".equals(variable)) {
+            Map<String, String> values = parseLastChange(value);
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                eventedVariables.add(entry.getKey());
+                updateValue(entry.getKey(), entry.getValue());
+            }
+        } else {
+            updateValue(variable, value);
+        }
+    }
+
+    private void updateValue(String variable, String value) {
 
         String oldValue = stateMap.get(variable);
         if ((value == null && oldValue == null) || (value != null && value.equals(oldValue))) {
@@ -234,7 +324,7 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
         Map<String, String> result = service.invokeAction(this, serviceId, actionId, inputs);
 
         for (String variable : result.keySet()) {
-            onValueReceived(variable, result.get(variable), serviceId);
+            updateValue(variable, result.get(variable));
         }
 
         return result;
@@ -338,6 +428,57 @@ public class MediaRendererService implements UpnpIOParticipant, SamsungTvService
         updateResourceState("RenderingControl", "GetColorTemperature", SamsungTvUtils.buildHashMap("InstanceID", "0"));
     }
 
+    /**
+     * Parse the LastChange event of the RenderingControl service, e.g.
+     * <code>&lt;Event&gt;&lt;InstanceID val="0"&gt;&lt;Volume channel="Master" val="10"/&gt;&lt;/InstanceID&gt;&lt;/Event&gt;</code>
+     *
+     * @return the values of instance 0, mapped to the state variables returned by the Get actions
+     */
+    private Map<String, String> parseLastChange(String xml) {
+        Map<String, String> values = new HashMap<String, String>();
+
+        if (xml != null) {
+            Document dom = SamsungTvUtils.loadXMLFromString(xml);
+
+            if (dom != null) {
+
+                NodeList instances = dom.getDocumentElement().getElementsByTagName("InstanceID");
+
+                for (int i = 0; i < instances.getLength(); i++) {
+                    Element instance = (Element) instances.item(i);
+                    if (!"0".equals(instance.getAttribute("val"))) {
+                        continue;
+                    }
+
+                    NodeList nodeList = instance.getChildNodes();
+                    for (int j = 0; j < nodeList.getLength(); j++) {
+                        Node node = nodeList.item(j);
+                        if (node.getNodeType() != Node.ELEMENT_NODE) {
+                            continue;
+                        }
+
+                        Element element = (Element) node;
+                        String variable = lastChangeVariables.get(element.getLocalName() != null
+                                ? element.getLocalName() : element.getTagName());
+                        String channel = element.getAttribute("channel");
+
+                        if (variable != null && element.hasAttribute("val")
+                                && (channel.isEmpty() || channel.equals("Master"))) {
+                            String value = element.getAttribute("val");
+                            if (variable.equals("CurrentMute")) {
+                                // Events use 0 and 1, the GetMute action returns false and true
+                                value = value.equals("1") || value.equals("true") ? "true" : "false";
+                            }
+                            values.put(variable, value);
+                        }
+                    }
+                }
+            }
+        }
+
+        return values;
+    }
+
     @Override
     public void onStatusChanged(boolean status) {
         logger.debug("onStatusChanged");
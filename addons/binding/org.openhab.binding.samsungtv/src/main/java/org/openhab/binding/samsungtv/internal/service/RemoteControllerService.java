@@ -14,13 +14,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.OnOffType;
 import org.eclipse.smarthome.core.library.types.StringType;
 import org.eclipse.smarthome.core.types.Command;
 import org.openhab.binding.samsungtv.internal.protocol.KeyCode;
-import org.openhab.binding.samsungtv.internal.protocol.RemoteController;
 import org.openhab.binding.samsungtv.internal.protocol.RemoteControllerException;
+import org.openhab.binding.samsungtv.internal.protocol.RemoteControllerSession;
 import org.openhab.binding.samsungtv.internal.service.api.SamsungTvService;
 import org.openhab.binding.samsungtv.internal.service.api.ValueReceiver;
 import org.slf4j.Logger;
@@ -42,10 +43,17 @@ public class RemoteControllerService implements SamsungTvService {
     private String host;
     private int port;
 
+    private RemoteControllerSession session;
+
     public RemoteControllerService(String host, int port) {
         logger.debug("Create a Samsung TV RemoteController service");
         this.host = host;
         this.port = port;
+
+        if (host != null) {
+            session = new RemoteControllerSession(host, port, "openHAB2", "openHAB2",
+                    ThreadPoolManager.getScheduledPool("thingHandler"));
+        }
     }
 
     @Override
@@ -69,11 +77,16 @@ public class RemoteControllerService implements SamsungTvService {
 
     @Override
     public void start() {
-        // nothing to start
+        if (session != null) {
+            session.start();
+        }
     }
 
     @Override
     public void stop() {
+        if (session != null) {
+            session.stop();
+        }
     }
 
     @Override
@@ -153,12 +166,10 @@ public class RemoteControllerService implements SamsungTvService {
      */
     private void sendKeyCode(final KeyCode key) {
 
-        if (host != null) {
-
-            RemoteController remoteController = new RemoteController(host, port, "openHAB2", "openHAB2");
+        if (session != null) {
 
             try {
-                remoteController.sendKey(key);
+                session.sendKey(key);
 
             } catch (RemoteControllerException e) {
                 logger.error("Could not send command to device on {}: {}", host + ":" + port, e);
@@ -175,12 +186,10 @@ public class RemoteControllerService implements SamsungTvService {
      */
     private void sendKeyCodes(final List<KeyCode> keys) {
 
-        if (host != null) {
-
-            RemoteController remoteController = new RemoteController(host, port, "openHAB2", "openHAB2");
+        if (session != null) {
 
             try {
-                remoteController.sendKeys(keys);
+                session.sendKeys(keys);
 
             } catch (RemoteControllerException e) {
                 logger.error("Could not send command(s) to device on {}: {}", host + ":" + port, e);
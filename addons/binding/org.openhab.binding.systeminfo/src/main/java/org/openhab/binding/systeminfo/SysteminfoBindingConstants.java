@@ -22,6 +22,8 @@ public class SysteminfoBindingConstants {
 
     public static final ThingTypeUID THING_TYPE_COMPUTER = new ThingTypeUID(BINDING_ID, "computer");
 
+    public static final ThingTypeUID THING_TYPE_JVM = new ThingTypeUID(BINDING_ID, "jvm");
+
     // Thing properties
     /**
      * Number of CPU logical cores
@@ -48,6 +50,21 @@ public class SysteminfoBindingConstants {
      */
     public static final String PROPERTY_OS_VERSION = "OS Version";
 
+    /**
+     * Version of the Java runtime
+     */
+    public static final String PROPERTY_JAVA_VERSION = "Java Version";
+
+    /**
+     * Name of the Java virtual machine
+     */
+    public static final String PROPERTY_JVM_NAME = "JVM Name";
+
+    /**
+     * Vendor of the Java virtual machine
+     */
+    public static final String PROPERTY_JVM_VENDOR = "JVM Vendor";
+
     // List of all Channel IDs
 
     /**
@@ -301,6 +318,83 @@ public class SysteminfoBindingConstants {
      */
     public static final String CHANNEL_PROCESS_PATH = "process#path";
 
+    // List of all JVM Channel IDs
+
+    /**
+     * Size of the used heap memory in MB
+     */
+    public static final String CHANNEL_JVM_HEAP_USED = "heap#used";
+
+    /**
+     * Size of the heap memory committed by the JVM in MB
+     */
+    public static final String CHANNEL_JVM_HEAP_COMMITTED = "heap#committed";
+
+    /**
+     * Maximum size of the heap memory in MB
+     */
+    public static final String CHANNEL_JVM_HEAP_MAX = "heap#max";
+
+    /**
+     * Percents of the used heap memory
+     */
+    public static final String CHANNEL_JVM_HEAP_USED_PERCENT = "heap#usedPercent";
+
+    /**
+     * Size of the used non-heap memory in MB
+     */
+    public static final String CHANNEL_JVM_NON_HEAP_USED = "nonHeap#used";
+
+    /**
+     * Size of the non-heap memory committed by the JVM in MB
+     */
+    public static final String CHANNEL_JVM_NON_HEAP_COMMITTED = "nonHeap#committed";
+
+    /**
+     * Number of garbage collections of all collectors
+     */
+    public static final String CHANNEL_JVM_GC_COUNT = "gc#count";
+
+    /**
+     * Accumulated garbage collection time of all collectors in milliseconds
+     */
+    public static final String CHANNEL_JVM_GC_TIME = "gc#time";
+
+    /**
+     * Number of live threads
+     */
+    public static final String CHANNEL_JVM_THREADS_LIVE = "threads#live";
+
+    /**
+     * Number of live daemon threads
+     */
+    public static final String CHANNEL_JVM_THREADS_DAEMON = "threads#daemon";
+
+    /**
+     * Number of currently loaded classes
+     */
+    public static final String CHANNEL_JVM_CLASSES_LOADED = "classes#loaded";
+
+    /**
+     * JVM uptime in minutes
+     */
+    public static final String CHANNEL_JVM_UPTIME = "runtime#uptime";
+
+    /**
+     * Accumulated time spent in safepoints in milliseconds
+     */
+    public static final String CHANNEL_JVM_SAFEPOINT_TIME = "runtime#safepointTime";
+
+    /**
+     * Number of threads actively executing tasks in a thread pool
+     */
+    public static final String CHANNEL_POOL_ACTIVE = "pool#active";
+
+    /**
+     * Number of tasks waiting in the queue of a thread pool
+     */
+    public static final String CHANNEL_POOL_QUEUED = "pool#queued";
+
     // Thing configuraion
     /**
      * Name of the configuration parameter of the thing that defines refresh time for High priority channels
@@ -325,4 +419,14 @@ public class SysteminfoBindingConstants {
      */
     public static final String PID_PARAM = "pid";
 
+    /**
+     * Name of the channel configuration parameter poolName
+     */
+    public static final String POOL_NAME_PARAM = "poolName";
+
+    /**
+     * Thread pool used, if no poolName is configured for a channel
+     */
+    public static final String DEFAULT_POOL_NAME = "thingHandler";
+
 }
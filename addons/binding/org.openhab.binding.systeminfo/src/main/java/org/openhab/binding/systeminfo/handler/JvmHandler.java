@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.handler;
+
+import static org.openhab.binding.systeminfo.SysteminfoBindingConstants.*;
+
+import java.util.Map;
+
+import org.eclipse.smarthome.core.thing.Channel;
+import org.eclipse.smarthome.core.thing.ChannelUID;
+import org.eclipse.smarthome.core.thing.Thing;
+import org.eclipse.smarthome.core.thing.ThingStatus;
+import org.eclipse.smarthome.core.thing.ThingStatusDetail;
+import org.eclipse.smarthome.core.types.State;
+import org.eclipse.smarthome.core.types.UnDefType;
+import org.openhab.binding.systeminfo.model.JvmSysteminfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link JvmHandler} provides information about the Java virtual machine, which runs openHAB (memory, garbage
+ * collection, threads, classes) and about the thread pools of the runtime. The channels are updated with the same
+ * High, Medium and Low priority schedule as the channels of the computer thing.
+ *
+ * @author agent - Initial contribution
+ */
+public class JvmHandler extends SysteminfoHandler {
+
+    private JvmSysteminfo jvmInfo;
+
+    private Logger logger = LoggerFactory.getLogger(JvmHandler.class);
+
+    public JvmHandler(Thing thing) {
+        super(thing);
+    }
+
+    @Override
+    protected boolean instantiateSysteminfoLibrary() {
+        try {
+            this.jvmInfo = new JvmSysteminfo();
+            logger.debug("JVM information is instantiated!");
+            return true;
+        } catch (Exception e) {
+            logger.error("Can not instantiate JVM information object!", e);
+            return false;
+        }
+    }
+
+    @Override
+    protected boolean updateProperties() {
+        Map<String, String> properties = editProperties();
+        try {
+            properties.put(PROPERTY_JAVA_VERSION, jvmInfo.getJavaVersion().toString());
+            properties.put(PROPERTY_JVM_NAME, jvmInfo.getJvmName().toString());
+            properties.put(PROPERTY_JVM_VENDOR, jvmInfo.getJvmVendor().toString());
+            updateProperties(properties);
+            logger.debug("Properties updated!");
+            return true;
+        } catch (Exception e) {
+            logger.debug("Can not get JVM properties! Please try to restart the binding.", e);
+            return false;
+        }
+    }
+
+    @Override
+    protected void updateStaticObjects() {
+        // There are no device lists for the JVM
+    }
+
+    @Override
+    protected void startSampling() {
+        jvmInfo.startSampling();
+    }
+
+    @Override
+    protected void stopSampling() {
+        jvmInfo.stopSampling();
+    }
+
+    @Override
+    protected State getInfoForChannel(ChannelUID channelUID) {
+        State state = null;
+
+        String channelID = channelUID.getId();
+
+        try {
+            switch (channelID) {
+                case CHANNEL_JVM_HEAP_USED:
+                    state = jvmInfo.getHeapUsed();
+                    break;
+                case CHANNEL_JVM_HEAP_COMMITTED:
+                    state = jvmInfo.getHeapCommitted();
+                    break;
+                case CHANNEL_JVM_HEAP_MAX:
+                    state = jvmInfo.getHeapMax();
+                    break;
+                case CHANNEL_JVM_HEAP_USED_PERCENT:
+                    state = jvmInfo.getHeapUsedPercent();
+                    break;
+                case CHANNEL_JVM_NON_HEAP_USED:
+                    state = jvmInfo.getNonHeapUsed();
+                    break;
+                case CHANNEL_JVM_NON_HEAP_COMMITTED:
+                    state = jvmInfo.getNonHeapCommitted();
+                    break;
+                case CHANNEL_JVM_GC_COUNT:
+                    state = jvmInfo.getGcCount();
+                    break;
+                case CHANNEL_JVM_GC_TIME:
+                    state = jvmInfo.getGcTime();
+                    break;
+                case CHANNEL_JVM_THREADS_LIVE:
+                    state = jvmInfo.getThreadsLive();
+                    break;
+                case CHANNEL_JVM_THREADS_DAEMON:
+                    state = jvmInfo.getThreadsDaemon();
+                    break;
+                case CHANNEL_JVM_CLASSES_LOADED:
+                    state = jvmInfo.getClassesLoaded();
+                    break;
+                case CHANNEL_JVM_UPTIME:
+                    state = jvmInfo.getUptime();
+                    break;
+                case CHANNEL_JVM_SAFEPOINT_TIME:
+                    state = jvmInfo.getSafepointTime();
+                    break;
+                case CHANNEL_POOL_ACTIVE:
+                    state = jvmInfo.getPoolActive(getPoolName(channelUID));
+                    break;
+                case CHANNEL_POOL_QUEUED:
+                    state = jvmInfo.getPoolQueued(getPoolName(channelUID));
+                    break;
+                default:
+                    logger.error("Channel with unknown ID: {} !", channelID);
+            }
+        } catch (Exception e) {
+            logger.error("Unexpected error occurred while getting JVM information!", e);
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                    "Can not get JVM info as result of unexpected error. Please try to restart the binding (remove and re-add the thing)!");
+        }
+        return state != null ? state : UnDefType.UNDEF;
+    }
+
+    /**
+     * This method gets the name of the thread pool for a pool channel
+     *
+     * @param channelUID - channel unique identifier
+     * @return the configured pool name or {@link #DEFAULT_POOL_NAME}
+     */
+    private String getPoolName(ChannelUID channelUID) {
+        Channel channel = this.thing.getChannel(channelUID.getId());
+        Object poolName = channel != null ? channel.getConfiguration().get(POOL_NAME_PARAM) : null;
+        if (poolName instanceof String && !((String) poolName).trim().isEmpty()) {
+            return ((String) poolName).trim();
+        }
+        return DEFAULT_POOL_NAME;
+    }
+}
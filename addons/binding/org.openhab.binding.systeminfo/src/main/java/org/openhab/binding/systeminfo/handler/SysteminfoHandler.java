@@ -108,7 +108,7 @@ public class SysteminfoHandler extends BaseThingHandler {
 
     }
 
-    private boolean instantiateSysteminfoLibrary() {
+    protected boolean instantiateSysteminfoLibrary() {
         try {
             this.systeminfo = new OshiSysteminfo();
             logger.debug("OSHI Systeminfo library is instatiated!");
@@ -141,7 +141,7 @@ public class SysteminfoHandler extends BaseThingHandler {
         }
     }
 
-    private boolean updateProperties() {
+    protected boolean updateProperties() {
         Map<String, String> properties = editProperties();
         try {
             properties.put(PROPERTY_CPU_LOGICAL_CORES, systeminfo.getCpuLogicalCores().toString());
@@ -222,7 +222,7 @@ public class SysteminfoHandler extends BaseThingHandler {
         mediumPriorityTasks = scheduler.scheduleAtFixedRate(new Runnable() {
             @Override
             public void run() {
-                systeminfo.updateStaticObjects();
+                updateStaticObjects();
                 publishData(mediumPriorityChannels);
             }
         }, WAIT_TIME_CHANNEL_ITEM_LINK_INIT, refreshIntervalMediumPriority.intValue(), TimeUnit.SECONDS);
@@ -237,18 +237,49 @@ public class SysteminfoHandler extends BaseThingHandler {
 
     }
 
+    /**
+     * Publishes the state of all linked channels in the given priority group. All channels are served from a single
+     * sample of the system information, so the OSHI library is queried only once for each value.
+     */
     private void publishData(Set<ChannelUID> channels) {
         if (channels != null) {
-            Iterator<ChannelUID> iter = channels.iterator();
-            while (iter.hasNext()) {
-                ChannelUID channeUID = iter.next();
-                if (isLinked(channeUID.getId())) {
-                    publishDataForChannel(channeUID);
+            startSampling();
+            try {
+                Iterator<ChannelUID> iter = channels.iterator();
+                while (iter.hasNext()) {
+                    ChannelUID channeUID = iter.next();
+                    if (isLinked(channeUID.getId())) {
+                        publishDataForChannel(channeUID);
+                    }
                 }
+            } finally {
+                stopSampling();
             }
         }
     }
 
+    /**
+     * Called before the medium priority channels are updated, so that information about devices that may be added or
+     * removed is recreated.
+     */
+    protected void updateStaticObjects() {
+        systeminfo.updateStaticObjects();
+    }
+
+    /**
+     * Starts a sample, which serves all channels updated in the same refresh.
+     */
+    protected void startSampling() {
+        systeminfo.startSampling();
+    }
+
+    /**
+     * Stops the sample started with {@link #startSampling()}.
+     */
+    protected void stopSampling() {
+        systeminfo.stopSampling();
+    }
+
     private void publishDataForChannel(ChannelUID channelUID) {
         State state = getInfoForChannel(channelUID);
         String channelID = channelUID.getId();
@@ -268,7 +299,7 @@ public class SysteminfoHandler extends BaseThingHandler {
      * @param channelUID - the UID of the channel
      * @return State object or null, if there is no information for the device with this index
      */
-    private State getInfoForChannel(ChannelUID channelUID) {
+    protected State getInfoForChannel(ChannelUID channelUID) {
         State state = null;
         String channelID = channelUID.getId();
         String channelIDWithoutGroup = channelUID.getIdWithoutGroup();
@@ -555,6 +586,11 @@ public class SysteminfoHandler extends BaseThingHandler {
                 isChannelConfigChanged = true;
                 handleChannelConfigurationChange(oldChannel, newChannelConfig, PID_PARAM);
             }
+
+            if (isConfigurationKeyChanged(currentChannelConfig, newChannelConfig, POOL_NAME_PARAM)) {
+                isChannelConfigChanged = true;
+                handleChannelConfigurationChange(oldChannel, newChannelConfig, POOL_NAME_PARAM);
+            }
         }
 
         if (!(isInitialized() && isChannelConfigChanged)) {
@@ -10,15 +10,17 @@ package org.openhab.binding.systeminfo.internal;
 
 import static org.openhab.binding.systeminfo.SysteminfoBindingConstants.*;
 
-import java.util.Collections;
 import java.util.Set;
 
+import org.openhab.binding.systeminfo.handler.JvmHandler;
 import org.openhab.binding.systeminfo.handler.SysteminfoHandler;
 import org.eclipse.smarthome.core.thing.Thing;
 import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 
+import com.google.common.collect.Sets;
+
 /**
  * The {@link SysteminfoHandlerFactory} is responsible for creating things and thing 
  * handlers.
@@ -27,7 +29,8 @@ import org.eclipse.smarthome.core.thing.binding.ThingHandler;
  */
 public class SysteminfoHandlerFactory extends BaseThingHandlerFactory {
     
-    private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Collections.singleton(THING_TYPE_COMPUTER);
+    private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Sets.newHashSet(THING_TYPE_COMPUTER,
+            THING_TYPE_JVM);
     
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
@@ -43,6 +46,10 @@ public class SysteminfoHandlerFactory extends BaseThingHandlerFactory {
             return new SysteminfoHandler(thing);
         }
 
+        if (thingTypeUID.equals(THING_TYPE_JVM)) {
+            return new JvmHandler(thing);
+        }
+
         return null;
     }
 }
@@ -0,0 +1,284 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.systeminfo.model;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.RuntimeMXBean;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.eclipse.smarthome.core.library.types.DecimalType;
+import org.eclipse.smarthome.core.library.types.StringType;
+
+/**
+ * Provides information about the Java virtual machine, which runs openHAB, using the platform MX beans, and about the
+ * thread pools managed by the {@link ThreadPoolManager}.
+ *
+ * @author agent - Initial contribution
+ */
+public class JvmSysteminfo {
+
+    private static final String HOTSPOT_RUNTIME_MBEAN = "sun.management:type=HotspotRuntime";
+    private static final String HOTSPOT_INTERNAL_MBEAN = "sun.management:type=HotspotInternal";
+    private static final String HOTSPOT_INTERNAL_CLASS = "sun.management.HotspotInternal";
+    private static final String ATTRIBUTE_TOTAL_SAFEPOINT_TIME = "TotalSafepointTime";
+
+    public static final int PRECISION_AFTER_DECIMAl_SIGN = 1;
+
+    private final MemoryMXBean memory;
+    private final ThreadMXBean threads;
+    private final ClassLoadingMXBean classLoading;
+    private final RuntimeMXBean runtime;
+    private final MBeanServer mBeanServer;
+
+    /**
+     * Set to false, if the safepoint statistics are not available in this JVM
+     */
+    private volatile boolean safepointTimeSupported = true;
+
+    /**
+     * The sample of the calling thread, see {@link #startSampling()}
+     */
+    private final ThreadLocal<Sample> currentSample = new ThreadLocal<>();
+
+    /**
+     * Values read while a sample is active, so that related channels are updated with consistent values
+     */
+    private static class Sample {
+        private MemoryUsage heap;
+        private MemoryUsage nonHeap;
+        private long[] garbageCollection;
+    }
+
+    public JvmSysteminfo() {
+        memory = ManagementFactory.getMemoryMXBean();
+        threads = ManagementFactory.getThreadMXBean();
+        classLoading = ManagementFactory.getClassLoadingMXBean();
+        runtime = ManagementFactory.getRuntimeMXBean();
+        mBeanServer = ManagementFactory.getPlatformMBeanServer();
+    }
+
+    /**
+     * Starts a sample for the calling thread. Until {@link #stopSampling()} is called, the memory and garbage
+     * collection values are read only once and then served from the sample.
+     */
+    public void startSampling() {
+        currentSample.set(new Sample());
+    }
+
+    /**
+     * Stops the sample of the calling thread. Subsequent calls read fresh values.
+     */
+    public void stopSampling() {
+        currentSample.remove();
+    }
+
+    private MemoryUsage getHeapUsage() {
+        Sample sample = currentSample.get();
+        if (sample == null) {
+            return memory.getHeapMemoryUsage();
+        }
+        if (sample.heap == null) {
+            sample.heap = memory.getHeapMemoryUsage();
+        }
+        return sample.heap;
+    }
+
+    private MemoryUsage getNonHeapUsage() {
+        Sample sample = currentSample.get();
+        if (sample == null) {
+            return memory.getNonHeapMemoryUsage();
+        }
+        if (sample.nonHeap == null) {
+            sample.nonHeap = memory.getNonHeapMemoryUsage();
+        }
+        return sample.nonHeap;
+    }
+
+    /**
+     * Sums up count and time of all garbage collectors
+     *
+     * @return array with the collection count at index 0 and the collection time in milliseconds at index 1
+     */
+    private long[] getGarbageCollection() {
+        Sample sample = currentSample.get();
+        if (sample != null && sample.garbageCollection != null) {
+            return sample.garbageCollection;
+        }
+
+        long[] garbageCollection = new long[2];
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // -1 is returned, if the value is not available for this collector
+            garbageCollection[0] += Math.max(collector.getCollectionCount(), 0);
+            garbageCollection[1] += Math.max(collector.getCollectionTime(), 0);
+        }
+
+        if (sample != null) {
+            sample.garbageCollection = garbageCollection;
+        }
+        return garbageCollection;
+    }
+
+    public StringType getJavaVersion() {
+        return new StringType(System.getProperty("java.version"));
+    }
+
+    public StringType getJvmName() {
+        return new StringType(runtime.getVmName());
+    }
+
+    public StringType getJvmVendor() {
+        return new StringType(runtime.getVmVendor());
+    }
+
+    public DecimalType getHeapUsed() {
+        return new DecimalType(getSizeInMB(getHeapUsage().getUsed()));
+    }
+
+    public DecimalType getHeapCommitted() {
+        return new DecimalType(getSizeInMB(getHeapUsage().getCommitted()));
+    }
+
+    /**
+     * @return the maximum heap size or null, if the maximum is not defined
+     */
+    public DecimalType getHeapMax() {
+        long max = getHeapUsage().getMax();
+        return max > 0 ? new DecimalType(getSizeInMB(max)) : null;
+    }
+
+    /**
+     * @return the used heap in percents of the maximum heap size or null, if the maximum is not defined
+     */
+    public DecimalType getHeapUsedPercent() {
+        MemoryUsage heap = getHeapUsage();
+        if (heap.getMax() > 0) {
+            double usedPercentDecimal = (double) heap.getUsed() / (double) heap.getMax();
+            return new DecimalType(getPercentsValue(usedPercentDecimal));
+        } else {
+            return null;
+        }
+    }
+
+    public DecimalType getNonHeapUsed() {
+        return new DecimalType(getSizeInMB(getNonHeapUsage().getUsed()));
+    }
+
+    public DecimalType getNonHeapCommitted() {
+        return new DecimalType(getSizeInMB(getNonHeapUsage().getCommitted()));
+    }
+
+    public DecimalType getGcCount() {
+        return new DecimalType(getGarbageCollection()[0]);
+    }
+
+    public DecimalType getGcTime() {
+        return new DecimalType(getGarbageCollection()[1]);
+    }
+
+    public DecimalType getThreadsLive() {
+        return new DecimalType(threads.getThreadCount());
+    }
+
+    public DecimalType getThreadsDaemon() {
+        return new DecimalType(threads.getDaemonThreadCount());
+    }
+
+    public DecimalType getClassesLoaded() {
+        return new DecimalType(classLoading.getLoadedClassCount());
+    }
+
+    public DecimalType getUptime() {
+        BigDecimal uptime = new BigDecimal(runtime.getUptime() / 60000.0);
+        uptime = uptime.setScale(PRECISION_AFTER_DECIMAl_SIGN, BigDecimal.ROUND_UP);
+        return new DecimalType(uptime);
+    }
+
+    /**
+     * The safepoint statistics are provided only by the HotSpot internal MBeans, which are not registered by default.
+     * They are registered on the first request.
+     *
+     * @return the accumulated safepoint time in milliseconds or null, if the JVM does not provide this information
+     */
+    public DecimalType getSafepointTime() {
+        if (!safepointTimeSupported) {
+            return null;
+        }
+        try {
+            ObjectName hotspotRuntime = new ObjectName(HOTSPOT_RUNTIME_MBEAN);
+            if (!mBeanServer.isRegistered(hotspotRuntime)) {
+                mBeanServer.createMBean(HOTSPOT_INTERNAL_CLASS, new ObjectName(HOTSPOT_INTERNAL_MBEAN));
+            }
+            Object safepointTime = mBeanServer.getAttribute(hotspotRuntime, ATTRIBUTE_TOTAL_SAFEPOINT_TIME);
+            return new DecimalType(((Number) safepointTime).longValue());
+        } catch (JMException | RuntimeException e) {
+            safepointTimeSupported = false;
+            return null;
+        }
+    }
+
+    /**
+     * @param poolName - the name of the thread pool
+     * @return the number of threads actively executing tasks or null, if the pool does not exist or does not provide this
+     *         information
+     */
+    public DecimalType getPoolActive(String poolName) {
+        ThreadPoolExecutor pool = getThreadPool(poolName);
+        return pool != null ? new DecimalType(pool.getActiveCount()) : null;
+    }
+
+    /**
+     * @param poolName - the name of the thread pool
+     * @return the number of queued tasks or null, if the pool does not exist or does not provide this
+     *         information
+     */
+    public DecimalType getPoolQueued(String poolName) {
+        ThreadPoolExecutor pool = getThreadPool(poolName);
+        return pool != null ? new DecimalType(pool.getQueue().size()) : null;
+    }
+
+    private ThreadPoolExecutor getThreadPool(String poolName) {
+        ExecutorService pool = PoolLookup.getExistingPool(poolName);
+        return pool instanceof ThreadPoolExecutor ? (ThreadPoolExecutor) pool : null;
+    }
+
+    /**
+     * Looks up the pools of the {@link ThreadPoolManager} without creating them. {@link ThreadPoolManager#getPool}
+     * would create a missing pool as a non-scheduled pool, which breaks the owner of the pool, if it later asks for a
+     * scheduled pool with the same name.
+     */
+    private static class PoolLookup extends ThreadPoolManager {
+        static ExecutorService getExistingPool(String poolName) {
+            synchronized (pools) {
+                return pools.get(poolName);
+            }
+        }
+    }
+
+    private long getSizeInMB(long sizeInBytes) {
+        return sizeInBytes / (1024 * 1024);
+    }
+
+    private BigDecimal getPercentsValue(double decimalFraction) {
+        BigDecimal result = new BigDecimal(decimalFraction * 100);
+        result = result.setScale(PRECISION_AFTER_DECIMAl_SIGN, BigDecimal.ROUND_HALF_UP);
+        return result;
+    }
+}
@@ -9,6 +9,11 @@
 package org.openhab.binding.systeminfo.model;
 
 import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang.ArrayUtils;
 import org.eclipse.smarthome.core.library.types.DecimalType;
@@ -54,8 +59,50 @@ public class OshiSysteminfo implements SysteminfoInterface {
     private PowerSource[] powerSources;
     private HWDiskStore[] drives;
 
+    // Set by updateStaticObjects(), the device lists are recreated on the next access
+    private volatile boolean networksExpired;
+    private volatile boolean fileStoresExpired;
+    private volatile boolean powerSourcesExpired;
+    private volatile boolean drivesExpired;
+
+    /**
+     * The sample of the calling thread, see {@link #startSampling()}
+     */
+    private final ThreadLocal<Sample> currentSample = new ThreadLocal<>();
+
     public static final int PRECISION_AFTER_DECIMAl_SIGN = 1;
 
+    /**
+     * Values read from OSHI while a sample is active. Each value is read at most once, so all channels updated in the
+     * same sample get consistent values and OSHI (which in most cases reads /proc or calls native code) is not
+     * queried repeatedly.
+     */
+    private static class Sample {
+        private final Map<Integer, OSProcess> processes = new HashMap<>();
+        private final Set<NetworkIF> updatedNetworks = Collections
+                .newSetFromMap(new IdentityHashMap<NetworkIF, Boolean>());
+        private MemoryState memory;
+        private double[] systemLoadAverage;
+        private Integer threadCount;
+    }
+
+    /**
+     * Memory and swap values read together
+     */
+    private static class MemoryState {
+        private final long total;
+        private final long available;
+        private final long swapTotal;
+        private final long swapUsed;
+
+        private MemoryState(GlobalMemory memory) {
+            total = memory.getTotal();
+            available = memory.getAvailable();
+            swapTotal = memory.getSwapTotal();
+            swapUsed = memory.getSwapUsed();
+        }
+    }
+
     /**
      * Some of the methods used in this constructor execute native code and require execute permissions
      *
@@ -73,14 +120,88 @@ public class OshiSysteminfo implements SysteminfoInterface {
         displays = hal.getDisplays();
 
         updateStaticObjects();
+        // Check that all device lists can be read
+        getFileStores();
+        getPowerSources();
+        getNetworks();
+        getDrives();
     }
 
+    /**
+     * Marks the static objects as expired. Each device list is recreated the next time it is needed, so lists that are
+     * not used by any channel are never queried.
+     */
     public void updateStaticObjects() {
         // In OSHI 4.0.0. it is planed to change this mechanism - see https://github.com/oshi/oshi/issues/310
-        fileStores = operatingSystem.getFileSystem().getFileStores();
-        powerSources = hal.getPowerSources();
-        networks = hal.getNetworkIFs();
-        drives = hal.getDiskStores();
+        fileStoresExpired = true;
+        powerSourcesExpired = true;
+        networksExpired = true;
+        drivesExpired = true;
+    }
+
+    /**
+     * Starts a sample for the calling thread. Until {@link #stopSampling()} is called, every value is read from OSHI
+     * only once and then served from the sample.
+     */
+    public void startSampling() {
+        currentSample.set(new Sample());
+    }
+
+    /**
+     * Stops the sample of the calling thread. Subsequent calls read fresh values from OSHI.
+     */
+    public void stopSampling() {
+        currentSample.remove();
+    }
+
+    private OSFileStore[] getFileStores() {
+        if (fileStoresExpired) {
+            fileStoresExpired = false;
+            fileStores = operatingSystem.getFileSystem().getFileStores();
+        }
+        return fileStores;
+    }
+
+    private PowerSource[] getPowerSources() {
+        if (powerSourcesExpired) {
+            powerSourcesExpired = false;
+            powerSources = hal.getPowerSources();
+        }
+        return powerSources;
+    }
+
+    private NetworkIF[] getNetworks() {
+        if (networksExpired) {
+            networksExpired = false;
+            networks = hal.getNetworkIFs();
+        }
+        return networks;
+    }
+
+    private HWDiskStore[] getDrives() {
+        if (drivesExpired) {
+            drivesExpired = false;
+            drives = hal.getDiskStores();
+        }
+        return drives;
+    }
+
+    private MemoryState getMemoryState() {
+        Sample sample = currentSample.get();
+        if (sample == null) {
+            return new MemoryState(memory);
+        }
+        if (sample.memory == null) {
+            sample.memory = new MemoryState(memory);
+        }
+        return sample.memory;
+    }
+
+    private void updateNetworkStats(NetworkIF network) {
+        Sample sample = currentSample.get();
+        if (sample == null || sample.updatedNetworks.add(network)) {
+            network.updateNetworkStats();
+        }
     }
 
     @SuppressWarnings("null")
@@ -92,7 +213,14 @@ public class OshiSysteminfo implements SysteminfoInterface {
     }
 
     private OSProcess getProcess(int pid) throws DeviceNotFoundException {
-        OSProcess process = operatingSystem.getProcess(pid);
+        Sample sample = currentSample.get();
+        OSProcess process = sample != null ? sample.processes.get(pid) : null;
+        if (process == null) {
+            process = operatingSystem.getProcess(pid);
+            if (sample != null && process != null) {
+                sample.processes.put(pid, process);
+            }
+        }
         if (process == null) {
             throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
         }
@@ -159,22 +287,23 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getMemoryTotal() {
-        long totalMemory = memory.getTotal();
+        long totalMemory = getMemoryState().total;
         totalMemory = getSizeInMB(totalMemory);
         return new DecimalType(totalMemory);
     }
 
     @Override
     public DecimalType getMemoryAvailable() {
-        long availableMemory = memory.getAvailable();
+        long availableMemory = getMemoryState().available;
         availableMemory = getSizeInMB(availableMemory);
         return new DecimalType(availableMemory);
     }
 
     @Override
     public DecimalType getMemoryUsed() {
-        long totalMemory = memory.getTotal();
-        long availableMemory = memory.getAvailable();
+        MemoryState memoryState = getMemoryState();
+        long totalMemory = memoryState.total;
+        long availableMemory = memoryState.available;
         long usedMemory = totalMemory - availableMemory;
         usedMemory = getSizeInMB(usedMemory);
         return new DecimalType(usedMemory);
@@ -182,7 +311,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageTotal(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        OSFileStore fileStore = (OSFileStore) getDevice(getFileStores(), index);
         long totalSpace = fileStore.getTotalSpace();
         totalSpace = getSizeInMB(totalSpace);
         return new DecimalType(totalSpace);
@@ -190,7 +319,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageAvailable(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        OSFileStore fileStore = (OSFileStore) getDevice(getFileStores(), index);
         long freeSpace = fileStore.getUsableSpace();
         freeSpace = getSizeInMB(freeSpace);
         return new DecimalType(freeSpace);
@@ -198,7 +327,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageUsed(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        OSFileStore fileStore = (OSFileStore) getDevice(getFileStores(), index);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -208,7 +337,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageAvailablePercent(int deviceIndex) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, deviceIndex);
+        OSFileStore fileStore = (OSFileStore) getDevice(getFileStores(), deviceIndex);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         if (totalSpace > 0) {
@@ -222,7 +351,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageUsedPercent(int deviceIndex) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, deviceIndex);
+        OSFileStore fileStore = (OSFileStore) getDevice(getFileStores(), deviceIndex);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -237,28 +366,28 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public StringType getStorageName(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        OSFileStore fileStore = (OSFileStore) getDevice(getFileStores(), index);
         String name = fileStore.getName();
         return new StringType(name);
     }
 
     @Override
     public StringType getStorageType(int deviceIndex) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, deviceIndex);
+        OSFileStore fileStore = (OSFileStore) getDevice(getFileStores(), deviceIndex);
         String type = fileStore.getType();
         return new StringType(type);
     }
 
     @Override
     public StringType getStorageDescription(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = (OSFileStore) getDevice(fileStores, index);
+        OSFileStore fileStore = (OSFileStore) getDevice(getFileStores(), index);
         String description = fileStore.getDescription();
         return new StringType(description);
     }
 
     @Override
     public StringType getNetworkIp(int index) throws DeviceNotFoundException {
-        NetworkIF netInterface = (NetworkIF) getDevice(networks, index);
+        NetworkIF netInterface = (NetworkIF) getDevice(getNetworks(), index);
         String[] ipAddresses = netInterface.getIPv4addr();
         String ipv4 = (String) getDevice(ipAddresses, 0);
         return new StringType(ipv4);
@@ -266,14 +395,14 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public StringType getNetworkName(int index) throws DeviceNotFoundException {
-        NetworkIF netInterface = (NetworkIF) getDevice(networks, index);
+        NetworkIF netInterface = (NetworkIF) getDevice(getNetworks(), index);
         String name = netInterface.getName();
         return new StringType(name);
     }
 
     @Override
     public StringType getNetworkDisplayName(int index) throws DeviceNotFoundException {
-        NetworkIF netInterface = (NetworkIF) getDevice(networks, index);
+        NetworkIF netInterface = (NetworkIF) getDevice(getNetworks(), index);
         String adapterName = netInterface.getDisplayName();
         return new StringType(adapterName);
     }
@@ -317,7 +446,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getBatteryRemainingTime(int index) throws DeviceNotFoundException {
-        PowerSource powerSource = (PowerSource) getDevice(powerSources, index);
+        PowerSource powerSource = (PowerSource) getDevice(getPowerSources(), index);
         double remainingTimeInSeconds = powerSource.getTimeRemaining();
         // The getTimeRemaining() method returns (-1.0) if is calculating or (-2.0) if the time is unlimited.
         BigDecimal remainingTime = getTimeInMinutes(remainingTimeInSeconds);
@@ -326,7 +455,7 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getBatteryRemainingCapacity(int index) throws DeviceNotFoundException {
-        PowerSource powerSource = (PowerSource) getDevice(powerSources, index);
+        PowerSource powerSource = (PowerSource) getDevice(getPowerSources(), index);
         double remainingCapacity = powerSource.getRemainingCapacity();
         BigDecimal remainingCapacityPercents = getPercentsValue(remainingCapacity);
         return new DecimalType(remainingCapacityPercents);
@@ -334,15 +463,16 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public StringType getBatteryName(int index) throws DeviceNotFoundException {
-        PowerSource powerSource = (PowerSource) getDevice(powerSources, index);
+        PowerSource powerSource = (PowerSource) getDevice(getPowerSources(), index);
         String name = powerSource.getName();
         return new StringType(name);
     }
 
     @Override
     public DecimalType getMemoryAvailablePercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        MemoryState memoryState = getMemoryState();
+        long availableMemory = memoryState.available;
+        long totalMemory = memoryState.total;
         if (totalMemory > 0) {
             double freePercentDecimal = (double) availableMemory / (double) totalMemory;
             BigDecimal freePercent = getPercentsValue(freePercentDecimal);
@@ -354,8 +484,9 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getMemoryUsedPercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        MemoryState memoryState = getMemoryState();
+        long availableMemory = memoryState.available;
+        long totalMemory = memoryState.total;
         long usedMemory = totalMemory - availableMemory;
         if (totalMemory > 0) {
             double usedPercentDecimal = (double) usedMemory / (double) totalMemory;
@@ -368,36 +499,37 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public StringType getDriveName(int deviceIndex) throws DeviceNotFoundException {
-        HWDiskStore drive = (HWDiskStore) getDevice(drives, deviceIndex);
+        HWDiskStore drive = (HWDiskStore) getDevice(getDrives(), deviceIndex);
         String name = drive.getName();
         return new StringType(name);
     }
 
     @Override
     public StringType getDriveModel(int deviceIndex) throws DeviceNotFoundException {
-        HWDiskStore drive = (HWDiskStore) getDevice(drives, deviceIndex);
+        HWDiskStore drive = (HWDiskStore) getDevice(getDrives(), deviceIndex);
         String model = drive.getModel();
         return new StringType(model);
     }
 
     @Override
     public StringType getDriveSerialNumber(int deviceIndex) throws DeviceNotFoundException {
-        HWDiskStore drive = (HWDiskStore) getDevice(drives, deviceIndex);
+        HWDiskStore drive = (HWDiskStore) getDevice(getDrives(), deviceIndex);
         String serialNumber = drive.getSerial();
         return new StringType(serialNumber);
     }
 
     @Override
     public DecimalType getSwapTotal() {
-        long swapTotal = memory.getSwapTotal();
+        long swapTotal = getMemoryState().swapTotal;
         swapTotal = getSizeInMB(swapTotal);
         return swapTotal > 0 ? new DecimalType(swapTotal) : null;
     }
 
     @Override
     public DecimalType getSwapAvailable() {
-        long swapTotal = memory.getSwapTotal();
-        long swapUsed = memory.getSwapUsed();
+        MemoryState memoryState = getMemoryState();
+        long swapTotal = memoryState.swapTotal;
+        long swapUsed = memoryState.swapUsed;
         long swapAvaialble = swapTotal - swapUsed;
         swapAvaialble = getSizeInMB(swapAvaialble);
         return swapAvaialble > 0 ? new DecimalType(swapAvaialble) : null;
@@ -405,15 +537,16 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getSwapUsed() {
-        long swapTotal = memory.getSwapUsed();
+        long swapTotal = getMemoryState().swapUsed;
         swapTotal = getSizeInMB(swapTotal);
         return swapTotal > 0 ? new DecimalType(swapTotal) : null;
     }
 
     @Override
     public DecimalType getSwapAvailablePercent() {
-        long usedSwap = memory.getSwapUsed();
-        long totalSwap = memory.getSwapTotal();
+        MemoryState memoryState = getMemoryState();
+        long usedSwap = memoryState.swapUsed;
+        long totalSwap = memoryState.swapTotal;
         long freeSwap = totalSwap - usedSwap;
         if (totalSwap > 0) {
             double freePercentDecimal = (double) freeSwap / (double) totalSwap;
@@ -426,8 +559,9 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getSwapUsedPercent() {
-        long usedSwap = memory.getSwapUsed();
-        long totalSwap = memory.getSwapTotal();
+        MemoryState memoryState = getMemoryState();
+        long usedSwap = memoryState.swapUsed;
+        long totalSwap = memoryState.swapTotal;
         if (totalSwap > 0) {
             double usedPercentDecimal = (double) usedSwap / (double) totalSwap;
             BigDecimal usedPercent = getPercentsValue(usedPercentDecimal);
@@ -502,12 +636,23 @@ public class OshiSysteminfo implements SysteminfoInterface {
             default:
                 index = 2;
         }
-        double processorLoads[] = cpu.getSystemLoadAverage(index + 1);
+        double processorLoads[] = getSystemLoadAverage();
         BigDecimal result = new BigDecimal(processorLoads[index]);
         result = result.setScale(PRECISION_AFTER_DECIMAl_SIGN, BigDecimal.ROUND_HALF_UP);
         return result;
     }
 
+    private double[] getSystemLoadAverage() {
+        Sample sample = currentSample.get();
+        if (sample == null) {
+            return cpu.getSystemLoadAverage(3);
+        }
+        if (sample.systemLoadAverage == null) {
+            sample.systemLoadAverage = cpu.getSystemLoadAverage(3);
+        }
+        return sample.systemLoadAverage;
+    }
+
     @Override
     public DecimalType getCpuUptime() {
         long seconds = cpu.getSystemUptime();
@@ -516,45 +661,51 @@ public class OshiSysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getCpuThreads() {
-        int threadCount = operatingSystem.getThreadCount();
-        return new DecimalType(threadCount);
+        Sample sample = currentSample.get();
+        if (sample == null) {
+            return new DecimalType(operatingSystem.getThreadCount());
+        }
+        if (sample.threadCount == null) {
+            sample.threadCount = operatingSystem.getThreadCount();
+        }
+        return new DecimalType(sample.threadCount);
     }
 
     @Override
     public StringType getNetworkMac(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
+        NetworkIF network = (NetworkIF) getDevice(getNetworks(), networkIndex);
         String mac = network.getMacaddr();
         return new StringType(mac);
     }
 
     @Override
     public DecimalType getNetworkPacketsReceived(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateNetworkStats();
+        NetworkIF network = (NetworkIF) getDevice(getNetworks(), networkIndex);
+        updateNetworkStats(network);
         long packRecv = network.getPacketsRecv();
         return new DecimalType(packRecv);
     }
 
     @Override
     public DecimalType getNetworkPacketsSent(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateNetworkStats();
+        NetworkIF network = (NetworkIF) getDevice(getNetworks(), networkIndex);
+        updateNetworkStats(network);
         long packSent = network.getPacketsSent();
         return new DecimalType(packSent);
     }
 
     @Override
     public DecimalType getNetworkDataSent(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateNetworkStats();
+        NetworkIF network = (NetworkIF) getDevice(getNetworks(), networkIndex);
+        updateNetworkStats(network);
         long bytesSent = network.getBytesSent();
         return new DecimalType(getSizeInMB(bytesSent));
     }
 
     @Override
     public DecimalType getNetworkDataReceived(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = (NetworkIF) getDevice(networks, networkIndex);
-        network.updateNetworkStats();
+        NetworkIF network = (NetworkIF) getDevice(getNetworks(), networkIndex);
+        updateNetworkStats(network);
         long bytesRecv = network.getBytesRecv();
         return new DecimalType(getSizeInMB(bytesRecv));
     }
@@ -43,4 +43,8 @@ public class TankerkoenigBindingConstants {
     public static final String CONFIG_REFRESH = "refresh";
     public static final String CONFIG_MODE_OPENINGTIME = "modeOpeningTime";
 
+    // throttler channels
+    public static final String THROTTLE_PRICES = "prices";
+    public static final String THROTTLE_DETAIL = "detail";
+
 }
@@ -27,6 +27,7 @@ import org.openhab.binding.tankerkoenig.internal.config.LittleStation;
 import org.openhab.binding.tankerkoenig.internal.config.OpeningTimes;
 import org.openhab.binding.tankerkoenig.internal.config.TankerkoenigDetailResult;
 import org.openhab.binding.tankerkoenig.internal.data.TankerkoenigService;
+import org.openhab.io.throttler.ChannelThrottler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -85,16 +86,27 @@ public class StationHandler extends BaseThingHandler {
         pollingJob = scheduler.scheduleWithFixedDelay(new Runnable() {
             @Override
             public void run() {
-                try {
-                    logger.debug("Try to refresh detail data");
-                    updateDetailData();
-                } catch (RuntimeException r) {
-                    logger.debug(
-                            "Caught exception in ScheduledExecutorService of TankerkoenigHandler. RuntimeExcetion: {}",
-                            r);
-                    // no status change, since in case of error in here,
-                    // the old values for opening time will be continue to be used
+                Bridge bridge = getBridge();
+                if (bridge == null || !(bridge.getHandler() instanceof WebserviceHandler)) {
+                    logger.debug("No bridge available, detail data of '{}' is not refreshed", getThing().getUID());
+                    return;
                 }
+                ((WebserviceHandler) bridge.getHandler()).submitRequest(THROTTLE_DETAIL, ChannelThrottler.PRIORITY_LOW,
+                        new Runnable() {
+                            @Override
+                            public void run() {
+                                try {
+                                    logger.debug("Try to refresh detail data");
+                                    updateDetailData();
+                                } catch (RuntimeException r) {
+                                    logger.debug(
+                                            "Caught exception in ScheduledExecutorService of TankerkoenigHandler. RuntimeExcetion: {}",
+                                            r);
+                                    // no status change, since in case of error in here,
+                                    // the old values for opening time will be continue to be used
+                                }
+                            }
+                        });
             }
         }, 15, 86400, TimeUnit.SECONDS);// 24*60*60 = 86400, a whole day in seconds!
         logger.debug("Refresh job scheduled to run every 24 hours for '{}'", getThing().getUID());
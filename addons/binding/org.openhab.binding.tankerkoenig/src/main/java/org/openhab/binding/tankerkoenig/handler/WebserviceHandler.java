@@ -15,6 +15,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -32,6 +33,11 @@ import org.openhab.binding.tankerkoenig.internal.config.OpeningTime;
 import org.openhab.binding.tankerkoenig.internal.config.OpeningTimes;
 import org.openhab.binding.tankerkoenig.internal.config.TankerkoenigListResult;
 import org.openhab.binding.tankerkoenig.internal.data.TankerkoenigService;
+import org.openhab.io.throttler.ChannelThrottler;
+import org.openhab.io.throttler.QueueChannelThrottler;
+import org.openhab.io.throttler.Rate;
+import org.openhab.io.throttler.ThrottlerNames;
+import org.openhab.io.throttler.ThrottlerService;
 import org.osgi.framework.FrameworkUtil;
 import org.osgi.framework.Version;
 import org.slf4j.Logger;
@@ -59,8 +65,13 @@ public class WebserviceHandler extends BaseBridgeHandler {
 
     private ScheduledFuture<?> pollingJob;
 
-    public WebserviceHandler(Bridge bridge) {
+    private final ThrottlerService throttlerService;
+    private String throttlerName;
+    private QueueChannelThrottler throttler;
+
+    public WebserviceHandler(Bridge bridge, ThrottlerService throttlerService) {
         super(bridge);
+        this.throttlerService = throttlerService;
         stationMap = new HashMap<String, LittleStation>();
     }
 
@@ -86,19 +97,34 @@ public class WebserviceHandler extends BaseBridgeHandler {
 
         updateStatus(ThingStatus.UNKNOWN);
 
+        // all requests for one api key share a single request budget, price updates take precedence over the
+        // detail requests of the stations
+        Map<Object, Rate> channels = new HashMap<Object, Rate>();
+        channels.put(TankerkoenigBindingConstants.THROTTLE_PRICES, new Rate(1, 1, TimeUnit.MINUTES));
+        channels.put(TankerkoenigBindingConstants.THROTTLE_DETAIL, new Rate(1, 5, TimeUnit.SECONDS));
+        throttlerName = ThrottlerNames.forAccount(TankerkoenigBindingConstants.BINDING_ID, getApiKey());
+        throttler = throttlerService.acquireThrottler(throttlerName, channels, new Rate(10, 1, TimeUnit.MINUTES));
+
         int pollingPeriod = this.getRefreshInterval();
         pollingJob = scheduler.scheduleWithFixedDelay(new Runnable() {
             @Override
             public void run() {
-                logger.debug("Try to refresh data");
-                try {
-                    updateStationData();
-                    updateStationThings();
-                } catch (RuntimeException r) {
-                    logger.debug("Caught exception in ScheduledExecutorService of BridgeHandler. RuntimeException: ",
-                            r);
-                    updateStatus(ThingStatus.OFFLINE);
-                }
+                submitRequest(TankerkoenigBindingConstants.THROTTLE_PRICES, ChannelThrottler.PRIORITY_HIGH,
+                        new Runnable() {
+                            @Override
+                            public void run() {
+                                logger.debug("Try to refresh data");
+                                try {
+                                    updateStationData();
+                                    updateStationThings();
+                                } catch (RuntimeException r) {
+                                    logger.debug(
+                                            "Caught exception in ScheduledExecutorService of BridgeHandler. RuntimeException: ",
+                                            r);
+                                    updateStatus(ThingStatus.OFFLINE);
+                                }
+                            }
+                        });
             }
         }, pollingPeriod, pollingPeriod, TimeUnit.MINUTES);
         logger.debug("Refresh job scheduled to run every {} min. for '{}'", pollingPeriod, getThing().getUID());
@@ -109,6 +135,27 @@ public class WebserviceHandler extends BaseBridgeHandler {
         if (pollingJob != null) {
             pollingJob.cancel(true);
         }
+        if (throttler != null) {
+            throttler = null;
+            throttlerService.releaseThrottler(throttlerName);
+        }
+    }
+
+    /***
+     * Submits a request to the tankerkoenig api to the throttler shared by all things using the same api key
+     *
+     * @param channelKey the throttler channel of the request
+     * @param priority the priority of the request
+     * @param request the request
+     * @return the future of the request, or null if the request could not be accepted
+     */
+    public Future<?> submitRequest(String channelKey, int priority, Runnable request) {
+        QueueChannelThrottler throttler = this.throttler;
+        if (throttler == null) {
+            logger.debug("The throttler is not available, skipping the request");
+            return null;
+        }
+        return throttler.submit(channelKey, priority, request);
     }
 
     @Override
@@ -20,6 +20,7 @@ import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.openhab.binding.tankerkoenig.TankerkoenigBindingConstants;
 import org.openhab.binding.tankerkoenig.handler.StationHandler;
 import org.openhab.binding.tankerkoenig.handler.WebserviceHandler;
+import org.openhab.io.throttler.ThrottlerService;
 
 import com.google.common.collect.Sets;
 
@@ -33,6 +34,8 @@ public class TankerkoenigHandlerFactory extends BaseThingHandlerFactory {
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Sets.union(BRIDGE_THING_TYPES_UIDS,
             TankerkoenigBindingConstants.SUPPORTED_THING_TYPES_UIDS);
 
+    private ThrottlerService throttlerService;
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -42,11 +45,19 @@ public class TankerkoenigHandlerFactory extends BaseThingHandlerFactory {
     protected ThingHandler createHandler(Thing thing) {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
         if (thingTypeUID.equals(BRIDGE_THING_TYPE)) {
-            WebserviceHandler handler = new WebserviceHandler((Bridge) thing);
+            WebserviceHandler handler = new WebserviceHandler((Bridge) thing, throttlerService);
             return handler;
         } else if (thingTypeUID.equals(THING_TYPE_TANKSTELLE)) {
             return new StationHandler(thing);
         }
         return null;
     }
+
+    protected void setThrottlerService(ThrottlerService throttlerService) {
+        this.throttlerService = throttlerService;
+    }
+
+    protected void unsetThrottlerService(ThrottlerService throttlerService) {
+        this.throttlerService = null;
+    }
 }
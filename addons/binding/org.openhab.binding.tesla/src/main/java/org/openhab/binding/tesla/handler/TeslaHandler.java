@@ -22,6 +22,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -69,8 +70,11 @@ import org.openhab.binding.tesla.internal.protocol.TokenRequestRefreshToken;
 import org.openhab.binding.tesla.internal.protocol.TokenResponse;
 import org.openhab.binding.tesla.internal.protocol.Vehicle;
 import org.openhab.binding.tesla.internal.protocol.VehicleState;
-import org.openhab.binding.tesla.internal.throttler.QueueChannelThrottler;
-import org.openhab.binding.tesla.internal.throttler.Rate;
+import org.openhab.io.throttler.ChannelThrottler;
+import org.openhab.io.throttler.QueueChannelThrottler;
+import org.openhab.io.throttler.Rate;
+import org.openhab.io.throttler.ThrottlerNames;
+import org.openhab.io.throttler.ThrottlerService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -133,13 +137,17 @@ public class TeslaHandler extends BaseThingHandler {
     protected ReentrantLock lock;
 
     private StorageService storageService;
+    private ThrottlerService throttlerService;
+    private String throttlerName;
     protected Gson gson = new Gson();
     protected TeslaChannelSelectorProxy teslaChannelSelectorProxy = new TeslaChannelSelectorProxy();
+    protected final Map<String, State> lastStates = new ConcurrentHashMap<>();
     private TokenResponse logonToken;
 
-    public TeslaHandler(Thing thing, StorageService storageService) {
+    public TeslaHandler(Thing thing, StorageService storageService, ThrottlerService throttlerService) {
         super(thing);
         this.storageService = storageService;
+        this.throttlerService = throttlerService;
     }
 
     @Override
@@ -149,6 +157,7 @@ public class TeslaHandler extends BaseThingHandler {
 
         updateStatus(ThingStatus.UNKNOWN);
 
+        lastStates.clear();
         lock = new ReentrantLock();
 
         lock.lock();
@@ -167,8 +176,11 @@ public class TeslaHandler extends BaseThingHandler {
 
             Rate firstRate = new Rate(20, 1, TimeUnit.MINUTES);
             Rate secondRate = new Rate(200, 10, TimeUnit.MINUTES);
-            stateThrottler = new QueueChannelThrottler(firstRate, scheduler, channels);
-            stateThrottler.addRate(secondRate);
+            // all vehicles of an account share the request budget of that account
+            String username = (String) getConfig().get(USERNAME);
+            throttlerName = StringUtils.isEmpty(username) ? getThing().getUID().toString()
+                    : ThrottlerNames.forAccount(BINDING_ID, username);
+            stateThrottler = throttlerService.acquireThrottler(throttlerName, channels, firstRate, secondRate);
 
             if (fastStateJob == null || fastStateJob.isCancelled()) {
                 fastStateJob = scheduler.scheduleWithFixedDelay(fastStateRunnable, 0, FAST_STATUS_REFRESH_INTERVAL,
@@ -210,18 +222,42 @@ public class TeslaHandler extends BaseThingHandler {
                 connectJob.cancel(true);
                 connectJob = null;
             }
+
+            if (stateThrottler != null) {
+                stateThrottler = null;
+                throttlerService.releaseThrottler(throttlerName);
+            }
+
+            lastStates.clear();
         } finally {
             lock.unlock();
         }
 
     }
 
+    /**
+     * Updates the state of a channel, unless the same state was already published for it.
+     */
+    protected void updateStateIfChanged(String channelID, State state) {
+        if (state == null) {
+            logger.trace("No state could be derived for channel '{}'", channelID);
+            return;
+        }
+        State previous = lastStates.put(channelID, state);
+        if (!state.equals(previous)) {
+            updateState(channelID, state);
+        }
+    }
+
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
 
         String channelID = channelUID.getId();
         TeslaChannelSelector selector = TeslaChannelSelector.getValueSelectorFromChannelID(channelID);
 
+        // the item may show the commanded state now, so the next polled state has to be published in any case
+        lastStates.remove(channelID);
+
         if (command instanceof RefreshType) {
             if (isAwake()) {
                 // Request the state of all known variables. This is sub-optimal, but the requests get scheduled and
@@ -367,7 +403,7 @@ public class TeslaHandler extends BaseThingHandler {
     public void sendCommand(String command, String payLoad, WebTarget target) {
         Request request = new Request(command, payLoad, target);
         if (stateThrottler != null) {
-            stateThrottler.submit(TESLA_COMMAND_THROTTLE, request);
+            stateThrottler.submit(TESLA_COMMAND_THROTTLE, ChannelThrottler.PRIORITY_HIGH, request);
         }
     }
 
@@ -378,14 +414,14 @@ public class TeslaHandler extends BaseThingHandler {
     public void sendCommand(String command, String payLoad) {
         Request request = new Request(command, payLoad, commandTarget);
         if (stateThrottler != null) {
-            stateThrottler.submit(TESLA_COMMAND_THROTTLE, request);
+            stateThrottler.submit(TESLA_COMMAND_THROTTLE, ChannelThrottler.PRIORITY_HIGH, request);
         }
     }
 
     public void sendCommand(String command, WebTarget target) {
         Request request = new Request(command, "{}", target);
         if (stateThrottler != null) {
-            stateThrottler.submit(TESLA_COMMAND_THROTTLE, request);
+            stateThrottler.submit(TESLA_COMMAND_THROTTLE, ChannelThrottler.PRIORITY_HIGH, request);
         }
     }
 
@@ -497,9 +533,9 @@ public class TeslaHandler extends BaseThingHandler {
                     case TESLA_CHARGE_STATE: {
                         chargeState = gson.fromJson(result, ChargeState.class);
                         if (chargeState.charging_state != null && "Charging".equals(chargeState.charging_state)) {
-                            updateState(CHANNEL_CHARGE, OnOffType.ON);
+                            updateStateIfChanged(CHANNEL_CHARGE, OnOffType.ON);
                         } else {
-                            updateState(CHANNEL_CHARGE, OnOffType.OFF);
+                            updateStateIfChanged(CHANNEL_CHARGE, OnOffType.OFF);
                         }
 
                         break;
@@ -559,22 +595,32 @@ public class TeslaHandler extends BaseThingHandler {
                         }
 
                         if (proceed) {
+                            Map<String, String> properties = editProperties();
+                            boolean propertiesChanged = false;
                             for (Map.Entry<String, JsonElement> entry : entrySet) {
+                                TeslaChannelSelector selector = TeslaChannelSelector
+                                        .findValueSelectorFromRESTID(entry.getKey());
+                                if (selector == null) {
+                                    logger.trace("The variable/value pair '{}':'{}' is not (yet) supported",
+                                            entry.getKey(), entry.getValue());
+                                    continue;
+                                }
                                 try {
-                                    TeslaChannelSelector selector = TeslaChannelSelector
-                                            .getValueSelectorFromRESTID(entry.getKey());
                                     if (!selector.isProperty()) {
                                         if (!entry.getValue().isJsonNull()) {
-                                            updateState(selector.getChannelID(), teslaChannelSelectorProxy.getState(
-                                                    entry.getValue().getAsString(), selector, editProperties()));
+                                            updateStateIfChanged(selector.getChannelID(),
+                                                    teslaChannelSelectorProxy.getState(entry.getValue().getAsString(),
+                                                            selector, properties));
                                         } else {
-                                            updateState(selector.getChannelID(), UnDefType.UNDEF);
+                                            updateStateIfChanged(selector.getChannelID(), UnDefType.UNDEF);
                                         }
                                     } else {
                                         if (!entry.getValue().isJsonNull()) {
-                                            Map<String, String> properties = editProperties();
-                                            properties.put(selector.getChannelID(), entry.getValue().getAsString());
-                                            updateProperties(properties);
+                                            String value = entry.getValue().getAsString();
+                                            if (!value.equals(properties.get(selector.getChannelID()))) {
+                                                properties.put(selector.getChannelID(), value);
+                                                propertiesChanged = true;
+                                            }
                                         }
                                     }
                                 } catch (IllegalArgumentException e) {
@@ -585,6 +631,9 @@ public class TeslaHandler extends BaseThingHandler {
                                             e.getMessage(), e);
                                 }
                             }
+                            if (propertiesChanged) {
+                                updateProperties(properties);
+                            }
                         } else {
                             logger.warn("The result for request '{}' is discarded due to an out of sync timestamp",
                                     request);
@@ -1010,9 +1059,9 @@ public class TeslaHandler extends BaseThingHandler {
                                                     State newState = teslaChannelSelectorProxy.getState(vals[i],
                                                             selector, editProperties());
                                                     if (newState != null && !"".equals(vals[i])) {
-                                                        updateState(selector.getChannelID(), newState);
+                                                        updateStateIfChanged(selector.getChannelID(), newState);
                                                     } else {
-                                                        updateState(selector.getChannelID(), UnDefType.UNDEF);
+                                                        updateStateIfChanged(selector.getChannelID(), UnDefType.UNDEF);
                                                     }
                                                 } else {
                                                     Map<String, String> properties = editProperties();
@@ -8,10 +8,10 @@
  */
 package org.openhab.binding.tesla.internal;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.text.SimpleDateFormat;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.eclipse.smarthome.core.library.types.DateTimeType;
@@ -933,10 +933,27 @@ public class TeslaChannelSelectorProxy {
         },
         WHEEL_TYPE("wheel_type", "wheeltype", StringType.class, true);
 
+        private static final Map<String, TeslaChannelSelector> SELECTORS_BY_RESTID;
+        private static final Map<String, TeslaChannelSelector> SELECTORS_BY_CHANNELID;
+
+        static {
+            Map<String, TeslaChannelSelector> byRESTID = new HashMap<>();
+            Map<String, TeslaChannelSelector> byChannelID = new HashMap<>();
+            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
+                if (c.RESTID != null) {
+                    byRESTID.putIfAbsent(c.RESTID, c);
+                }
+                byChannelID.putIfAbsent(c.channelID, c);
+            }
+            SELECTORS_BY_RESTID = Collections.unmodifiableMap(byRESTID);
+            SELECTORS_BY_CHANNELID = Collections.unmodifiableMap(byChannelID);
+        }
+
         private final String RESTID;
         private final String channelID;
         private Class<? extends Type> typeClass;
         private final boolean isProperty;
+        private final StateParser stateParser;
 
         private TeslaChannelSelector(String RESTID, String channelID, Class<? extends Type> typeClass,
                 boolean isProperty) {
@@ -944,6 +961,7 @@ public class TeslaChannelSelectorProxy {
             this.channelID = channelID;
             this.typeClass = typeClass;
             this.isProperty = isProperty;
+            this.stateParser = getStateParser(typeClass);
         }
 
         @Override
@@ -968,44 +986,68 @@ public class TeslaChannelSelectorProxy {
         }
 
         public State getState(String s) {
+            if (stateParser == null) {
+                return null;
+            }
             try {
-                Method valueOf = typeClass.getMethod("valueOf", String.class);
-                State state = (State) valueOf.invoke(typeClass, s);
-                if (state != null) {
-                    return state;
-                }
-            } catch (NoSuchMethodException e) {
-            } catch (IllegalArgumentException e) {
-            } catch (IllegalAccessException e) {
-            } catch (InvocationTargetException e) {
+                return stateParser.parse(s);
+            } catch (RuntimeException e) {
+                return null;
             }
-
-            return null;
         }
 
         public static TeslaChannelSelector getValueSelectorFromChannelID(String valueSelectorText)
                 throws IllegalArgumentException {
-
-            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
-                if (c.channelID.equals(valueSelectorText)) {
-                    return c;
-                }
+            TeslaChannelSelector c = SELECTORS_BY_CHANNELID.get(valueSelectorText);
+            if (c == null) {
+                throw new IllegalArgumentException("Not valid value selector");
             }
-
-            throw new IllegalArgumentException("Not valid value selector");
+            return c;
         }
 
         public static TeslaChannelSelector getValueSelectorFromRESTID(String valueSelectorText)
                 throws IllegalArgumentException {
-
-            for (TeslaChannelSelector c : TeslaChannelSelector.values()) {
-                if (c.RESTID != null && c.RESTID.equals(valueSelectorText)) {
-                    return c;
-                }
+            TeslaChannelSelector c = findValueSelectorFromRESTID(valueSelectorText);
+            if (c == null) {
+                throw new IllegalArgumentException("Not valid value selector");
             }
+            return c;
+        }
+
+        /**
+         * Looks up the selector for a field of a REST response without throwing for unsupported fields.
+         *
+         * @return the selector, or null if the field is not supported
+         */
+        public static TeslaChannelSelector findValueSelectorFromRESTID(String valueSelectorText) {
+            return valueSelectorText != null ? SELECTORS_BY_RESTID.get(valueSelectorText) : null;
+        }
+    }
+
+    /**
+     * Converts the String representation of a value into a {@link State} of a given type.
+     */
+    private interface StateParser {
+        State parse(String s);
+    }
 
-            throw new IllegalArgumentException("Not valid value selector");
+    private static StateParser getStateParser(Class<? extends Type> typeClass) {
+        if (typeClass == OnOffType.class) {
+            return OnOffType::valueOf;
+        } else if (typeClass == DecimalType.class) {
+            return DecimalType::valueOf;
+        } else if (typeClass == PercentType.class) {
+            return PercentType::valueOf;
+        } else if (typeClass == StringType.class) {
+            return StringType::valueOf;
+        } else if (typeClass == OpenClosedType.class) {
+            return OpenClosedType::valueOf;
+        } else if (typeClass == DateTimeType.class) {
+            return DateTimeType::valueOf;
+        } else if (typeClass == PointType.class) {
+            return PointType::valueOf;
         }
+        return null;
     }
 
     public String latitude = "0";
@@ -19,6 +19,7 @@ import org.eclipse.smarthome.core.thing.ThingTypeUID;
 import org.eclipse.smarthome.core.thing.binding.BaseThingHandlerFactory;
 import org.eclipse.smarthome.core.thing.binding.ThingHandler;
 import org.openhab.binding.tesla.handler.TeslaHandler;
+import org.openhab.io.throttler.ThrottlerService;
 
 /**
  * The {@link TeslaHandlerFactory} is responsible for creating things and thing
@@ -30,6 +31,7 @@ import org.openhab.binding.tesla.handler.TeslaHandler;
 public class TeslaHandlerFactory extends BaseThingHandlerFactory {
 
     private StorageService storageService;
+    private ThrottlerService throttlerService;
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Collections.singleton(THING_TYPE_MODELS);
 
@@ -44,7 +46,7 @@ public class TeslaHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(THING_TYPE_MODELS)) {
-            return new TeslaHandler(thing, storageService);
+            return new TeslaHandler(thing, storageService, throttlerService);
         }
 
         return null;
@@ -57,4 +59,12 @@ public class TeslaHandlerFactory extends BaseThingHandlerFactory {
     public void unsetStorageService(StorageService storageService) {
         this.storageService = null;
     }
+
+    public void setThrottlerService(ThrottlerService throttlerService) {
+        this.throttlerService = throttlerService;
+    }
+
+    public void unsetThrottlerService(ThrottlerService throttlerService) {
+        this.throttlerService = null;
+    }
 }
@@ -10,8 +10,6 @@ package org.openhab.binding.yamahareceiver.handler;
 
 import java.io.IOException;
 import java.math.BigDecimal;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.eclipse.smarthome.core.library.types.DecimalType;
 import org.eclipse.smarthome.core.library.types.IncreaseDecreaseType;
@@ -27,6 +25,7 @@ import org.eclipse.smarthome.core.types.Command;
 import org.eclipse.smarthome.core.types.RefreshType;
 import org.openhab.binding.yamahareceiver.YamahaReceiverBindingConstants;
 import org.openhab.binding.yamahareceiver.discovery.ZoneDiscoveryService;
+import org.openhab.binding.yamahareceiver.internal.YamahaReceiverPoller;
 import org.openhab.binding.yamahareceiver.internal.YamahaReceiverState;
 import org.openhab.binding.yamahareceiver.internal.protocol.YamahaReceiverCommunication;
 import org.openhab.binding.yamahareceiver.internal.protocol.YamahaReceiverCommunication.Zone;
@@ -39,15 +38,14 @@ import org.slf4j.LoggerFactory;
  *
  * @author David Gräff - Initial contribution
  */
-public class YamahaReceiverHandler extends BaseThingHandler {
+public class YamahaReceiverHandler extends BaseThingHandler implements YamahaReceiverPoller.Listener {
 
     private Logger logger = LoggerFactory.getLogger(YamahaReceiverHandler.class);
     private String host;
     private int refrehInterval = 60; // Default: Every 1min
     private float relativeVolumeChangeFactor = 0.5f; // Default: 0.5 percent
-    private long lastRefreshInMS = 0;
     private YamahaReceiverState state = null;
-    private ScheduledFuture<?> refreshTimer;
+    private YamahaReceiverPoller poller;
     private ZoneDiscoveryService zoneDiscoveryService;
 
     public YamahaReceiverHandler(Thing thing) {
@@ -65,14 +63,17 @@ public class YamahaReceiverHandler extends BaseThingHandler {
         String host_config = (String) thing.getConfiguration().get(YamahaReceiverBindingConstants.CONFIG_HOST_NAME);
         if (host_config != null && !host_config.equals(host)) {
             host = host_config;
+            stopPolling();
             createCommunicationObject();
         }
 
         // Check if refresh configuration has changed
-        BigDecimal interval_config = (BigDecimal) thing.getConfiguration()
-                .get(YamahaReceiverBindingConstants.CONFIG_REFRESH);
-        if (interval_config != null && interval_config.intValue() != refrehInterval) {
-            setupRefreshTimer(interval_config.intValue());
+        int interval_config = getRefreshInterval();
+        if (interval_config != refrehInterval) {
+            refrehInterval = interval_config;
+            if (poller != null) {
+                poller.setRefreshInterval(state, refrehInterval);
+            }
         }
 
         // Read the configuration for the relative volume change factor.
@@ -100,6 +101,15 @@ public class YamahaReceiverHandler extends BaseThingHandler {
         createCommunicationObject();
     }
 
+    @Override
+    public void dispose() {
+        stopPolling();
+        if (zoneDiscoveryService != null) {
+            zoneDiscoveryService.stop();
+            zoneDiscoveryService = null;
+        }
+    }
+
     /**
      * We create a YamahaReceiverState that handles the current state (loudness, power, input etc)
      * and a communication object.
@@ -127,77 +137,74 @@ public class YamahaReceiverHandler extends BaseThingHandler {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
             return;
         }
-        updateReceiverState();
-        setupRefreshTimer(0);
+        refrehInterval = getRefreshInterval();
+        poller = YamahaReceiverPoller.register(state, this, refrehInterval);
 
         // If we are the main zone, detect other zones now.
         if (zone == Zone.Main_Zone) {
-            zoneDiscoveryService = new ZoneDiscoveryService();
-            zoneDiscoveryService.start(bundleContext);
+            if (zoneDiscoveryService == null) {
+                zoneDiscoveryService = new ZoneDiscoveryService();
+                zoneDiscoveryService.start(bundleContext);
+            }
             zoneDiscoveryService.detectZones(state, thing.getUID().getId());
         }
     }
 
-    /**
-     * Sets up a refresh timer (using the scheduler) with the CONFIG_REFRESH interval.
-     *
-     * @param initial_wait_time The delay before the first refresh. Maybe 0 to immediately
-     *            initiate a refresh.
-     */
-    private void setupRefreshTimer(int initial_wait_time) {
-        if (state == null) {
-            return;
+    private void stopPolling() {
+        if (poller != null) {
+            poller.unregister(state);
+            poller = null;
         }
+    }
 
+    /**
+     * Returns the CONFIG_REFRESH interval in seconds.
+     */
+    private int getRefreshInterval() {
         Object interval_config_o = thing.getConfiguration().get(YamahaReceiverBindingConstants.CONFIG_REFRESH);
-        Integer interval_config;
 
         if (interval_config_o == null) {
-            interval_config = refrehInterval;
-        } else {
-            interval_config = interval_config_o instanceof Integer ? (Integer) interval_config_o
-                    : ((BigDecimal) interval_config_o).intValue();
+            return refrehInterval;
         }
-
-        if (refreshTimer != null) {
-            refreshTimer.cancel(false);
-        }
-        refreshTimer = scheduler.scheduleAtFixedRate(new Runnable() {
-            @Override
-            public void run() {
-                updateReceiverState();
-            }
-        }, initial_wait_time, interval_config, TimeUnit.SECONDS);
-
-        refrehInterval = interval_config;
+        return interval_config_o instanceof Integer ? (Integer) interval_config_o
+                : ((BigDecimal) interval_config_o).intValue();
     }
 
     /**
-     * All channels of this thing will be updated after a response from the Yamaha device.
-     * If the device does not respond it be assumed to be offline.
-     * We cannot refresh just a single channel, but only all
-     * channels at a time. Because that is a costly operation, we only allow a refresh every
-     * 3 seconds.
+     * Called by the poller of the receiver, which requests the status of all zones periodically.
+     * Only the channels of the values, which have changed, are updated.
      */
-    private void updateReceiverState() {
-        if (lastRefreshInMS + 3000 > System.currentTimeMillis()) {
-            return;
-        }
-        lastRefreshInMS = System.currentTimeMillis();
-
-        try {
-            state.updateState();
-            updateStatus(ThingStatus.ONLINE);
+    @Override
+    public void stateChanged(YamahaReceiverState state, int changes) {
+        updateStatus(ThingStatus.ONLINE);
+        if ((changes & YamahaReceiverState.CHANGED_POWER) != 0) {
             updateState(YamahaReceiverBindingConstants.CHANNEL_POWER, state.isPower() ? OnOffType.ON : OnOffType.OFF);
+        }
+        if ((changes & YamahaReceiverState.CHANGED_INPUT) != 0) {
             updateState(YamahaReceiverBindingConstants.CHANNEL_INPUT, new StringType(state.getInput()));
+        }
+        if ((changes & YamahaReceiverState.CHANGED_SURROUND) != 0) {
             updateState(YamahaReceiverBindingConstants.CHANNEL_SURROUND, new StringType(state.getSurroundProgram()));
+        }
+        if ((changes & YamahaReceiverState.CHANGED_VOLUME) != 0) {
             updateState(YamahaReceiverBindingConstants.CHANNEL_VOLUME, new PercentType((int) state.getVolume()));
+        }
+        if ((changes & YamahaReceiverState.CHANGED_MUTE) != 0) {
             updateState(YamahaReceiverBindingConstants.CHANNEL_MUTE, state.isMute() ? OnOffType.ON : OnOffType.OFF);
+        }
+        if ((changes & YamahaReceiverState.CHANGED_NETRADIO) != 0) {
             updateState(YamahaReceiverBindingConstants.CHANNEL_NETRADIO_TUNE, new DecimalType(state.netRadioChannel));
-            logger.trace("State upddated!");
-        } catch (IOException e) {
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
         }
+        logger.trace("State upddated!");
+    }
+
+    /**
+     * Called by the poller of the receiver, if the device does not respond or has not returned a valid status of this
+     * zone. The zone is assumed to be offline until the next valid status is received.
+     */
+    @Override
+    public void communicationError(IOException e) {
+        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
     }
 
     @Override
@@ -210,10 +217,12 @@ public class YamahaReceiverHandler extends BaseThingHandler {
         String id = channelUID.getId();
 
         // The user want to refresh a value. We cannot refresh just a single channel, but only all
-        // channels at a time. Because that is a costly operation, we only allow a user requested refresh every
-        // 3 seconds.
+        // channels at a time. Because that is a costly operation, the poller only allows a user requested refresh
+        // every 3 seconds.
         if (command instanceof RefreshType) {
-            updateReceiverState();
+            if (poller != null) {
+                poller.refresh(state);
+            }
             return;
         }
 
@@ -250,6 +259,8 @@ public class YamahaReceiverHandler extends BaseThingHandler {
             }
         } catch (IOException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+            // Pass all values on the next successful poll
+            state.invalidate();
         }
     }
 }
@@ -0,0 +1,244 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.binding.yamahareceiver.internal;
+
+import java.io.IOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Polls the status of all zones of one receiver. There is one poller per host, which is shared by the thing
+ * handlers of all zones of the receiver. In every cycle the zones are requested one after another, so the receiver
+ * never has to answer concurrent requests, and only the values which have changed are passed to the listener of
+ * each zone.
+ *
+ * The poll interval is the smallest refresh interval of the registered zones.
+ *
+ * @author agent - Initial contribution
+ */
+public class YamahaReceiverPoller {
+    /**
+     * Receives the status of a zone.
+     */
+    public interface Listener {
+        /**
+         * Called after the status of the zone has been received, if any of its values has changed.
+         *
+         * @param state The state of the zone
+         * @param changes The YamahaReceiverState.CHANGED_* flags of the values, which have changed
+         */
+        void stateChanged(YamahaReceiverState state, int changes);
+
+        /**
+         * Called if the receiver could not be reached or has not returned a valid status of the zone.
+         */
+        void communicationError(IOException e);
+    }
+
+    // A user requested refresh is only done, if the last poll is older than that
+    private static final long MIN_REFRESH_DELAY_MS = 3000;
+
+    private static final Map<String, YamahaReceiverPoller> POLLERS = new HashMap<>();
+
+    private final Logger logger = LoggerFactory.getLogger(YamahaReceiverPoller.class);
+
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("thingHandler");
+
+    private final String host;
+
+    // Guarded by this
+    private final Map<YamahaReceiverState, Registration> registrations = new LinkedHashMap<>();
+    private ScheduledFuture<?> pollJob;
+    private int pollInterval;
+    private long lastPollTime;
+
+    // Serializes the polls
+    private final Object pollLock = new Object();
+
+    private final Runnable pollRunnable = new Runnable() {
+        @Override
+        public void run() {
+            poll();
+        }
+    };
+
+    private static class Registration {
+        private final YamahaReceiverState state;
+        private final Listener listener;
+        private final int refreshInterval;
+
+        private Registration(YamahaReceiverState state, Listener listener, int refreshInterval) {
+            this.state = state;
+            this.listener = listener;
+            this.refreshInterval = refreshInterval;
+        }
+    }
+
+    private YamahaReceiverPoller(String host) {
+        this.host = host;
+    }
+
+    /**
+     * Registers the state of a zone with the poller of its host. The status of the zone is requested immediately.
+     *
+     * @param state The state of the zone, which is updated by the poller
+     * @param listener Receives the changed values
+     * @param refreshInterval The refresh interval of the zone in seconds
+     * @return The poller
+     */
+    public static YamahaReceiverPoller register(YamahaReceiverState state, Listener listener, int refreshInterval) {
+        YamahaReceiverPoller poller;
+        synchronized (POLLERS) {
+            poller = POLLERS.get(state.getHost());
+            if (poller == null) {
+                poller = new YamahaReceiverPoller(state.getHost());
+                POLLERS.put(state.getHost(), poller);
+            }
+            poller.add(new Registration(state, listener, refreshInterval));
+        }
+        poller.scheduler.execute(poller.pollRunnable);
+        return poller;
+    }
+
+    /**
+     * Removes the state of a zone. The poller is stopped after the last zone has been removed.
+     */
+    public void unregister(YamahaReceiverState state) {
+        synchronized (POLLERS) {
+            synchronized (this) {
+                registrations.remove(state);
+                if (registrations.isEmpty()) {
+                    logger.debug("Stopping status polling of {}", host);
+                    if (pollJob != null) {
+                        pollJob.cancel(false);
+                        pollJob = null;
+                    }
+                    POLLERS.remove(host);
+                    return;
+                }
+                reschedule();
+            }
+        }
+    }
+
+    /**
+     * Changes the refresh interval of a zone.
+     */
+    public synchronized void setRefreshInterval(YamahaReceiverState state, int refreshInterval) {
+        Registration registration = registrations.get(state);
+        if (registration != null) {
+            registrations.put(state, new Registration(state, registration.listener, refreshInterval));
+            reschedule();
+        }
+    }
+
+    /**
+     * Requests the status of all zones, unless it has been requested within the last 3 seconds. All values of the
+     * given zone are passed to its listener, even if they have not changed.
+     */
+    public void refresh(YamahaReceiverState state) {
+        state.invalidate();
+        synchronized (this) {
+            if (lastPollTime + MIN_REFRESH_DELAY_MS > System.currentTimeMillis()) {
+                return;
+            }
+        }
+        scheduler.execute(pollRunnable);
+    }
+
+    private synchronized void add(Registration registration) {
+        registration.state.invalidate();
+        registrations.put(registration.state, registration);
+        reschedule();
+    }
+
+    private void reschedule() {
+        int interval = Integer.MAX_VALUE;
+        for (Registration registration : registrations.values()) {
+            interval = Math.min(interval, Math.max(1, registration.refreshInterval));
+        }
+        if (pollJob != null && interval == pollInterval) {
+            return;
+        }
+        if (pollJob != null) {
+            pollJob.cancel(false);
+        }
+        logger.debug("Polling status of {} every {} seconds", host, interval);
+        pollInterval = interval;
+        pollJob = scheduler.scheduleWithFixedDelay(pollRunnable, interval, interval, TimeUnit.SECONDS);
+    }
+
+    private void poll() {
+        synchronized (pollLock) {
+            List<Registration> currentRegistrations;
+            synchronized (this) {
+                currentRegistrations = new ArrayList<>(registrations.values());
+                lastPollTime = System.currentTimeMillis();
+            }
+
+            for (Registration registration : currentRegistrations) {
+                int changes;
+                try {
+                    changes = registration.state.updateState();
+                } catch (IOException e) {
+                    if (isUnreachable(e)) {
+                        // The receiver is not reachable, don't wait for the timeout of every zone
+                        logger.debug("Failed to get status of {}: {}", host, e.getMessage());
+                        for (Registration failedRegistration : currentRegistrations) {
+                            failedRegistration.state.invalidate();
+                            failedRegistration.listener.communicationError(e);
+                        }
+                        return;
+                    }
+                    // The receiver has answered, but not with a valid status of this zone
+                    logger.debug("Failed to get status of zone {} of {}: {}", registration.state.getZone(), host,
+                            e.getMessage());
+                    registration.state.invalidate();
+                    registration.listener.communicationError(e);
+                    continue;
+                }
+
+                if (changes != 0) {
+                    try {
+                        registration.listener.stateChanged(registration.state, changes);
+                    } catch (RuntimeException e) {
+                        logger.warn("Failed to update zone {} of {}", registration.state.getZone(), host, e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true, if the connection to the receiver could not be established or has timed out, false if the
+     * response could not be handled.
+     */
+    private static boolean isUnreachable(IOException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketException || cause instanceof SocketTimeoutException
+                    || cause instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
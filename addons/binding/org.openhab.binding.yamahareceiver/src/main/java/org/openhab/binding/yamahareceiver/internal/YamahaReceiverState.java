@@ -21,6 +21,16 @@ import org.openhab.binding.yamahareceiver.internal.protocol.YamahaReceiverCommun
  * @author David Gräff
  */
 public class YamahaReceiverState {
+    /**
+     * Flags for the values changed by {@link #updateState()}
+     */
+    public static final int CHANGED_POWER = 1;
+    public static final int CHANGED_INPUT = 2;
+    public static final int CHANGED_SURROUND = 4;
+    public static final int CHANGED_VOLUME = 8;
+    public static final int CHANGED_MUTE = 16;
+    public static final int CHANGED_NETRADIO = 32;
+    public static final int CHANGED_ALL = 63;
 
     public boolean power = false;
     public String input = "";
@@ -37,6 +47,9 @@ public class YamahaReceiverState {
     public String version = "";
     public List<Zone> additional_zones = new ArrayList<>();
 
+    // False if the values have not been received from the device yet, or may be outdated
+    private boolean valid = false;
+
     public YamahaReceiverState(YamahaReceiverCommunication com) {
         this.com = com;
     }
@@ -55,10 +68,59 @@ public class YamahaReceiverState {
     /**
      * Update power, input, surround, volume and mute information
      *
+     * @return the CHANGED_* flags of the values, which have changed. All flags are set on the first update and after
+     *         {@link #invalidate()}.
      * @throws IOException
      */
-    public void updateState() throws IOException {
-        com.updateState(this);
+    public int updateState() throws IOException {
+        return com.updateState(this);
+    }
+
+    /**
+     * Mark the values as outdated, so that the next update reports all values as changed.
+     */
+    public synchronized void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Assigns the values received from the device.
+     *
+     * @return the CHANGED_* flags of the values, which have changed
+     */
+    public synchronized int applyStatus(boolean power, String input, String surroundProgram, float volume,
+            boolean mute, int netRadioChannel) {
+        int changes = 0;
+        if (this.power != power) {
+            changes |= CHANGED_POWER;
+        }
+        if (!this.input.equals(input)) {
+            changes |= CHANGED_INPUT;
+        }
+        if (!this.surroundProgram.equals(surroundProgram)) {
+            changes |= CHANGED_SURROUND;
+        }
+        if (Float.compare(this.volume, volume) != 0) {
+            changes |= CHANGED_VOLUME;
+        }
+        if (this.mute != mute) {
+            changes |= CHANGED_MUTE;
+        }
+        if (this.netRadioChannel != netRadioChannel) {
+            changes |= CHANGED_NETRADIO;
+        }
+        if (!valid) {
+            changes = CHANGED_ALL;
+            valid = true;
+        }
+
+        this.power = power;
+        this.input = input;
+        this.surroundProgram = surroundProgram;
+        this.volume = volume;
+        this.mute = mute;
+        this.netRadioChannel = netRadioChannel;
+        return changes;
     }
 
     public Zone getZone() {
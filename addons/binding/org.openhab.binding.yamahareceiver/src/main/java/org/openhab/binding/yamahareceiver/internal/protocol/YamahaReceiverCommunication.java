@@ -19,6 +19,10 @@ import java.net.URL;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.openhab.binding.yamahareceiver.internal.YamahaReceiverState;
 import org.w3c.dom.Document;
@@ -56,6 +60,12 @@ public class YamahaReceiverCommunication {
     public static final int VOLUME_MAX = 12;
     public static final int VOLUME_RANGE = -VOLUME_MIN + VOLUME_MAX;
 
+    // Timeout for connecting to the receiver and for reading the response
+    private static final int TIMEOUT_MS = 5000;
+
+    // The status is parsed with a streaming parser. The factory is thread safe once configured.
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+
     // We need a lot of xml parsing. Create a document builder beforehand.
     private final DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
 
@@ -173,39 +183,125 @@ public class YamahaReceiverCommunication {
                         + lineNo + "</Preset_Sel></Preset></Play_Control></NET_RADIO></YAMAHA_AV>");
     }
 
-    public void updateState(YamahaReceiverState state) throws IOException {
-        Document doc = postAndGetXmlResponse("<?xml version=\"1.0\" encoding=\"utf-8\"?><YAMAHA_AV cmd=\"GET\"><" + zone
-                + "><Basic_Status>GetParam</Basic_Status></" + zone + "></YAMAHA_AV>");
-        Node basicStatus = getNode(doc.getFirstChild(), "" + zone + "/Basic_Status");
-
-        Node node;
-        String value;
-
-        node = getNode(basicStatus, "Power_Control/Power");
-        value = node != null ? node.getTextContent() : "";
-        state.power = "On".equalsIgnoreCase(value);
+    /**
+     * Requests the basic status of the zone and assigns it to the state. The response is parsed with a streaming
+     * parser, directly from the connection.
+     *
+     * @return the YamahaReceiverState.CHANGED_* flags of the values, which have changed
+     */
+    public int updateState(YamahaReceiverState state) throws IOException {
+        HttpURLConnection connection = post("<?xml version=\"1.0\" encoding=\"utf-8\"?><YAMAHA_AV cmd=\"GET\"><"
+                + zone + "><Basic_Status>GetParam</Basic_Status></" + zone + "></YAMAHA_AV>");
+
+        String basicStatusPath = "/YAMAHA_AV/" + zone + "/Basic_Status";
+        boolean foundBasicStatus = false;
+        String power = "";
+        String input = "";
+        String surroundProgram = "";
+        String volume = String.valueOf(VOLUME_MIN);
+        String mute = "";
+        String netRadioChannel = "0";
+
+        try (InputStream is = connection.getInputStream()) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(is);
+            try {
+                StringBuilder path = new StringBuilder();
+                StringBuilder text = new StringBuilder();
+                boolean leaf = false;
+                while (reader.hasNext()) {
+                    switch (reader.next()) {
+                        case XMLStreamConstants.START_ELEMENT:
+                            path.append('/').append(reader.getLocalName());
+                            text.setLength(0);
+                            leaf = true;
+                            break;
+                        case XMLStreamConstants.CHARACTERS:
+                            if (leaf) {
+                                text.append(reader.getText());
+                            }
+                            break;
+                        case XMLStreamConstants.END_ELEMENT:
+                            if (leaf && startsWithPath(path, basicStatusPath)) {
+                                String value = text.toString().trim();
+                                switch (path.substring(basicStatusPath.length())) {
+                                    case "/Power_Control/Power":
+                                        power = value;
+                                        break;
+                                    case "/Input/Input_Sel":
+                                        input = value;
+                                        break;
+                                    case "/Surround/Program_Sel/Current/Sound_Program":
+                                        surroundProgram = value;
+                                        break;
+                                    case "/Volume/Lvl/Val":
+                                        volume = value;
+                                        break;
+                                    case "/Volume/Mute":
+                                        mute = value;
+                                        break;
+                                    case "/Input/Input_Sel_Item_Info/Src_Number":
+                                        netRadioChannel = value;
+                                        break;
+                                }
+                            }
+                            if (path.length() == basicStatusPath.length()
+                                    && path.toString().equals(basicStatusPath)) {
+                                foundBasicStatus = true;
+                            }
+                            path.setLength(path.lastIndexOf("/"));
+                            leaf = false;
+                            break;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            connection.disconnect();
+            throw new IOException("Could not handle response", e);
+        } catch (IOException e) {
+            connection.disconnect();
+            throw new IOException("Could not handle http post", e);
+        }
 
-        node = getNode(basicStatus, "Input/Input_Sel");
-        value = node != null ? node.getTextContent() : "";
-        state.input = value;
+        if (!foundBasicStatus) {
+            throw new IOException("Could not handle response");
+        }
 
-        node = getNode(basicStatus, "Surround/Program_Sel/Current/Sound_Program");
-        value = node != null ? node.getTextContent() : "";
-        state.surroundProgram = value;
+        float volumeInPercent;
+        int netRadioChannelNumber;
+        try {
+            volumeInPercent = Float.parseFloat(volume) * .1f; // in DB
+            volumeInPercent = (volumeInPercent + -YamahaReceiverCommunication.VOLUME_MIN) * 100.0f
+                    / YamahaReceiverCommunication.VOLUME_RANGE; // in percent
+            netRadioChannelNumber = Integer.parseInt(netRadioChannel);
+        } catch (NumberFormatException e) {
+            throw new IOException("Could not handle response", e);
+        }
 
-        node = getNode(basicStatus, "Volume/Lvl/Val");
-        value = node != null ? node.getTextContent() : String.valueOf(VOLUME_MIN);
-        state.volume = Float.parseFloat(value) * .1f; // in DB
-        state.volume = (state.volume + -YamahaReceiverCommunication.VOLUME_MIN) * 100.0f
-                / YamahaReceiverCommunication.VOLUME_RANGE; // in percent
+        return state.applyStatus("On".equalsIgnoreCase(power), input, surroundProgram, volumeInPercent,
+                "On".equalsIgnoreCase(mute), netRadioChannelNumber);
+    }
 
-        node = getNode(basicStatus, "Volume/Mute");
-        value = node != null ? node.getTextContent() : "";
-        state.mute = "On".equalsIgnoreCase(value);
+    private static boolean startsWithPath(StringBuilder path, String prefix) {
+        int length = prefix.length();
+        if (path.length() <= length || path.charAt(length) != '/') {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (path.charAt(i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        node = getNode(basicStatus, "Input/Input_Sel_Item_Info/Src_Number");
-        value = node != null ? node.getTextContent() : "0";
-        state.netRadioChannel = Integer.parseInt(value);
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
     }
 
     public void updateInputsList(YamahaReceiverState state) throws IOException {
@@ -255,12 +351,39 @@ public class YamahaReceiverCommunication {
     }
 
     private String postAndGetResponse(String message) throws IOException {
+        HttpURLConnection connection = post(message);
+        try {
+            // Read response
+            InputStream is = connection.getInputStream();
+            BufferedReader rd = new BufferedReader(new InputStreamReader(is));
+            String line;
+            StringBuilder response = new StringBuilder();
+            while ((line = rd.readLine()) != null) {
+                response.append(line);
+                response.append('\r');
+            }
+            rd.close();
+            return response.toString();
+        } catch (Exception e) {
+            connection.disconnect();
+            throw new IOException("Could not handle http post", e);
+        }
+    }
+
+    /**
+     * Sends the message to the receiver. The caller reads the response from the returned connection. If the
+     * response is read completely and the stream is closed, the underlying connection is kept alive and reused for
+     * the next request.
+     */
+    private HttpURLConnection post(String message) throws IOException {
         HttpURLConnection connection = null;
         try {
             URL url = new URL("http://" + host + "/YamahaRemoteControl/ctrl");
             connection = (HttpURLConnection) url.openConnection();
             connection.setRequestMethod("POST");
             connection.setRequestProperty("Content-Length", "" + Integer.toString(message.length()));
+            connection.setConnectTimeout(TIMEOUT_MS);
+            connection.setReadTimeout(TIMEOUT_MS);
 
             connection.setUseCaches(false);
             connection.setDoInput(true);
@@ -271,24 +394,12 @@ public class YamahaReceiverCommunication {
             wr.writeBytes(message);
             wr.flush();
             wr.close();
-
-            // Read response
-            InputStream is = connection.getInputStream();
-            BufferedReader rd = new BufferedReader(new InputStreamReader(is));
-            String line;
-            StringBuilder response = new StringBuilder();
-            while ((line = rd.readLine()) != null) {
-                response.append(line);
-                response.append('\r');
-            }
-            rd.close();
-            return response.toString();
+            return connection;
         } catch (Exception e) {
-            throw new IOException("Could not handle http post", e);
-        } finally {
             if (connection != null) {
                 connection.disconnect();
             }
+            throw new IOException("Could not handle http post", e);
         }
     }
 }
@@ -52,6 +52,8 @@ public class ZoneMinderConstants {
     public static final String PARAM_PORT = "port";
     public static final String PARAM_REFRESH_INTERVAL_ = "refresh_interval";
     public static final String PARAM_REFRESH_INTERVAL_DISKUSAGE = "refresh_interval_disk_usage";
+    public static final String PARAM_EVENT_DRIVEN = "event_driven";
+    public static final String PARAM_REFRESH_INTERVAL_FALLBACK = "refresh_interval_fallback";
 
     // Default values for Monitor parameters
     public static final Integer DEFAULT_HTTP_PORT = 80;
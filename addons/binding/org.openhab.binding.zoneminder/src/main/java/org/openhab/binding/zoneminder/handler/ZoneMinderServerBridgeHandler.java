@@ -16,6 +16,7 @@ import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -72,6 +73,7 @@ import name.eskildsen.zoneminder.exception.ZoneMinderUrlNotFoundException;
 public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements ZoneMinderHandler {
 
     public static final int TELNET_TIMEOUT = 5000;
+    public static final int DEFAULT_REFRESH_INTERVAL_FALLBACK = 300;
 
     public static final Set<ThingTypeUID> SUPPORTED_THING_TYPES = Sets
             .newHashSet(ZoneMinderConstants.THING_TYPE_BRIDGE_ZONEMINDER_SERVER);
@@ -131,6 +133,10 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
     private ScheduledFuture<?> taskRefreshData = null;
     private ScheduledFuture<?> taskPriorityRefreshData = null;
 
+    /** Monitors which have an event triggered refresh waiting to be executed */
+    private final Set<String> pendingEventRefreshes = ConcurrentHashMap.newKeySet();
+    private long lastMonitorRefresh = 0;
+
     private Runnable refreshDataRunnable = new Runnable() {
         @Override
         public void run() {
@@ -175,9 +181,17 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
                         refreshCycleCount = 0;
                     }
 
-                    logger.debug("{}: 'refreshDataRunnable()': (diskUsage='{}')", getLogIdentifier(), fetchDiskUsage);
+                    // In event driven mode monitors are only polled to reconcile missed events
+                    boolean refreshMonitors = true;
+                    if (isEventDriven()) {
+                        refreshMonitors = (System.currentTimeMillis()
+                                - lastMonitorRefresh) >= getRefreshIntervalFallback() * 1000L;
+                    }
+
+                    logger.debug("{}: 'refreshDataRunnable()': (diskUsage='{}', monitors='{}')", getLogIdentifier(),
+                            fetchDiskUsage, refreshMonitors);
 
-                    refreshThing(zoneMinderSession, fetchDiskUsage);
+                    refreshThing(zoneMinderSession, fetchDiskUsage, refreshMonitors);
                 }
 
             } catch (Exception exception) {
@@ -389,6 +403,46 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
         return this.getConfigAs(ZoneMinderBridgeServerConfig.class);
     }
 
+    protected boolean isEventDriven() {
+        Boolean eventDriven = getBridgeConfig().getEventDriven();
+        return (eventDriven != null) && eventDriven;
+    }
+
+    protected int getRefreshIntervalFallback() {
+        Integer interval = getBridgeConfig().getRefreshIntervalFallback();
+        return ((interval == null) || (interval < 1)) ? DEFAULT_REFRESH_INTERVAL_FALLBACK : interval;
+    }
+
+    /**
+     * Called by a monitor handler when ZoneMinder has reported an event for the monitor. In event driven mode
+     * only the affected monitor is refreshed, and repeated events are collapsed while a refresh is pending.
+     * Otherwise the monitor is picked up by the priority refresh task.
+     */
+    public void onMonitorEvent(final ZoneMinderBaseThingHandler thingHandler) {
+        if (!isEventDriven() || !isConnected()) {
+            return;
+        }
+
+        final String zoneMinderId = thingHandler.getZoneMinderId();
+        if (!pendingEventRefreshes.add(zoneMinderId)) {
+            logger.debug("[MONITOR-{}]: Event refresh already pending", zoneMinderId);
+            return;
+        }
+
+        scheduler.execute(new Runnable() {
+            @Override
+            public void run() {
+                pendingEventRefreshes.remove(zoneMinderId);
+                try {
+                    thingHandler.refreshThing(zoneMinderSession, DataRefreshPriorityEnum.HIGH_PRIORITY);
+                } catch (Exception ex) {
+                    logger.error("[MONITOR-{}]: Event triggered refresh failed - Exception='{}'", zoneMinderId,
+                            ex.getMessage());
+                }
+            }
+        });
+    }
+
     /**
     *
     */
@@ -413,7 +467,8 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
         logger.debug("{}: Update '{}' with '{}'", getLogIdentifier(), channelUID.getAsString(), command.toString());
     }
 
-    protected synchronized void refreshThing(IZoneMinderSession session, boolean fetchDiskUsage) {
+    protected synchronized void refreshThing(IZoneMinderSession session, boolean fetchDiskUsage,
+            boolean refreshMonitors) {
 
         logger.debug("{}: 'refreshThing()': Thing='{}'!", getLogIdentifier(), this.getThing().getUID());
 
@@ -493,6 +548,11 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
             updateChannel(channel.getUID());
         }
 
+        if (!refreshMonitors) {
+            return;
+        }
+        lastMonitorRefresh = System.currentTimeMillis();
+
         /*
          * Request Things attached to Bridge to refresh
          */
@@ -1029,7 +1089,7 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
 
             // Perform first refresh manually (we want to force update of DiskUsage)
             boolean updateDiskUsage = (getBridgeConfig().getRefreshIntervalLowPriorityTask() > 0) ? true : false;
-            refreshThing(zoneMinderSession, updateDiskUsage);
+            refreshThing(zoneMinderSession, updateDiskUsage, true);
 
             if (getBridgeConfig().getRefreshIntervalLowPriorityTask() != 0) {
                 refreshFrequency = calculateCommonRefreshFrequency(getBridgeConfig().getRefreshInterval());
@@ -1051,8 +1111,12 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
                 taskPriorityRefreshData = null;
             }
 
-            // Only start if Priority Frequency is higher than ordinary
-            if (refreshFrequency > 1) {
+            // Only start if Priority Frequency is higher than ordinary. In event driven mode monitors are
+            // refreshed when ZoneMinder reports an event, so there is no need to poll them.
+            if (isEventDriven()) {
+                logger.info("BRIDGE [{}]: Event driven monitor updates enabled (reconciliation interval '{}')",
+                        getThingId(), getRefreshIntervalFallback());
+            } else if (refreshFrequency > 1) {
                 taskPriorityRefreshData = startTask(refreshPriorityDataRunnable, 0, 1, TimeUnit.SECONDS);
             }
         }
@@ -1081,6 +1145,7 @@ public class ZoneMinderServerBridgeHandler extends BaseBridgeHandler implements
             taskPriorityRefreshData = null;
             logger.debug("{}: Stopping Priority DataRefresh task", getLogIdentifier());
         }
+        pendingEventRefreshes.clear();
 
         // Make sure everything gets refreshed
         for (Channel ch : getThing().getChannels()) {
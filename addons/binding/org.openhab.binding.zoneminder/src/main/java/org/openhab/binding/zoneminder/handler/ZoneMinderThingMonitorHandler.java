@@ -343,6 +343,12 @@ public class ZoneMinderThingMonitorHandler extends ZoneMinderBaseThingHandler im
             } else {
                 curEvent = null;
             }
+
+            // Let the bridge refresh this monitor right away when running event driven
+            ZoneMinderServerBridgeHandler bridge = getZoneMinderBridgeHandler();
+            if (bridge != null) {
+                bridge.onMonitorEvent(this);
+            }
         } catch (Exception ex) {
             logger.error("{}: Exception occurred inTrippedForceAlarm() Exception='{}'", getLogIdentifier(),
                     ex.getMessage());
@@ -30,6 +30,8 @@ public class ZoneMinderBridgeServerConfig extends ZoneMinderConfig {
     private String password;
     private Integer refresh_interval;
     private Integer refresh_interval_disk_usage;
+    private Boolean event_driven;
+    private Integer refresh_interval_fallback;
     private Boolean autodiscover_things;
 
     @Override
@@ -116,6 +118,22 @@ public class ZoneMinderBridgeServerConfig extends ZoneMinderConfig {
         this.refresh_interval_disk_usage = refreshIntervalDiskUsage;
     }
 
+    public Boolean getEventDriven() {
+        return event_driven;
+    }
+
+    public void setEventDriven(Boolean eventDriven) {
+        this.event_driven = eventDriven;
+    }
+
+    public Integer getRefreshIntervalFallback() {
+        return refresh_interval_fallback;
+    }
+
+    public void setRefreshIntervalFallback(Integer refreshIntervalFallback) {
+        this.refresh_interval_fallback = refreshIntervalFallback;
+    }
+
     public Boolean getAutodiscoverThings() {
         return autodiscover_things;
     }
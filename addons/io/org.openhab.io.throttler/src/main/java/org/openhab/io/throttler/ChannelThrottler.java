@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.throttler;
+
+import java.util.concurrent.Future;
+
+/**
+ * The {@link ChannelThrottler} defines the interface for to submit tasks to a
+ * throttler
+ *
+ * @author Karel Goderis - Initial contribution
+ */
+public interface ChannelThrottler {
+
+    public static final int PRIORITY_LOW = 0;
+    public static final int PRIORITY_NORMAL = 5;
+    public static final int PRIORITY_HIGH = 10;
+
+    Future<?> submit(Runnable task);
+
+    Future<?> submit(Object channelKey, Runnable task);
+
+    /**
+     * Submits a task with a given priority. Throttlers that do not queue tasks ignore the priority.
+     *
+     * @param channelKey the key of the channel (endpoint) whose rate applies, may be null
+     * @param priority the priority, tasks with a higher value are executed first
+     * @param task the task to execute
+     * @return the future of the task, or null if it could not be accepted
+     */
+    default Future<?> submit(Object channelKey, int priority, Runnable task) {
+        return submit(channelKey, task);
+    }
+}
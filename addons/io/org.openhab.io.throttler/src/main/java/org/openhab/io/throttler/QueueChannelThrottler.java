@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.throttler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link QueueChannelThrottler} implements a throttler that maintains
+ * multiple execution rates, and maintains the order of calls. Every channel
+ * has its own queue: whenever the rates allow a call on a channel, the queued
+ * task of that channel with the highest priority is executed. Tasks of equal
+ * priority are executed in the order of submission.
+ *
+ * @author Karel Goderis - Initial contribution
+ */
+public final class QueueChannelThrottler extends AbstractMultiRateChannelThrottler {
+
+    private Logger logger = LoggerFactory.getLogger(QueueChannelThrottler.class);
+
+    private static final int MAX_QUEUE_LENGTH = 150;
+
+    // Queue key of the tasks submitted without a channel
+    private static final Object NO_CHANNEL = new Object();
+
+    private final Map<Object, PriorityBlockingQueue<PrioritizedTask>> tasks = new ConcurrentHashMap<>();
+    private final Semaphore queueCapacity;
+    private final Rate overallRate;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final AtomicLong submittedTasks = new AtomicLong();
+    private final AtomicLong rejectedTasks = new AtomicLong();
+    private final AtomicLong executedTasks = new AtomicLong();
+    private final AtomicLong totalQueueWaitTime = new AtomicLong();
+
+    public QueueChannelThrottler(Rate someRate) {
+        this(someRate, Executors.newScheduledThreadPool(1), new HashMap<Object, Rate>(), TimeProvider.SYSTEM_PROVIDER,
+                MAX_QUEUE_LENGTH);
+    }
+
+    public QueueChannelThrottler(Rate someRate, ScheduledExecutorService scheduler) {
+        this(someRate, scheduler, new HashMap<Object, Rate>(), TimeProvider.SYSTEM_PROVIDER, MAX_QUEUE_LENGTH);
+    }
+
+    public QueueChannelThrottler(Rate someRate, ScheduledExecutorService scheduler, Map<Object, Rate> channels) {
+        this(someRate, scheduler, channels, TimeProvider.SYSTEM_PROVIDER, MAX_QUEUE_LENGTH);
+    }
+
+    public QueueChannelThrottler(Rate someRate, Map<Object, Rate> channels, int queueLength) {
+        this(someRate, Executors.newScheduledThreadPool(1), channels, TimeProvider.SYSTEM_PROVIDER, queueLength);
+    }
+
+    public QueueChannelThrottler(Rate someRate, ScheduledExecutorService scheduler, Map<Object, Rate> channels,
+            TimeProvider timeProvider, int queueLength) {
+        super(someRate, scheduler, channels, timeProvider);
+        overallRate = someRate;
+        queueCapacity = new Semaphore(queueLength);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return submit(null, task);
+    }
+
+    @Override
+    public Future<?> submit(Object channelKey, Runnable task) {
+        return submit(channelKey, PRIORITY_NORMAL, task);
+    }
+
+    @Override
+    public Future<?> submit(Object channelKey, int priority, Runnable task) {
+        PrioritizedTask runTask = new PrioritizedTask(task, priority, sequence.getAndIncrement(),
+                timeProvider.getCurrentTimeInMillis());
+        try {
+            if (queueCapacity.tryAcquire(overallRate.timeInMillis(), TimeUnit.MILLISECONDS)) {
+                final PriorityBlockingQueue<PrioritizedTask> queue = getQueue(channelKey);
+                queue.offer(runTask);
+                submittedTasks.incrementAndGet();
+                long throttledTime = channelKey == null ? callTime(null) : callTime(channels.get(channelKey));
+                long now = timeProvider.getCurrentTimeInMillis();
+                // the call reserved on the rates of the channel is used by a task of the same channel only
+                scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        processQueue(queue);
+                    }
+                }, throttledTime < now ? 0 : throttledTime - now, TimeUnit.MILLISECONDS);
+                return runTask;
+            } else {
+                rejectedTasks.incrementAndGet();
+                logger.warn("The QueueThrottler can not take the task '{}' at this point in time", runTask.toString());
+            }
+        } catch (InterruptedException e) {
+            logger.error("An exception occurred while scheduling a new taks: '{}'", e.getMessage());
+        }
+
+        return null;
+    }
+
+    private PriorityBlockingQueue<PrioritizedTask> getQueue(Object channelKey) {
+        Object key = channelKey == null ? NO_CHANNEL : channelKey;
+        PriorityBlockingQueue<PrioritizedTask> queue = tasks.get(key);
+        if (queue == null) {
+            synchronized (tasks) {
+                queue = tasks.get(key);
+                if (queue == null) {
+                    queue = new PriorityBlockingQueue<PrioritizedTask>();
+                    tasks.put(key, queue);
+                }
+            }
+        }
+        return queue;
+    }
+
+    private void processQueue(PriorityBlockingQueue<PrioritizedTask> queue) {
+        PrioritizedTask task = queue.poll();
+        if (task != null) {
+            queueCapacity.release();
+            if (!task.isCancelled()) {
+                executedTasks.incrementAndGet();
+                totalQueueWaitTime.addAndGet(timeProvider.getCurrentTimeInMillis() - task.submitTime);
+                task.run();
+            }
+        }
+    }
+
+    private int getQueueSize() {
+        int size = 0;
+        for (PriorityBlockingQueue<PrioritizedTask> queue : tasks.values()) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        long executed = executedTasks.get();
+        return "QueueChannelThrottler [queued=" + getQueueSize() + ", submitted=" + submittedTasks.get()
+                + ", executed=" + executed + ", rejected=" + rejectedTasks.get() + ", averageQueueWaitTime="
+                + (executed == 0 ? 0 : totalQueueWaitTime.get() / executed) + "ms]";
+    }
+
+    private static class PrioritizedTask extends FutureTask<Object> implements Comparable<PrioritizedTask> {
+
+        private final int priority;
+        private final long sequenceNumber;
+        private final long submitTime;
+
+        PrioritizedTask(Runnable task, int priority, long sequenceNumber, long submitTime) {
+            super(task, null);
+            this.priority = priority;
+            this.sequenceNumber = sequenceNumber;
+            this.submitTime = submitTime;
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            if (priority != other.priority) {
+                return priority > other.priority ? -1 : 1;
+            }
+            return Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.throttler;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * The {@link ThrottlerNames} creates the names of shared throttlers. Throttlers are usually shared per account or API
+ * key, which must not show up in the logs, so only a hash of the account is part of the name.
+ *
+ * @author agent - Initial contribution
+ */
+public final class ThrottlerNames {
+
+    private ThrottlerNames() {
+    }
+
+    /**
+     * Returns the name of the throttler of an account.
+     *
+     * @param bindingId the id of the binding
+     * @param account the account, e.g. the username or API key
+     * @return the binding id combined with a hash of the account
+     */
+    public static String forAccount(String bindingId, String account) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(account.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(bindingId).append(':');
+            for (int i = 0; i < 8; i++) {
+                sb.append(String.format("%02x", hash[i]));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
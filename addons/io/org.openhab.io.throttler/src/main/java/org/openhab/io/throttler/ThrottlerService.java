@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.throttler;
+
+import java.util.Map;
+
+/**
+ * The {@link ThrottlerService} hands out named {@link QueueChannelThrottler}s, so that all things talking to the same
+ * cloud account or API share one request budget.
+ *
+ * @author agent - Initial contribution
+ */
+public interface ThrottlerService {
+
+    /**
+     * Returns the throttler with the given name, creating it if it does not exist yet. The rates and channels are only
+     * used when the throttler is created. Every call must be balanced by a call to {@link #releaseThrottler(String)}.
+     *
+     * @param name the name of the throttler, e.g. the binding id combined with the account
+     * @param channels the rates per channel (endpoint) key
+     * @param rates the overall rates, at least one must be given
+     * @return the throttler
+     */
+    QueueChannelThrottler acquireThrottler(String name, Map<Object, Rate> channels, Rate... rates);
+
+    /**
+     * Releases a throttler acquired by {@link #acquireThrottler(String, Map, Rate...)}. The throttler is removed once
+     * it is no longer used.
+     *
+     * @param name the name of the throttler
+     */
+    void releaseThrottler(String name);
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.io.throttler.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.smarthome.core.common.ThreadPoolManager;
+import org.openhab.io.throttler.QueueChannelThrottler;
+import org.openhab.io.throttler.Rate;
+import org.openhab.io.throttler.ThrottlerService;
+import org.openhab.io.throttler.TimeProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ThrottlerServiceImpl} keeps track of the shared throttlers and runs them on a common scheduled thread
+ * pool.
+ *
+ * @author agent - Initial contribution
+ */
+public class ThrottlerServiceImpl implements ThrottlerService {
+
+    private static final String THREAD_POOL_NAME = "throttler";
+    private static final int MAX_QUEUE_LENGTH = 150;
+
+    private final Logger logger = LoggerFactory.getLogger(ThrottlerServiceImpl.class);
+
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME);
+    private final Map<String, QueueChannelThrottler> throttlers = new HashMap<>();
+    private final Map<String, Integer> usages = new HashMap<>();
+
+    @Override
+    public synchronized QueueChannelThrottler acquireThrottler(String name, Map<Object, Rate> channels,
+            Rate... rates) {
+        if (rates.length == 0) {
+            throw new IllegalArgumentException("At least one rate is required");
+        }
+        QueueChannelThrottler throttler = throttlers.get(name);
+        if (throttler == null) {
+            throttler = new QueueChannelThrottler(rates[0], scheduler, channels, TimeProvider.SYSTEM_PROVIDER,
+                    MAX_QUEUE_LENGTH);
+            for (int i = 1; i < rates.length; i++) {
+                throttler.addRate(rates[i]);
+            }
+            throttlers.put(name, throttler);
+            logger.debug("Created throttler '{}'", name);
+        }
+        Integer usage = usages.get(name);
+        usages.put(name, usage == null ? 1 : usage + 1);
+        return throttler;
+    }
+
+    @Override
+    public synchronized void releaseThrottler(String name) {
+        Integer usage = usages.get(name);
+        if (usage == null) {
+            return;
+        }
+        if (usage > 1) {
+            usages.put(name, usage - 1);
+        } else {
+            usages.remove(name);
+            QueueChannelThrottler throttler = throttlers.remove(name);
+            logger.debug("Removed throttler '{}': {}", name, throttler);
+        }
+    }
+
+    protected synchronized void deactivate() {
+        for (Map.Entry<String, QueueChannelThrottler> entry : throttlers.entrySet()) {
+            logger.debug("Discarding throttler '{}': {}", entry.getKey(), entry.getValue());
+        }
+        throttlers.clear();
+        usages.clear();
+    }
+}
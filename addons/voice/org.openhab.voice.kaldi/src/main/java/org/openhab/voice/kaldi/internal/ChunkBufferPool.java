@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.voice.kaldi.internal;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A pool of the buffers used to send audio chunks, so that recognitions reuse the buffers of previous recognitions
+ * instead of allocating new ones. The buffers are pooled by size, as the chunk size depends on the audio format.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+class ChunkBufferPool {
+
+    /**
+     * Maximum number of buffers kept per size
+     */
+    private static final int MAX_BUFFERS_PER_SIZE = 8;
+
+    private final Map<Integer, Queue<byte[]>> buffers = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a buffer of the passed size, its content is undefined
+     *
+     * @param size The size of the buffer
+     * @return A buffer of the passed size
+     */
+    byte[] acquire(int size) {
+        Queue<byte[]> queue = buffers.get(size);
+        byte[] buffer = queue != null ? queue.poll() : null;
+        return buffer != null ? buffer : new byte[size];
+    }
+
+    /**
+     * Returns a buffer to the pool, it must not be used by the caller afterwards
+     *
+     * @param buffer The buffer
+     */
+    void release(byte[] buffer) {
+        Queue<byte[]> queue = buffers.computeIfAbsent(buffer.length, size -> new ConcurrentLinkedQueue<byte[]>());
+        // The size of the queue is not exact under concurrent releases, which does not matter here
+        if (queue.size() < MAX_BUFFERS_PER_SIZE) {
+            queue.offer(buffer);
+        }
+    }
+}
@@ -12,7 +12,13 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
@@ -20,6 +26,8 @@ import org.eclipse.smarthome.core.voice.STTException;
 import org.eclipse.smarthome.core.voice.STTListener;
 import org.eclipse.smarthome.core.voice.STTService;
 import org.eclipse.smarthome.core.voice.STTServiceHandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import ee.ioc.phon.netspeechapi.duplex.WsDuplexRecognitionSession;
 
@@ -32,9 +40,41 @@ import ee.ioc.phon.netspeechapi.duplex.WsDuplexRecognitionSession;
 public class KaldiSTTService implements STTService {
 
     /**
-     * WebSocket URL to the head node of the Kaldi server cluster
+     * Default WebSocket URL to the head node of the Kaldi server cluster
      */
-    private static final String kaldiWebSocketURL = "ws://52.37.26.79:8888/client/ws/speech";
+    private static final String DEFAULT_KALDI_WEBSOCKET_URL = "ws://52.37.26.79:8888/client/ws/speech";
+
+    /**
+     * Default number of recognitions running at the same time
+     */
+    private static final int DEFAULT_MAX_CONCURRENT = 2;
+
+    // Configuration from ConfigAdmin
+    private static final String CONFIG_URL = "url";
+    private static final String CONFIG_MAX_CONCURRENT = "maxConcurrent";
+    private static final String CONFIG_REAL_TIME = "realTime";
+
+    private final Logger logger = LoggerFactory.getLogger(KaldiSTTService.class);
+
+    /**
+     * WebSocket URL to the head node of the Kaldi server cluster, e.g. a local Kaldi gstreamer server
+     */
+    private volatile String kaldiWebSocketURL = DEFAULT_KALDI_WEBSOCKET_URL;
+
+    /**
+     * Boolean indicating if the audio is sent at the rate it is spoken
+     */
+    private volatile boolean realTime = true;
+
+    /**
+     * Executor running the recognitions, further recognitions wait until one has ended
+     */
+    private final ThreadPoolExecutor executor = createExecutor(DEFAULT_MAX_CONCURRENT);
+
+    /**
+     * Pool of the buffers for the audio chunks
+     */
+    private final ChunkBufferPool bufferPool = new ChunkBufferPool();
 
     /**
      * Set of supported locales
@@ -46,6 +86,48 @@ public class KaldiSTTService implements STTService {
      */
     private final HashSet<AudioFormat> audioFormats = initAudioFormats();
 
+    protected void activate(Map<String, Object> config) {
+        modified(config);
+    }
+
+    protected void modified(Map<String, Object> config) {
+        if (config == null) {
+            return;
+        }
+        Object url = config.get(CONFIG_URL);
+        kaldiWebSocketURL = (url != null && !url.toString().trim().isEmpty()) ? url.toString().trim()
+                : DEFAULT_KALDI_WEBSOCKET_URL;
+
+        Object realTime = config.get(CONFIG_REAL_TIME);
+        this.realTime = realTime == null || Boolean.parseBoolean(realTime.toString());
+
+        int maxConcurrent = DEFAULT_MAX_CONCURRENT;
+        Object value = config.get(CONFIG_MAX_CONCURRENT);
+        if (value != null) {
+            try {
+                maxConcurrent = Math.max(1, Integer.parseInt(value.toString()));
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid value '{}' for {}, using {}", value, CONFIG_MAX_CONCURRENT,
+                        DEFAULT_MAX_CONCURRENT);
+            }
+        }
+        synchronized (executor) {
+            if (maxConcurrent > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(maxConcurrent);
+                executor.setCorePoolSize(maxConcurrent);
+            } else {
+                executor.setCorePoolSize(maxConcurrent);
+                executor.setMaximumPoolSize(maxConcurrent);
+            }
+        }
+        logger.debug("Using Kaldi server {} with at most {} concurrent recognitions", kaldiWebSocketURL,
+                maxConcurrent);
+    }
+
+    protected void deactivate() {
+        executor.shutdownNow();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -108,14 +190,28 @@ public class KaldiSTTService implements STTService {
 
         // Start recognition
         STTServiceKaldiRunnable sttServiceKaldiRunnable = new STTServiceKaldiRunnable(recognitionSession, sttListener,
-                audioStream);
-        Thread thread = new Thread(sttServiceKaldiRunnable);
-        thread.start();
+                audioStream, bufferPool, realTime);
+        executor.execute(sttServiceKaldiRunnable);
 
         // Return STTServiceHandleKaldi
         return new STTServiceHandleKaldi(sttServiceKaldiRunnable);
     }
 
+    private static ThreadPoolExecutor createExecutor(int maxConcurrent) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "ESH-kaldi-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
      * Initializes this.locales
      *
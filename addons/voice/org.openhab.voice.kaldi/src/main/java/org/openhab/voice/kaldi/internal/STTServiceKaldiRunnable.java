@@ -29,6 +29,16 @@ import ee.ioc.phon.netspeechapi.duplex.WsDuplexRecognitionSession;
  */
 public class STTServiceKaldiRunnable implements Runnable, RecognitionEventListener {
 
+    /**
+     * Number of chunks per second of audio, 4 <= chunkRate [See: http://bit.ly/1V4Ktw2]
+     */
+    private static final int CHUNK_RATE = 4;
+
+    /**
+     * The last chunk sent, if the audio ends exactly at a chunk boundary
+     */
+    private static final byte[] EMPTY_CHUNK = new byte[0];
+
     /**
      * Boolean indicating if the server closed the connection
      */
@@ -54,20 +64,35 @@ public class STTServiceKaldiRunnable implements Runnable, RecognitionEventListen
      */
     private final WsDuplexRecognitionSession recognitionSession;
 
+    /**
+     * The pool providing the chunk buffer
+     */
+    private final ChunkBufferPool bufferPool;
+
+    /**
+     * Boolean indicating if chunks are sent at the rate the audio is spoken, otherwise they are sent as fast as
+     * possible
+     */
+    private final boolean realTime;
+
     /**
      * Constructs an instance targeting the passed WsDuplexRecognitionSession
      *
      * @param recognitionSession The WsDuplexRecognitionSession sesion
      * @param sttListener The STTListener targeted for STTEvents
      * @param audioStream The AudioSource data
+     * @param bufferPool The pool providing the chunk buffer
+     * @param realTime Boolean indicating if the chunks are sent at the rate the audio is spoken
      */
     public STTServiceKaldiRunnable(WsDuplexRecognitionSession recognitionSession, STTListener sttListener,
-            AudioStream audioStream) {
+            AudioStream audioStream, ChunkBufferPool bufferPool, boolean realTime) {
         this.isClosed = false;
         this.isAborting = false;
         this.audioStream = audioStream;
         this.sttListener = sttListener;
         this.recognitionSession = recognitionSession;
+        this.bufferPool = bufferPool;
+        this.realTime = realTime;
 
         this.recognitionSession.addRecognitionEventListener(this);
     }
@@ -77,40 +102,47 @@ public class STTServiceKaldiRunnable implements Runnable, RecognitionEventListen
      */
     @Override
     public void run() {
+        if (this.isAborting) {
+            // aborted while waiting for execution
+            return;
+        }
+        byte buffer[] = null;
         try {
             this.recognitionSession.connect();
             AudioFormat audioFormat = this.audioStream.getFormat();
             int bitRate = audioFormat.getBitRate().intValue();
             int byteRate = (bitRate / 8);
-            int chunkRate = 4; // 4 <= chunkRate [See: http://bit.ly/1V4Ktw2]
-            byte buffer[] = new byte[byteRate / chunkRate];
+            int chunkSize = byteRate / CHUNK_RATE;
+            long chunkNanos = 1000000000L / CHUNK_RATE;
+            // The buffer is reused for all chunks, the session copies the data when sending
+            buffer = bufferPool.acquire(chunkSize);
 
             sttListener.sttEventReceived(new RecognitionStartEvent());
 
             boolean sentLastChunk = false;
+            long nextChunkTime = System.nanoTime();
             while (!this.isAborting && !this.isClosed) {
-                long millisWithinChunkSecond = System.currentTimeMillis() % (1000 / chunkRate);
-                int size = audioStream.read(buffer);
-                if (size < 0) {
-                    sentLastChunk = true;
-                    byte buffer2[] = new byte[0];
-                    this.recognitionSession.sendChunk(buffer2, true);
-                    break;
-                }
-                if (size == (byteRate / chunkRate)) {
+                int size = readChunk(buffer);
+                if (size == chunkSize) {
                     this.recognitionSession.sendChunk(buffer, false);
                 } else {
+                    // The audio has ended
                     sentLastChunk = true;
-                    byte buffer2[] = Arrays.copyOf(buffer, size);
-                    this.recognitionSession.sendChunk(buffer2, true);
+                    this.recognitionSession.sendChunk(size > 0 ? Arrays.copyOf(buffer, size) : EMPTY_CHUNK, true);
                     break;
                 }
-                Thread.sleep(1000 / chunkRate - millisWithinChunkSecond);
+                if (realTime) {
+                    // Pace the chunks relative to the start, so that delays do not add up
+                    nextChunkTime += chunkNanos;
+                    long sleepNanos = nextChunkTime - System.nanoTime();
+                    if (sleepNanos > 0) {
+                        Thread.sleep(sleepNanos / 1000000L, (int) (sleepNanos % 1000000L));
+                    }
+                }
             }
 
             if (this.isAborting && !this.isClosed && !sentLastChunk) {
-                byte buffer2[] = new byte[0];
-                this.recognitionSession.sendChunk(buffer2, true);
+                this.recognitionSession.sendChunk(EMPTY_CHUNK, true);
             }
         } catch (IOException e) {
             sttListener.sttEventReceived(new SpeechRecognitionErrorEvent("Unable to send audio data to the server"));
@@ -134,7 +166,30 @@ public class STTServiceKaldiRunnable implements Runnable, RecognitionEventListen
             // This temporary, but working, solution is to catch a RuntimeException
             // here and assume that it results from sendChunk() being called on a
             // closed session then proceede as if onClose() was called.
+        } finally {
+            if (buffer != null) {
+                bufferPool.release(buffer);
+            }
+        }
+    }
+
+    /**
+     * Reads audio data until the buffer is full or the audio has ended. A single read may return less data, while
+     * more data is still available.
+     *
+     * @param buffer The buffer to fill
+     * @return The number of bytes read, less than the buffer size only if the audio has ended
+     */
+    private int readChunk(byte[] buffer) throws IOException {
+        int size = 0;
+        while (size < buffer.length) {
+            int read = audioStream.read(buffer, size, buffer.length - size);
+            if (read < 0) {
+                break;
+            }
+            size += read;
         }
+        return size;
     }
 
     /**
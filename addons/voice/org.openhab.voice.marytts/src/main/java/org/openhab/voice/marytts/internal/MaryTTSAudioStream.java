@@ -50,10 +50,22 @@ class MaryTTSAudioStream extends FixedLengthAudioStream {
      * @throws IOException
      */
     public MaryTTSAudioStream(AudioInputStream inputStream, AudioFormat audioFormat) throws IOException {
-        rawAudio = IOUtils.toByteArray(inputStream);
+        this(IOUtils.toByteArray(inputStream), audioFormat);
+    }
+
+    /**
+     * Constructs an instance with the passed properties
+     *
+     * @param rawAudio The raw audio data of this instance, it is not copied and must not be changed
+     * @param audioFormat The AudioFormat of this instance
+     * @throws IOException
+     */
+    public MaryTTSAudioStream(byte[] rawAudio, AudioFormat audioFormat) throws IOException {
+        this.rawAudio = rawAudio;
         this.length = rawAudio.length + 36;
-        this.inputStream = new SequenceInputStream(getWavHeaderInputStream(length), new ByteArrayInputStream(rawAudio));
+        // The format has to be set first, as the WAVE header contains its sample rate
         this.audioFormat = audioFormat;
+        this.inputStream = new SequenceInputStream(getWavHeaderInputStream(length), new ByteArrayInputStream(rawAudio));
     }
 
     @Override
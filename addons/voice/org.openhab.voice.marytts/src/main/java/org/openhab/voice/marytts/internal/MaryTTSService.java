@@ -16,13 +16,21 @@ package org.openhab.voice.marytts.internal;
  */
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 
+import org.apache.commons.io.IOUtils;
 import org.eclipse.smarthome.core.audio.AudioFormat;
 import org.eclipse.smarthome.core.audio.AudioStream;
 import org.eclipse.smarthome.core.voice.TTSException;
@@ -44,10 +52,41 @@ import marytts.modules.synthesis.Voice;
  */
 public class MaryTTSService implements TTSService {
 
+    // Configuration from ConfigAdmin
+    private static final String CONFIG_POOL_SIZE = "poolSize";
+    private static final String CONFIG_CACHE_SIZE = "cacheSize";
+    private static final int DEFAULT_POOL_SIZE = 2;
+    private static final int DEFAULT_CACHE_SIZE = 16;
+
     private final Logger logger = LoggerFactory.getLogger(MaryTTSService.class);
 
     private MaryInterface marytts;
 
+    /**
+     * Number of MaryInterface instances per voice, which may synthesize at the same time
+     */
+    private int poolSize = DEFAULT_POOL_SIZE;
+
+    /**
+     * Pools of MaryInterface instances by voice label. Each instance is configured for its voice once, so that
+     * several texts can be synthesized at the same time.
+     */
+    private volatile Map<String, BlockingQueue<MaryInterface>> pools = new HashMap<>();
+
+    /**
+     * Maximum size of {@link #cache} in MB
+     */
+    private int cacheSize = DEFAULT_CACHE_SIZE;
+
+    /**
+     * Recently synthesized audio by voice and text in least recently used order, guarded by itself
+     */
+    private final LinkedHashMap<String, byte[]> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long cacheUsage;
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
     /**
      * Set of supported voices
      */
@@ -58,16 +97,52 @@ public class MaryTTSService implements TTSService {
      */
     private HashSet<AudioFormat> audioFormats;
 
-    protected void activate() {
+    protected void activate(Map<String, Object> config) {
         try {
+            readConfig(config);
             marytts = getMaryInterface();
             voices = initVoices();
             audioFormats = initAudioFormats();
+            pools = initPools();
         } catch (Throwable t) {
             logger.error("Failed to initialize MaryTTS: {}", t.getMessage(), t);
         }
     }
 
+    protected void modified(Map<String, Object> config) {
+        int oldPoolSize = poolSize;
+        readConfig(config);
+        if (marytts != null && poolSize != oldPoolSize) {
+            try {
+                pools = initPools();
+            } catch (Throwable t) {
+                logger.error("Failed to initialize MaryTTS: {}", t.getMessage(), t);
+            }
+        }
+        synchronized (cache) {
+            evictCache();
+        }
+    }
+
+    private void readConfig(Map<String, Object> config) {
+        if (config != null) {
+            poolSize = Math.max(1, getIntConfig(config, CONFIG_POOL_SIZE, DEFAULT_POOL_SIZE));
+            cacheSize = Math.max(0, getIntConfig(config, CONFIG_CACHE_SIZE, DEFAULT_CACHE_SIZE));
+        }
+    }
+
+    private int getIntConfig(Map<String, Object> config, String key, int defaultValue) {
+        Object value = config.get(key);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.toString());
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid value '{}' for {}, using {}", value, key, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
     @Override
     public Set<org.eclipse.smarthome.core.voice.Voice> getAvailableVoices() {
         return this.voices;
@@ -122,24 +197,100 @@ public class MaryTTSService implements TTSService {
         Voice maryTTSVoice = Voice.getVoice(voice.getLabel());
         AudioFormat maryTTSVoiceAudioFormat = getAudioFormat(maryTTSVoice.dbAudioFormat());
 
-        // Synchronize on marytts
-        synchronized (marytts) {
-            // AudioStream to return
-            AudioStream audioStream = null;
+        String cacheKey = voice.getUID() + "\n" + text;
+        byte[] rawAudio;
+        synchronized (cache) {
+            rawAudio = cache.get(cacheKey);
+        }
+        if (rawAudio != null) {
+            cacheHits.incrementAndGet();
+        } else {
+            cacheMisses.incrementAndGet();
+            rawAudio = generateAudio(text, voice.getLabel());
+            addToCache(cacheKey, rawAudio);
+        }
+        logger.debug("Audio cache hits: {}, misses: {}", cacheHits, cacheMisses);
 
-            // Set voice (Each voice supports onl a single AudioFormat)
-            marytts.setLocale(voice.getLocale());
-            marytts.setVoice(voice.getLabel());
+        try {
+            return new MaryTTSAudioStream(rawAudio, maryTTSVoiceAudioFormat);
+        } catch (IOException e) {
+            throw new TTSException("Error generating an AudioStream", e);
+        }
+    }
 
-            try {
-                AudioInputStream audioInputStream = marytts.generateAudio(text);
-                audioStream = new MaryTTSAudioStream(audioInputStream, maryTTSVoiceAudioFormat);
-            } catch (SynthesisException | IOException e) {
-                throw new TTSException("Error generating an AudioStream", e);
+    /**
+     * Synthesizes the text with a MaryInterface of the pool of the voice. If all instances of the pool are in use, it
+     * waits until one is returned.
+     *
+     * @return the raw audio data
+     */
+    private byte[] generateAudio(String text, String voiceLabel) throws TTSException {
+        BlockingQueue<MaryInterface> pool = pools.get(voiceLabel);
+        if (pool == null) {
+            throw new TTSException("The passed voice is unsupported");
+        }
+
+        MaryInterface maryInterface;
+        try {
+            maryInterface = pool.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TTSException("Interrupted while waiting for a free MaryTTS instance", e);
+        }
+
+        try (AudioInputStream audioInputStream = maryInterface.generateAudio(text)) {
+            return IOUtils.toByteArray(audioInputStream);
+        } catch (SynthesisException | IOException e) {
+            throw new TTSException("Error generating an AudioStream", e);
+        } finally {
+            pool.offer(maryInterface);
+        }
+    }
+
+    private void addToCache(String cacheKey, byte[] rawAudio) {
+        synchronized (cache) {
+            byte[] previous = cache.put(cacheKey, rawAudio);
+            if (previous != null) {
+                cacheUsage -= previous.length;
             }
+            cacheUsage += rawAudio.length;
+            evictCache();
+        }
+    }
+
+    /**
+     * Removes the least recently used audio from the cache, until it fits into its size, must be called while
+     * holding the lock of the cache
+     */
+    private void evictCache() {
+        long maxCacheUsage = cacheSize * 1024L * 1024L;
+        Iterator<byte[]> iterator = cache.values().iterator();
+        while (cacheUsage > maxCacheUsage && iterator.hasNext()) {
+            cacheUsage -= iterator.next().length;
+            iterator.remove();
+        }
+    }
 
-            return audioStream;
+    /**
+     * Creates {@link #poolSize} MaryInterface instances for each voice, each set up with the locale and voice once.
+     *
+     * @return The pools by voice label
+     */
+    private Map<String, BlockingQueue<MaryInterface>> initPools() {
+        Map<String, BlockingQueue<MaryInterface>> pools = new HashMap<>();
+        for (org.eclipse.smarthome.core.voice.Voice voice : voices) {
+            BlockingQueue<MaryInterface> pool = new ArrayBlockingQueue<>(poolSize);
+            for (int i = 0; i < poolSize; i++) {
+                MaryInterface maryInterface = getMaryInterface();
+                // Set voice (Each voice supports onl a single AudioFormat)
+                maryInterface.setLocale(voice.getLocale());
+                maryInterface.setVoice(voice.getLabel());
+                pool.add(maryInterface);
+            }
+            pools.put(voice.getLabel(), pool);
         }
+        logger.debug("Created {} MaryTTS instances for each of {} voices", poolSize, pools.size());
+        return pools;
     }
 
     /**
@@ -41,6 +41,17 @@ public class VoiceRSSTTSService implements TTSService {
     private static final String CONFIG_API_KEY = "apiKey";
     private String apiKey = null;
 
+    // Limits of the cache, they come from ConfigAdmin as well
+    private static final String CONFIG_CACHE_MAX_SIZE = "cacheMaxSize";
+    private static final String CONFIG_CACHE_MAX_ENTRIES = "cacheMaxEntries";
+    private static final String CONFIG_CACHE_MEMORY_SIZE = "cacheMemorySize";
+    private static final long DEFAULT_CACHE_MAX_SIZE = 100;
+    private static final int DEFAULT_CACHE_MAX_ENTRIES = 5000;
+    private static final long DEFAULT_CACHE_MEMORY_SIZE = 4;
+    private long cacheMaxSize = DEFAULT_CACHE_MAX_SIZE;
+    private int cacheMaxEntries = DEFAULT_CACHE_MAX_ENTRIES;
+    private long cacheMemorySize = DEFAULT_CACHE_MEMORY_SIZE;
+
     private final Logger logger = LoggerFactory.getLogger(VoiceRSSTTSService.class);
 
     /**
@@ -77,9 +88,32 @@ public class VoiceRSSTTSService implements TTSService {
     protected void modified(Map<String, Object> config) {
         if (config != null) {
             this.apiKey = config.containsKey(CONFIG_API_KEY) ? config.get(CONFIG_API_KEY).toString() : null;
+            this.cacheMaxSize = getLongConfig(config, CONFIG_CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE);
+            this.cacheMaxEntries = (int) getLongConfig(config, CONFIG_CACHE_MAX_ENTRIES, DEFAULT_CACHE_MAX_ENTRIES);
+            this.cacheMemorySize = getLongConfig(config, CONFIG_CACHE_MEMORY_SIZE, DEFAULT_CACHE_MEMORY_SIZE);
+            if (voiceRssImpl != null) {
+                voiceRssImpl.setCacheLimits(cacheMaxSize * 1024 * 1024, cacheMaxEntries,
+                        cacheMemorySize * 1024 * 1024);
+            }
         }
     }
 
+    private long getLongConfig(Map<String, Object> config, String key, long defaultValue) {
+        Object value = config.get(key);
+        if (value != null) {
+            try {
+                long longValue = Long.parseLong(value.toString());
+                if (longValue >= 0) {
+                    return longValue;
+                }
+            } catch (NumberFormatException e) {
+                // fall through to the default value
+            }
+            logger.warn("Invalid value '{}' for {}, using {}", value, key, defaultValue);
+        }
+        return defaultValue;
+    }
+
     @Override
     public Set<Voice> getAvailableVoices() {
         return this.voices;
@@ -120,8 +154,13 @@ public class VoiceRSSTTSService implements TTSService {
         // now create the input stream for given text, locale, format. There is
         // only a default voice
         try {
-            File cacheAudioFile = voiceRssImpl.getTextToSpeechAsFile(this.apiKey, text,
-                    voice.getLocale().toLanguageTag(), getApiAudioFormat(requestedFormat));
+            String locale = voice.getLocale().toLanguageTag();
+            String apiAudioFormat = getApiAudioFormat(requestedFormat);
+            byte[] audio = voiceRssImpl.getTextToSpeechFromMemory(text, locale, apiAudioFormat);
+            if (audio != null) {
+                return new VoiceRSSMemoryAudioStream(audio, requestedFormat);
+            }
+            File cacheAudioFile = voiceRssImpl.getTextToSpeechAsFile(this.apiKey, text, locale, apiAudioFormat);
             if (cacheAudioFile == null) {
                 throw new TTSException("Could not read from VoiceRSS service");
             }
@@ -205,7 +244,8 @@ public class VoiceRSSTTSService implements TTSService {
     }
 
     private final CachedVoiceRSSCloudImplementation initVoiceImplementation() {
-        CachedVoiceRSSCloudImplementation apiImpl = new CachedVoiceRSSCloudImplementation(getCacheFolderName());
+        CachedVoiceRSSCloudImplementation apiImpl = new CachedVoiceRSSCloudImplementation(getCacheFolderName(),
+                cacheMaxSize * 1024 * 1024, cacheMaxEntries, cacheMemorySize * 1024 * 1024);
         return apiImpl;
     }
 
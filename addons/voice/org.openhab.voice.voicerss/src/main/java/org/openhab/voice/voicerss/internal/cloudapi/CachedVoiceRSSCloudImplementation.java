@@ -9,11 +9,8 @@
 package org.openhab.voice.voicerss.internal.cloudapi;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.math.BigInteger;
 import java.security.MessageDigest;
@@ -25,7 +22,8 @@ import org.slf4j.LoggerFactory;
 /**
  * This class implements a cache for the retrieved audio data. It will preserve
  * them in file system, as audio files with an additional .txt file to indicate
- * what content is in the audio file.
+ * what content is in the audio file. The size of the cache is limited, see
+ * {@link TTSCache}.
  *
  * @author Jochen Hiller - Initial contribution
  */
@@ -33,44 +31,70 @@ public class CachedVoiceRSSCloudImplementation extends VoiceRSSCloudImplementati
 
     private final Logger logger = LoggerFactory.getLogger(CachedVoiceRSSCloudImplementation.class);
 
-    private final File cacheFolder;
+    private final TTSCache cache;
 
+    /**
+     * Creates a cache without limits, e.g. to fill it in advance.
+     */
     public CachedVoiceRSSCloudImplementation(String cacheFolderName) {
+        this(cacheFolderName, Long.MAX_VALUE, Integer.MAX_VALUE, 0);
+    }
+
+    /**
+     * @param cacheFolderName the folder of the cache
+     * @param maxSize the maximum total size of the audio files in bytes
+     * @param maxEntries the maximum number of audio files
+     * @param maxMemorySize the maximum total size in bytes of the audio kept in memory
+     */
+    public CachedVoiceRSSCloudImplementation(String cacheFolderName, long maxSize, int maxEntries,
+            long maxMemorySize) {
         if (cacheFolderName == null) {
             throw new RuntimeException("Folder for cache must be defined");
         }
         // Lazy create the cache folder
-        cacheFolder = new File(cacheFolderName);
+        File cacheFolder = new File(cacheFolderName);
         if (!cacheFolder.exists()) {
             cacheFolder.mkdirs();
         }
+        cache = new TTSCache(cacheFolder, maxSize, maxEntries, maxMemorySize);
     }
 
-    public File getTextToSpeechAsFile(String apiKey, String text, String locale, String audioFormat)
-            throws IOException {
+    /**
+     * Changes the limits of the cache, files exceeding the new limits are deleted.
+     */
+    public void setCacheLimits(long maxSize, int maxEntries, long maxMemorySize) {
+        cache.setLimits(maxSize, maxEntries, maxMemorySize);
+    }
+
+    /**
+     * Returns the audio data, if it is played frequently and therefore kept in memory.
+     *
+     * @return the audio data or null, if it is not kept in memory
+     */
+    public byte[] getTextToSpeechFromMemory(String text, String locale, String audioFormat) {
         String fileNameInCache = getUniqeFilenameForText(text, locale);
-        // check if in cache
-        File audioFileInCache = new File(cacheFolder, fileNameInCache + "." + audioFormat.toLowerCase());
-        if (audioFileInCache.exists()) {
-            return audioFileInCache;
+        if (fileNameInCache == null) {
+            return null;
         }
+        return cache.getFromMemory(fileNameInCache + "." + audioFormat.toLowerCase());
+    }
 
+    public File getTextToSpeechAsFile(final String apiKey, final String text, final String locale,
+            final String audioFormat) throws IOException {
+        String fileNameInCache = getUniqeFilenameForText(text, locale);
         // if not in cache, get audio data and put to cache
-        try (InputStream is = super.getTextToSpeech(apiKey, text, locale, audioFormat);
-                FileOutputStream fos = new FileOutputStream(audioFileInCache);) {
-            copyStream(is, fos);
-            // write text to file for transparency too
-            // this allows to know which contents is in which audio file
-            File txtFileInCache = new File(cacheFolder, fileNameInCache + ".txt");
-            writeText(txtFileInCache, text);
-            // return from cache
-            return audioFileInCache;
-        } catch (FileNotFoundException ex) {
-            logger.warn("Could not write {} to cache, return null", audioFileInCache, ex);
-            return null;
+        try {
+            return cache.get(fileNameInCache + "." + audioFormat.toLowerCase(), text, new TTSCache.Loader() {
+                @Override
+                public InputStream load() throws IOException {
+                    return getTextToSpeech(apiKey, text, locale, audioFormat);
+                }
+            });
         } catch (IOException ex) {
-            logger.error("Could not write {} to cache, return null", audioFileInCache, ex);
+            logger.error("Could not write {} to cache, return null", fileNameInCache, ex);
             return null;
+        } finally {
+            logger.debug("Cache statistics: {}", cache);
         }
     }
 
@@ -104,27 +128,4 @@ public class CachedVoiceRSSCloudImplementation extends VoiceRSSCloudImplementati
             return null;
         }
     }
-
-    // helper methods
-
-    private void copyStream(InputStream inputStream, OutputStream outputStream) throws IOException {
-        byte[] bytes = new byte[4096];
-        int read = inputStream.read(bytes, 0, 4096);
-        while (read > 0) {
-            outputStream.write(bytes, 0, read);
-            read = inputStream.read(bytes, 0, 4096);
-        }
-    }
-
-    private void writeText(File file, String text) throws IOException {
-        OutputStream outputStream = null;
-        try {
-            outputStream = new FileOutputStream(file);
-            outputStream.write(text.getBytes("UTF-8"));
-        } finally {
-            if (outputStream != null) {
-                outputStream.close();
-            }
-        }
-    }
 }
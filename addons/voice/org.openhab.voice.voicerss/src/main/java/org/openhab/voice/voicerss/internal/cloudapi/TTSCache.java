@@ -0,0 +1,381 @@
+/**
+ * Copyright (c) 2010-2017 by the respective copyright holders.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.openhab.voice.voicerss.internal.cloudapi;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class manages the audio files in the cache folder.
+ * <ul>
+ * <li>The number of files and their total size are limited, the least recently used files are deleted first.</li>
+ * <li>Audio, which is played repeatedly, is additionally kept in memory, up to a limited total size.</li>
+ * <li>If the same audio is requested concurrently, while it is not in the cache, it is retrieved only once.</li>
+ * <li>Files are written to a temporary file first and then renamed, so that an incomplete file is never used.</li>
+ * </ul>
+ *
+ * @author agent - Initial contribution
+ */
+class TTSCache {
+
+    /**
+     * Retrieves the audio data, which is not in the cache yet
+     */
+    interface Loader {
+        InputStream load() throws IOException;
+    }
+
+    private static final String TEXT_EXTENSION = ".txt";
+    private static final String TEMP_EXTENSION = ".tmp";
+
+    /**
+     * Number of hits, after which the audio of a file is kept in memory
+     */
+    private static final int MEMORY_MIN_HITS = 2;
+
+    private final Logger logger = LoggerFactory.getLogger(TTSCache.class);
+
+    private final File cacheFolder;
+
+    private long maxSize;
+    private int maxEntries;
+    private long maxMemorySize;
+
+    /**
+     * The files of the cache in least recently used order, guarded by this
+     */
+    private final LinkedHashMap<String, Entry> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    /**
+     * The audio kept in memory in least recently used order, guarded by this
+     */
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memorySize;
+
+    private final ConcurrentMap<String, CompletableFuture<File>> pendingLoads = new ConcurrentHashMap<>();
+
+    // Statistics, logged with the cache at debug level. Coalesced requests waited for the retrieval of the same
+    // audio by another request.
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong fileHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    private static class Entry {
+        private final File file;
+        private final long size;
+        private int hits;
+
+        private Entry(File file) {
+            this.file = file;
+            this.size = file.length();
+        }
+    }
+
+    TTSCache(File cacheFolder, long maxSize, int maxEntries, long maxMemorySize) {
+        this.cacheFolder = cacheFolder;
+        this.maxSize = maxSize;
+        this.maxEntries = maxEntries;
+        this.maxMemorySize = maxMemorySize;
+        loadIndex();
+    }
+
+    /**
+     * Reads the files, which are already in the cache folder. Their modification time tells the order of last use.
+     */
+    private synchronized void loadIndex() {
+        File[] existingFiles = cacheFolder.listFiles();
+        if (existingFiles == null) {
+            return;
+        }
+        Arrays.sort(existingFiles, new Comparator<File>() {
+            @Override
+            public int compare(File file1, File file2) {
+                return Long.compare(file1.lastModified(), file2.lastModified());
+            }
+        });
+        for (File file : existingFiles) {
+            String name = file.getName();
+            if (name.endsWith(TEMP_EXTENSION)) {
+                // left over from an interrupted write
+                file.delete();
+            } else if (file.isFile() && !name.endsWith(TEXT_EXTENSION)) {
+                Entry entry = new Entry(file);
+                files.put(name, entry);
+                size += entry.size;
+            }
+        }
+        logger.debug("Found {} audio files with {} bytes in cache", files.size(), size);
+        evict();
+    }
+
+    synchronized void setLimits(long maxSize, int maxEntries, long maxMemorySize) {
+        this.maxSize = maxSize;
+        this.maxEntries = maxEntries;
+        this.maxMemorySize = maxMemorySize;
+        evict();
+    }
+
+    /**
+     * Returns the audio from memory.
+     *
+     * @param fileName the name of the audio file in the cache
+     * @return the audio data or null, if the audio is not kept in memory
+     */
+    byte[] getFromMemory(String fileName) {
+        byte[] audio;
+        synchronized (this) {
+            audio = memory.get(fileName);
+            if (audio != null) {
+                // keep the file in use as well
+                files.get(fileName);
+            }
+        }
+        if (audio != null) {
+            memoryHits.incrementAndGet();
+        }
+        return audio;
+    }
+
+    /**
+     * Returns the audio file from the cache. If it is not in the cache, it is retrieved by the loader and added to the
+     * cache.
+     *
+     * @param fileName the name of the audio file in the cache
+     * @param text the text of the audio, it is written to a file beside the audio for transparency
+     * @param loader retrieves the audio data, if it is not in the cache
+     * @return the audio file
+     * @throws IOException if the audio can not be retrieved or written
+     */
+    File get(String fileName, String text, Loader loader) throws IOException {
+        File file = getFromFiles(fileName);
+        if (file != null) {
+            return file;
+        }
+
+        CompletableFuture<File> load = new CompletableFuture<>();
+        CompletableFuture<File> pendingLoad = pendingLoads.putIfAbsent(fileName, load);
+        if (pendingLoad != null) {
+            // The same audio is already retrieved by another thread
+            logger.debug("Waiting for pending retrieval of {}", fileName);
+            coalesced.incrementAndGet();
+            return await(pendingLoad);
+        }
+
+        try {
+            // The audio may have been added since the first lookup
+            file = getFromFiles(fileName);
+            if (file == null) {
+                misses.incrementAndGet();
+                file = write(fileName, text, loader);
+                add(fileName, file);
+            }
+            load.complete(file);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingLoads.remove(fileName);
+        }
+    }
+
+    private File getFromFiles(String fileName) {
+        Entry entry;
+        boolean keepInMemory;
+        synchronized (this) {
+            entry = files.get(fileName);
+            if (entry == null) {
+                return null;
+            }
+            if (!entry.file.exists()) {
+                // deleted from outside
+                removeEntry(fileName);
+                return null;
+            }
+            entry.hits++;
+            keepInMemory = entry.hits >= MEMORY_MIN_HITS && !memory.containsKey(fileName)
+                    && entry.size <= maxMemorySize / 4;
+        }
+        fileHits.incrementAndGet();
+        entry.file.setLastModified(System.currentTimeMillis());
+
+        if (keepInMemory) {
+            try {
+                byte[] audio = Files.readAllBytes(entry.file.toPath());
+                addToMemory(fileName, audio);
+            } catch (IOException e) {
+                logger.debug("Could not read {} into memory", entry.file, e);
+            }
+        }
+        return entry.file;
+    }
+
+    private File write(String fileName, String text, Loader loader) throws IOException {
+        File file = new File(cacheFolder, fileName);
+        File tempFile = new File(cacheFolder, fileName + TEMP_EXTENSION);
+        try (InputStream is = loader.load(); OutputStream os = new FileOutputStream(tempFile)) {
+            copyStream(is, os);
+        } catch (IOException e) {
+            tempFile.delete();
+            throw e;
+        }
+
+        // write text to file for transparency too
+        // this allows to know which contents is in which audio file
+        File textFile = new File(cacheFolder, getBaseName(fileName) + TEXT_EXTENSION);
+        try (OutputStream os = new FileOutputStream(textFile)) {
+            os.write(text.getBytes("UTF-8"));
+        }
+
+        try {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        return file;
+    }
+
+    private synchronized void add(String fileName, File file) {
+        Entry entry = new Entry(file);
+        Entry previous = files.put(fileName, entry);
+        if (previous != null) {
+            size -= previous.size;
+        }
+        size += entry.size;
+        evict();
+    }
+
+    private synchronized void addToMemory(String fileName, byte[] audio) {
+        if (!files.containsKey(fileName) || memory.containsKey(fileName)) {
+            return;
+        }
+        memory.put(fileName, audio);
+        memorySize += audio.length;
+        Iterator<Map.Entry<String, byte[]>> iterator = memory.entrySet().iterator();
+        while (memorySize > maxMemorySize && iterator.hasNext()) {
+            memorySize -= iterator.next().getValue().length;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Deletes the least recently used files, until the cache is within its limits. The most recently used file is
+     * always kept, as it may just be played.
+     */
+    private void evict() {
+        Set<String> baseNames = new HashSet<>();
+        Iterator<Map.Entry<String, Entry>> iterator = files.entrySet().iterator();
+        while ((files.size() > maxEntries || size > maxSize) && files.size() > 1) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            iterator.remove();
+            removeFiles(eldest.getKey(), eldest.getValue());
+            baseNames.add(getBaseName(eldest.getKey()));
+        }
+        removeTextFiles(baseNames);
+        Iterator<Map.Entry<String, byte[]>> memoryIterator = memory.entrySet().iterator();
+        while (memorySize > maxMemorySize && memoryIterator.hasNext()) {
+            memorySize -= memoryIterator.next().getValue().length;
+            memoryIterator.remove();
+        }
+    }
+
+    private void removeEntry(String fileName) {
+        Entry entry = files.remove(fileName);
+        if (entry != null) {
+            removeFiles(fileName, entry);
+            Set<String> baseNames = new HashSet<>();
+            baseNames.add(getBaseName(fileName));
+            removeTextFiles(baseNames);
+        }
+    }
+
+    private void removeFiles(String fileName, Entry entry) {
+        logger.debug("Removing {} from cache", fileName);
+        size -= entry.size;
+        byte[] audio = memory.remove(fileName);
+        if (audio != null) {
+            memorySize -= audio.length;
+        }
+        entry.file.delete();
+    }
+
+    /**
+     * Deletes the text files of the removed audio files. A text file is shared by the audio files of all formats, so
+     * it is kept as long as one of them is still in the cache.
+     */
+    private void removeTextFiles(Set<String> baseNames) {
+        if (baseNames.isEmpty()) {
+            return;
+        }
+        for (String fileName : files.keySet()) {
+            baseNames.remove(getBaseName(fileName));
+        }
+        for (String baseName : baseNames) {
+            new File(cacheFolder, baseName + TEXT_EXTENSION).delete();
+        }
+    }
+
+    private File await(CompletableFuture<File> load) throws IOException {
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the audio", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private String getBaseName(String fileName) {
+        int index = fileName.lastIndexOf('.');
+        return index > 0 ? fileName.substring(0, index) : fileName;
+    }
+
+    private void copyStream(InputStream inputStream, OutputStream outputStream) throws IOException {
+        byte[] bytes = new byte[4096];
+        int read = inputStream.read(bytes, 0, 4096);
+        while (read > 0) {
+            outputStream.write(bytes, 0, read);
+            read = inputStream.read(bytes, 0, 4096);
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "TTSCache [files=" + files.size() + ", size=" + size + ", memoryEntries=" + memory.size()
+                + ", memorySize=" + memorySize + ", memoryHits=" + memoryHits + ", fileHits=" + fileHits + ", misses="
+                + misses + ", coalesced=" + coalesced + "]";
+    }
+}